@@ -6,28 +6,26 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.fernanda.finpro.components.ItemType;
+import com.fernanda.finpro.ecs.SpriteSystem;
+import com.fernanda.finpro.ecs.SpriteTable;
 import com.fernanda.finpro.entities.Boss;
-import com.fernanda.finpro.entities.GroundItem;
 import com.fernanda.finpro.entities.Monster;
 import com.fernanda.finpro.entities.Player;
-import com.fernanda.finpro.managers.CollisionManager;
-import com.fernanda.finpro.managers.SpawnManager;
-import com.fernanda.finpro.objects.Campfire;
-import com.fernanda.finpro.pool.GroundItemPool;
+import com.fernanda.finpro.managers.SimulationClock;
 import com.fernanda.finpro.singleton.GameAssetManager;
 import com.fernanda.finpro.ui.GameHud;
 import com.fernanda.finpro.ui.InventoryUI;
@@ -35,12 +33,22 @@ import com.fernanda.finpro.ui.CookingMenu;
 import com.fernanda.finpro.ui.LeaderboardUI;
 import com.fernanda.finpro.ui.TutorialPopup;
 import com.fernanda.finpro.ui.LoginUI;
+import com.fernanda.finpro.events.EventTelemetry;
+import com.fernanda.finpro.managers.AudioSubscriber;
+import com.fernanda.finpro.managers.MainThreadQueue;
+import com.fernanda.finpro.managers.PersistenceSubscriber;
 import com.fernanda.finpro.managers.NetworkManager;
 import com.fernanda.finpro.enums.WorldType;
+import com.fernanda.finpro.world.GameWorld;
+import com.fernanda.finpro.world.MonsterStore;
+import com.fernanda.finpro.input.InputLog;
+import com.fernanda.finpro.input.InputRecorder;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -54,15 +62,14 @@ public class Main extends ApplicationAdapter {
     CookingMenu cookingMenu;
     LeaderboardUI leaderboardUI;
     LoginUI loginUI;
-    TiledMap map;
     OrthogonalTiledMapRenderer mapRenderer;
-    List<Monster> monsters;
-    List<GroundItem> groundItems;
+    GameWorld world;
     List<Renderable> renderQueue;
+    private final MonsterStore renderStore = new MonsterStore();
+    private final SpriteSystem sprites = new SpriteSystem();
+    // Texture per id SpriteTable, di-resolve saat pertama digambar
+    private Texture[] spriteTextures = new Texture[0];
 
-    GroundItemPool groundItemPool;
-
-    Campfire campfire;
     TutorialPopup tutorialPopup;
 
     private boolean isInventoryOpen = false;
@@ -72,20 +79,51 @@ public class Main extends ApplicationAdapter {
     private static final float VIEWPORT_WIDTH = 800f;
     private static final float VIEWPORT_HEIGHT = 450f;
 
+    // Laju simulasi tetap (terpisah dari refresh rate monitor)
+    private static final float SIMULATION_TICK_RATE = 60f;
+    private static final int MAX_SUBSTEPS_PER_FRAME = 5;
+
+    // Budget main thread untuk callback network (MainThreadQueue) per frame
+    private static final long MAIN_THREAD_TASK_BUDGET_NANOS = 2_000_000L;
+
+    // Fast-forward (F6): skala waktu yang dilewati berurutan
+    private static final float[] TIME_SCALES = { 1f, 2f, 4f, 8f, 16f };
+
     ShapeRenderer worldRenderer;
     ShapeRenderer debugRenderer;
     boolean debugMode = false;
     BitmapFont font;
 
-    private SpawnManager spawnManager;
-    private CollisionManager collisionManager;
-    private Vector2 playerSpawnPoint = new Vector2(100, 100);
+    private SimulationClock simulationClock;
+
+    // Consumer EventBus world, drain sekali per frame setelah simulasi
+    private PersistenceSubscriber persistence;
+    private AudioSubscriber audio;
+    private EventTelemetry telemetry;
     private boolean isGameOver = false;
-    private WorldType currentWorld = WorldType.FOREST;
     private float gameOverTimer = 0f;
     private static final float GAME_OVER_FADE_DURATION = 1.5f;
     private com.badlogic.gdx.audio.Music currentMusic;
 
+    // Rekaman input (null = tidak merekam). Dimulai di tick pertama setelah login.
+    private final String recordPath;
+    private boolean recordingStarted = false;
+
+    private final float initialTimeScale;
+
+    public Main() {
+        this(null);
+    }
+
+    public Main(String recordPath) {
+        this(recordPath, 1f);
+    }
+
+    public Main(String recordPath, float timeScale) {
+        this.recordPath = recordPath;
+        this.initialTimeScale = timeScale;
+    }
+
     @Override
     public void create() {
         batch = new SpriteBatch();
@@ -99,27 +137,16 @@ public class Main extends ApplicationAdapter {
         GameAssetManager.getInstance().loadMusic();
         GameAssetManager.getInstance().loadSounds();
 
-        map = GameAssetManager.getInstance().getMap();
-        mapRenderer = new OrthogonalTiledMapRenderer(map, 1.0f);
-
-        MapLayer layer = map.getLayers().get("spawn_player");
-        if (layer instanceof TiledMapTileLayer) {
-            TiledMapTileLayer spawnLayer = (TiledMapTileLayer) layer;
-            boolean found = false;
-            for (int x = 0; x < spawnLayer.getWidth(); x++) {
-                for (int y = 0; y < spawnLayer.getHeight(); y++) {
-                    TiledMapTileLayer.Cell cell = spawnLayer.getCell(x, y);
-                    if (cell != null) {
-                        playerSpawnPoint.set(x * 16, y * 16);
-                        found = true;
-                        break;
-                    }
-                }
-                if (found) break;
-            }
-        }
+        // Seed baru tiap sesi; dicetak supaya run yang aneh bisa diulang
+        long seed = TimeUtils.millis();
+        System.out.println("World seed: " + seed);
+        world = new GameWorld(seed);
+        player = world.getPlayer();
+        persistence = new PersistenceSubscriber(world.getEvents(), player);
+        audio = new AudioSubscriber(world.getEvents());
+        telemetry = new EventTelemetry(world.getEvents());
+        mapRenderer = new OrthogonalTiledMapRenderer(world.getMap(), 1.0f);
 
-        player = new Player(playerSpawnPoint.x, playerSpawnPoint.y);
         camera = new OrthographicCamera();
         viewport = new FitViewport(VIEWPORT_WIDTH, VIEWPORT_HEIGHT, camera);
         gameHud = new GameHud();
@@ -141,7 +168,7 @@ public class Main extends ApplicationAdapter {
                 }
                 // Set MiniBoss defeated state
                 NetworkManager.getInstance().setMiniBossDefeated(miniBossDefeated);
-                spawnManager.setMiniBossDefeated(miniBossDefeated);
+                world.getSpawnManager().setMiniBossDefeated(miniBossDefeated);
                 
                 // Set Boss Killed state
                 player.bossKilled = bossKilled;
@@ -154,34 +181,50 @@ public class Main extends ApplicationAdapter {
         gameHud.onHealthChanged(player.stats.getCurrentHealth(), player.stats.maxHealth);
         gameHud.onStaminaChanged(player.stats.getCurrentStamina(), player.stats.maxStamina);
 
-        monsters = new ArrayList<>();
-        groundItems = new ArrayList<>();
         renderQueue = new ArrayList<>();
 
-        groundItemPool = new GroundItemPool(50, 200);
-        System.out.println("✅ GroundItemPool initialized");
-
-        Vector2 campfirePos = new Vector2(playerSpawnPoint.x + 64, playerSpawnPoint.y);
-        MapLayer campfireLayer = map.getLayers().get("campfire");
-        if (campfireLayer instanceof TiledMapTileLayer) {
-            TiledMapTileLayer cfLayer = (TiledMapTileLayer) campfireLayer;
-            boolean found = false;
-            for (int x = 0; x < cfLayer.getWidth(); x++) {
-                for (int y = 0; y < cfLayer.getHeight(); y++) {
-                    if (cfLayer.getCell(x, y) != null) {
-                        campfirePos.set(x * 16, y * 16);
-                        found = true;
-                        break;
-                    }
+        world.setListener(new GameWorld.Listener() {
+            @Override
+            public void onWorldChanged(WorldType newWorld, TiledMap newMap) {
+                mapRenderer.setMap(newMap);
+                camera.zoom = newWorld == WorldType.INFERNO ? 2.6f : 1.0f;
+                // Region aktif mengikuti area yang terlihat kamera (ActivationManager meniru clamp kamera di bawah)
+                world.getActivationManager().setViewHalfExtents(
+                    VIEWPORT_WIDTH / 2 * camera.zoom, VIEWPORT_HEIGHT / 2 * camera.zoom);
+                gameHud.setBoss(world.getBoss());
+                playMusic(newWorld);
+            }
+
+            @Override
+            public void onBossKilled() {
+                submitBossKill();
+            }
+
+            @Override
+            public void onGameOver() {
+                isGameOver = true;
+                gameOverTimer = 0f;
+            }
+
+            @Override
+            public void onRestarted() {
+                if (world.getCurrentWorld() == WorldType.INFERNO) {
+                    camera.position.set(584, 584, 0);
+                } else {
+                    float targetX = player.position.x + (player.getWidth() / 2);
+                    float targetY = player.position.y + (player.getHeight() / 2);
+                    camera.position.set(targetX, targetY, 0);
                 }
-                if (found) break;
+
+                isGameOver = false;
+                isInventoryOpen = false;
+                gamePaused = false;
             }
-        }
-        campfire = new Campfire(campfirePos.x, campfirePos.y);
+        });
 
         tutorialPopup = new TutorialPopup();
-        spawnManager = new SpawnManager(monsters);
-        collisionManager = new CollisionManager(player, monsters);
+        simulationClock = new SimulationClock(SIMULATION_TICK_RATE, MAX_SUBSTEPS_PER_FRAME);
+        simulationClock.setTimeScale(initialTimeScale);
 
         com.badlogic.gdx.audio.Music lobby = GameAssetManager.getInstance().getLobbyMusic();
         if (lobby != null && !lobby.isPlaying()) {
@@ -201,6 +244,8 @@ public class Main extends ApplicationAdapter {
 
     @Override
     public void render() {
+        MainThreadQueue.getInstance().runFrame(MAIN_THREAD_TASK_BUDGET_NANOS);
+
         if (loginUI.isVisible()) {
             Gdx.gl.glClearColor(0, 0, 0, 1);
             Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
@@ -213,7 +258,7 @@ public class Main extends ApplicationAdapter {
             if (lobby != null && lobby.isPlaying()) {
                 lobby.stop();
             }
-            playMusic(currentWorld);
+            playMusic(world.getCurrentWorld());
         }
 
         float dt = Gdx.graphics.getDeltaTime();
@@ -226,6 +271,17 @@ public class Main extends ApplicationAdapter {
             tutorialPopup.hide();
         }
 
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F6)) {
+            cycleTimeScale();
+        }
+
+        // Debug: waktu rata-rata tiap fase + critical path job graph sejak F7 terakhir
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F7)) {
+            System.out.println("Job graph:\n" + world.getJobGraph().report());
+            System.out.println("Events: " + telemetry.report());
+            world.getJobGraph().resetStats();
+        }
+
         if (!isGameOver) {
             if (!tutorialPopup.isVisible()) {
                 if (Gdx.input.isKeyJustPressed(Input.Keys.TAB)) {
@@ -239,7 +295,7 @@ public class Main extends ApplicationAdapter {
                 }
 
                 if (Gdx.input.isKeyJustPressed(Input.Keys.C)) {
-                    if (!isInventoryOpen && campfire.isPlayerNearby(player)) {
+                    if (!isInventoryOpen && world.getCampfire().isPlayerNearby(player)) {
                         isCookingMenuOpen = !isCookingMenuOpen;
                         cookingMenu.setVisible(isCookingMenuOpen);
                         gamePaused = isCookingMenuOpen;
@@ -255,92 +311,8 @@ public class Main extends ApplicationAdapter {
                 }
 
                 if (!gamePaused) {
-                    player.update(dt);
-                    handleMapCollision();
-
-                    player.position.x = MathUtils.clamp(player.position.x, 0, 1168 - player.getWidth());
-                    player.position.y = MathUtils.clamp(player.position.y, 0, 1168 - player.getHeight());
-
-                    Iterator<GroundItem> itemIterator = groundItems.iterator();
-                    while (itemIterator.hasNext()) {
-                        GroundItem item = itemIterator.next();
-                        item.update(dt);
-                        if (item.isActive() && item.getHitbox().overlaps(player.getHitbox())) {
-                            player.inventory.addItem(item.getType(), 1);
-                            itemIterator.remove();
-                            groundItemPool.free(item);
-                            NetworkManager.getInstance().saveInventory(player);
-                        }
-                    }
-
-                    Iterator<Monster> monsterIterator = monsters.iterator();
-                    while (monsterIterator.hasNext()) {
-                        Monster m = monsterIterator.next();
-                        if (m.canBeRemoved()) {
-                            if (m instanceof com.fernanda.finpro.entities.MiniBoss) {
-                                NetworkManager.getInstance().setMiniBossDefeated(true);
-                                spawnManager.setMiniBossDefeated(true);
-                                System.out.println("MiniBoss defeated! State saved.");
-                            }
-                            
-                            ItemType drop = m.rollDrop();
-                            if (drop != null) {
-                                GroundItem droppedItem = groundItemPool.obtain(drop, m.position.x, m.position.y);
-                                if (droppedItem != null) {
-                                    groundItems.add(droppedItem);
-                                }
-                            }
-                            
-                            player.monsterKillScore += 10;
-                            
-                            monsterIterator.remove();
-                        }
-                    }
-
-                    spawnManager.update(dt);
-
-                    Boss boss = spawnManager.getBoss();
-                    if (boss != null) {
-                        boss.update(dt, player);
-
-                        if (player.isHitboxActive()) {
-                            boss.checkHitByPlayer(player.getAttackHitbox(), 25);
-                        }
-                        
-                        if (boss.isDead() && !player.bossKilled) {
-                            player.bossKilled = true;
-                            
-                            NetworkManager.getInstance().updateScore(
-                                NetworkManager.getInstance().getCurrentUsername(),
-                                player.cookingScore,
-                                player.monsterKillScore,
-                                true,
-                                new Runnable() {
-                                    @Override
-                                    public void run() {
-                                        NetworkManager.getInstance().getLeaderboard(new NetworkManager.LeaderboardCallback() {
-                                            @Override
-                                            public void onSuccess(java.util.List<NetworkManager.LeaderboardEntry> entries) {
-                                                leaderboardUI.show(entries);
-                                            }
-                                            
-                                            @Override
-                                            public void onFailure(Throwable t) {
-                                                System.err.println("Failed to fetch leaderboard: " + t.getMessage());
-                                            }
-                                        });
-                                    }
-                                }
-                            );
-                        }
-                    }
-
-                    for (Monster m : monsters) {
-                        m.update(dt);
-                        m.aiBehavior(dt, player);
-                        handleEntityCollision(m.getBodyHitbox(), m.position, m.getBodyHitbox().width, m.getBodyHitbox().height);
-                    }
-                    collisionManager.update(dt);
+                    player.getInputHandler().pollFrame();
+                    runSimulation(dt);
                 } else {
                     boolean shouldClose = inventoryUI.handleInput(player, player.inventory);
                     if (shouldClose) {
@@ -350,37 +322,28 @@ public class Main extends ApplicationAdapter {
                 }
             }
 
-            if (player.stats.getCurrentHealth() <= 0) {
-                if (player.isDeathAnimationFinished()) {
-                    isGameOver = true;
-                    gameOverTimer = 0f;
-                }
-            }
-        }
-
-        if (isGameOver) {
+        } else {
             gameOverTimer += dt;
-            
-            for (Monster m : monsters) {
-                m.update(dt);
-                m.aiBehavior(dt, player);
-            }
-            
-            Boss boss = spawnManager.getBoss();
-            if (boss != null) {
-                boss.update(dt, player);
-            }
-            
-            if (Gdx.input.isKeyJustPressed(Input.Keys.R)) {
-                restartGame();
-            }
+
+            // Monster & boss tetap bergerak di belakang layar "YOU DIED".
+            // Tombol R dibaca lewat InputHandler supaya restart ikut terekam per tick.
+            player.getInputHandler().pollFrame();
+            runSimulation(dt);
         }
 
-        if (currentWorld == WorldType.INFERNO) {
+        persistence.update();
+        audio.update();
+        telemetry.update();
+
+        // Interpolasi posisi render antara tick sebelumnya dan tick sekarang
+        world.interpolate(simulationClock.getAlpha());
+
+        if (world.getCurrentWorld() == WorldType.INFERNO) {
             camera.position.set(584, 584, 0);
         } else {
-            float targetX = player.position.x + (player.getWidth() / 2);
-            float targetY = player.position.y + (player.getHeight() / 2);
+            Vector2 playerRenderPos = player.getRenderPosition();
+            float targetX = playerRenderPos.x + (player.getWidth() / 2);
+            float targetY = playerRenderPos.y + (player.getHeight() / 2);
             float mapWidth = 1168f;
             float mapHeight = 1168f;
             float visibleWidth = camera.viewportWidth * camera.zoom;
@@ -414,25 +377,42 @@ public class Main extends ApplicationAdapter {
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
 
+        // Monster dan sprite ECS (item, campfire) diurutkan lewat array (tanpa objek Renderable),
+        // lalu digabung dengan sisanya
+        List<Monster> monsters = world.getAwakeMonsters();
+        renderStore.gatherRenderY(monsters);
+        int[] monsterOrder = renderStore.sortByRenderY();
+        sprites.gather(world.getEntities());
+        int[] spriteOrder = sprites.sortByY();
+
         renderQueue.clear();
-        for (Monster m : monsters) {
-            renderQueue.add(new Renderable(m.position.y, () -> m.render(batch)));
-        }
-        renderQueue.add(new Renderable(player.position.y, () -> player.render(batch)));
-        for (GroundItem item : groundItems) {
-            renderQueue.add(new Renderable(item.getPosition().y, () -> item.render(batch)));
-        }
-        renderQueue.add(new Renderable(campfire.getPosition().y, () -> campfire.render(batch)));
+        renderQueue.add(new Renderable(player.getRenderPosition().y, () -> player.render(batch)));
 
-        Boss boss = spawnManager.getBoss();
+        Boss boss = world.getBoss();
         if (boss != null) {
             renderQueue.add(new Renderable(boss.position.y, () -> boss.render(batch)));
         }
 
         Collections.sort(renderQueue);
+        int nextMonster = 0;
+        int nextSprite = 0;
         for (Renderable r : renderQueue) {
+            // Y sama: monster duluan, lalu sprite (urutan lama)
+            while (nextMonster < renderStore.size() && renderStore.renderY[monsterOrder[nextMonster]] >= r.y) {
+                nextSprite = drawSpritesAbove(spriteOrder, nextSprite, renderStore.renderY[monsterOrder[nextMonster]]);
+                renderStore.refs[monsterOrder[nextMonster++]].render(batch);
+            }
+            nextSprite = drawSpritesAbove(spriteOrder, nextSprite, r.y);
             r.renderTask.run();
         }
+        while (nextMonster < renderStore.size()) {
+            nextSprite = drawSpritesAbove(spriteOrder, nextSprite, renderStore.renderY[monsterOrder[nextMonster]]);
+            renderStore.refs[monsterOrder[nextMonster++]].render(batch);
+        }
+        drawSpritesAbove(spriteOrder, nextSprite, Float.NEGATIVE_INFINITY);
+
+        // Projectile selalu di atas entity lain, satu pass untuk semuanya
+        world.getProjectiles().render(batch, simulationClock.getAlpha());
 
         batch.end();
 
@@ -443,8 +423,9 @@ public class Main extends ApplicationAdapter {
                 float hpPercent = (float) m.getCurrentHealth() / m.getMaxHealth();
                 float barWidth = 20f;
                 float barHeight = 4f;
-                float barX = m.position.x + (m.getBodyHitbox().width - barWidth) / 2;
-                float barY = m.position.y + m.getBodyHitbox().height + 5f;
+                Vector2 renderPos = m.getRenderPosition();
+                float barX = renderPos.x + (m.getBodyHitbox().width - barWidth) / 2;
+                float barY = renderPos.y + m.getBodyHitbox().height + 5f;
 
                 worldRenderer.setColor(Color.RED);
                 worldRenderer.rect(barX, barY, barWidth, barHeight);
@@ -461,7 +442,7 @@ public class Main extends ApplicationAdapter {
             m.renderDebug(debugRenderer);
         }
 
-        Boss bossDebug = spawnManager.getBoss();
+        Boss bossDebug = world.getBoss();
         if (bossDebug != null) {
             bossDebug.renderDebug(debugRenderer);
         }
@@ -484,6 +465,10 @@ public class Main extends ApplicationAdapter {
 
         gameHud.render(batch, player);
 
+        if (simulationClock.isFastForward()) {
+            renderTimeScale();
+        }
+
         if (isInventoryOpen) {
             inventoryUI.render(player.inventory);
         }
@@ -560,274 +545,108 @@ public class Main extends ApplicationAdapter {
         }
     }
 
-    private void handleMapCollision() {
-        Rectangle playerRect = player.getHitbox();
-        handleEntityCollision(playerRect, player.position, player.getWidth(), player.getHeight());
-        checkWorldTransition(playerRect);
-    }
-
-    private void checkWorldTransition(Rectangle playerRect) {
-        TiledMapTileLayer transitionLayer;
-
-        if (currentWorld == WorldType.FOREST) {
-            transitionLayer = (TiledMapTileLayer) map.getLayers().get("next_map");
-            if (checkLayerCollision(playerRect, transitionLayer)) {
-                switchToIceWorld();
-            }
-        } else if (currentWorld == WorldType.ICE) {
-            transitionLayer = (TiledMapTileLayer) map.getLayers().get("back_map_forest");
-            if (checkLayerCollision(playerRect, transitionLayer)) {
-                switchToForestWorld();
-                return;
-            }
-
-            transitionLayer = (TiledMapTileLayer) map.getLayers().get("inferno_next_map");
-            if (checkLayerCollision(playerRect, transitionLayer)) {
-                switchToInfernoWorld();
-            }
-        } else if (currentWorld == WorldType.INFERNO) {
-            transitionLayer = (TiledMapTileLayer) map.getLayers().get("exit_player_inferno");
-            if (checkLayerCollision(playerRect, transitionLayer)) {
-                switchToIceWorldFromInferno();
-            }
+    /**
+     * Jalankan tick simulasi tetap sebanyak yang dibutuhkan oleh waktu frame ini.
+     */
+    private void runSimulation(float frameDelta) {
+        if (recordPath != null && !recordingStarted) {
+            startRecording();
         }
-    }
 
-    private boolean checkLayerCollision(Rectangle playerRect, TiledMapTileLayer layer) {
-        if (layer != null) {
-            int tileX = (int) ((playerRect.x + playerRect.width / 2) / 16);
-            int tileY = (int) ((playerRect.y + playerRect.height / 2) / 16);
-            TiledMapTileLayer.Cell cell = layer.getCell(tileX, tileY);
-            return cell != null && cell.getTile() != null;
+        simulationClock.advance(frameDelta);
+        while (simulationClock.consumeStep()) {
+            world.tick(simulationClock.getStepSeconds());
         }
-        return false;
     }
 
-    private void switchToIceWorld() {
-        System.out.println("Switching to Ice World!");
-        currentWorld = WorldType.ICE;
-        spawnManager.setWorld(currentWorld);
-        spawnManager.despawnBoss();
-        gameHud.setBoss(null);
-        map = GameAssetManager.getInstance().getIceMap();
-        mapRenderer.setMap(map);
-        camera.zoom = 1.0f;
-        setPlayerSpawn("spawn_ice_player");
-        resetWorldState();
-        playMusic(WorldType.ICE);
-    }
-
-    private void switchToIceWorldFromInferno() {
-        System.out.println("Switching to Ice World (From Inferno)!");
-        currentWorld = WorldType.ICE;
-        spawnManager.setWorld(currentWorld);
-        spawnManager.despawnBoss();
-        gameHud.setBoss(null);
-        map = GameAssetManager.getInstance().getIceMap();
-        mapRenderer.setMap(map);
-        camera.zoom = 1.0f;
-        setPlayerSpawn("back_spawn_inferno");
-        resetWorldState();
-        playMusic(WorldType.ICE);
-    }
-
-    private void switchToForestWorld() {
-        System.out.println("Switching to Forest World!");
-        currentWorld = WorldType.FOREST;
-        spawnManager.setWorld(currentWorld);
-        spawnManager.despawnBoss();
-        gameHud.setBoss(null);
-        map = GameAssetManager.getInstance().getMap();
-        mapRenderer.setMap(map);
-        camera.zoom = 1.0f;
-        setPlayerSpawn("spawn_player_back");
-        resetWorldState();
-        playMusic(WorldType.FOREST);
-    }
-
-    private void switchToInfernoWorld() {
-        System.out.println("Switching to Inferno World!");
-        currentWorld = WorldType.INFERNO;
-        spawnManager.setWorld(currentWorld);
-        map = GameAssetManager.getInstance().getLavaMap();
-        mapRenderer.setMap(map);
-        camera.zoom = 2.6f;
-        setPlayerSpawn("spawn_player_inferno");
-        resetWorldState();
-        
-        if (!player.bossKilled) {
-            spawnManager.spawnBoss();
-            gameHud.setBoss(spawnManager.getBoss());
-        } else {
-            System.out.println("Boss already killed, not spawning.");
-        }
-
-        playMusic(WorldType.INFERNO);
-    }
-
-    private void setPlayerSpawn(String layerName) {
-        MapLayer layer = map.getLayers().get(layerName);
-        if (layer instanceof TiledMapTileLayer) {
-            TiledMapTileLayer spawnLayer = (TiledMapTileLayer) layer;
-            boolean found = false;
-            for (int x = 0; x < spawnLayer.getWidth(); x++) {
-                for (int y = 0; y < spawnLayer.getHeight(); y++) {
-                    if (spawnLayer.getCell(x, y) != null) {
-                        player.position.set(x * 16, y * 16);
-                        found = true;
-                        break;
-                    }
-                }
-                if (found) break;
+    private void cycleTimeScale() {
+        int next = 0;
+        for (int i = 0; i < TIME_SCALES.length; i++) {
+            if (TIME_SCALES[i] == simulationClock.getTimeScale()) {
+                next = (i + 1) % TIME_SCALES.length;
+                break;
             }
         }
+        simulationClock.setTimeScale(TIME_SCALES[next]);
+        System.out.println("Time scale: " + TIME_SCALES[next] + "x");
     }
 
-    private void resetWorldState() {
-        monsters.clear();
-        groundItems.clear();
-        
-        spawnManager.reset();
-
-        if (currentWorld == WorldType.FOREST) {
-            initForestEnvironment();
-        } else {
-            campfire = new Campfire(-1000, -1000);
-        }
+    /**
+     * Gambar sprite ECS (urutan sortByY) yang Y-nya di atas y.
+     * @return index urutan sprite berikutnya yang belum digambar
+     */
+    private int drawSpritesAbove(int[] order, int next, float y) {
+        while (next < sprites.size() && sprites.sortY[order[next]] > y) {
+            int k = order[next++];
+            Texture texture = spriteTexture(sprites.spriteId[k]);
+            float w = sprites.width[k];
+            float h = sprites.height[k];
+            batch.draw(texture, sprites.drawX[k], sprites.drawY[k], w / 2, h / 2, w, h, 1, 1,
+                sprites.rotation[k], 0, 0, texture.getWidth(), texture.getHeight(), false, false);
+        }
+        return next;
     }
 
-    private void initForestEnvironment() {
-        Vector2 campfirePos = new Vector2(player.position.x + 64, player.position.y);
-        MapLayer campfireLayer = map.getLayers().get("campfire");
-        if (campfireLayer instanceof TiledMapTileLayer) {
-            TiledMapTileLayer cl = (TiledMapTileLayer) campfireLayer;
-            boolean found = false;
-            for (int x = 0; x < cl.getWidth(); x++) {
-                for (int y = 0; y < cl.getHeight(); y++) {
-                    if (cl.getCell(x, y) != null) {
-                        campfirePos.set(x * 16, y * 16);
-                        found = true;
-                        break;
-                    }
-                }
-                if (found) break;
-            }
+    private Texture spriteTexture(int id) {
+        if (id >= spriteTextures.length) {
+            spriteTextures = Arrays.copyOf(spriteTextures, SpriteTable.size());
         }
-        campfire = new Campfire(campfirePos.x, campfirePos.y);
-    }
-
-    private void handleEntityCollision(Rectangle hitbox, Vector2 position, float width, float height) {
-        checkCollision(hitbox.x, hitbox.y, position, width, height);
-        checkCollision(hitbox.x + hitbox.width, hitbox.y, position, width, height);
-        checkCollision(hitbox.x, hitbox.y + hitbox.height, position, width, height);
-        checkCollision(hitbox.x + hitbox.width, hitbox.y + hitbox.height, position, width, height);
-    }
-
-    private void checkCollision(float x, float y, Vector2 position, float width, float height) {
-        if (isCellBlocked(x, y)) {
-            int tileX = (int) (x / 16);
-            int tileY = (int) (y / 16);
-            float tileCenterX = tileX * 16 + 8;
-            float tileCenterY = tileY * 16 + 8;
-
-            Vector2 pushDir = new Vector2(position.x + width/2 - tileCenterX,
-                position.y + height/2 - tileCenterY).nor();
-            position.add(pushDir.scl(2.0f));
+        if (spriteTextures[id] == null) {
+            spriteTextures[id] = GameAssetManager.getInstance().getTexture(SpriteTable.texture(id));
         }
+        return spriteTextures[id];
     }
 
-    private boolean isCellBlocked(float x, float y) {
-        int tileX = (int) (x / 16);
-        int tileY = (int) (y / 16);
-
-        if (tileX < 0 || tileX >= 73 || tileY < 0 || tileY >= 73) return true;
+    /**
+     * Indikator fast-forward di pojok kiri atas: skala target dan throughput aktual.
+     */
+    private void renderTimeScale() {
+        com.badlogic.gdx.math.Matrix4 uiMatrix = new com.badlogic.gdx.math.Matrix4();
+        uiMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.setProjectionMatrix(uiMatrix);
+        batch.begin();
+        font.setColor(Color.YELLOW);
+        font.draw(batch, String.format(">> %.0fx  (%.1f sim-s / s)",
+            simulationClock.getTimeScale(), simulationClock.getSimSecondsPerWallSecond()),
+            10f, Gdx.graphics.getHeight() - 10f);
+        font.setColor(Color.WHITE);
+        batch.end();
+    }
 
-        String[] collisionLayers;
-        if (currentWorld == WorldType.ICE) {
-            collisionLayers = new String[] { "ice_building" };
-        } else if (currentWorld == WorldType.INFERNO) {
-            collisionLayers = new String[] { "building_inferno", "lava_obstacle", "batas_bos" };
-        } else {
-            collisionLayers = new String[] { "building_coklat", "building_hijau" };
-        }
+    private void submitBossKill() {
+        NetworkManager.getInstance().updateScore(
+            NetworkManager.getInstance().getCurrentUsername(),
+            player.cookingScore,
+            player.monsterKillScore,
+            true,
+            new Runnable() {
+                @Override
+                public void run() {
+                    NetworkManager.getInstance().getLeaderboard(new NetworkManager.LeaderboardCallback() {
+                        @Override
+                        public void onSuccess(java.util.List<NetworkManager.LeaderboardEntry> entries) {
+                            leaderboardUI.show(entries);
+                        }
 
-        for (String layerName : collisionLayers) {
-            TiledMapTileLayer layer = (TiledMapTileLayer) map.getLayers().get(layerName);
-            if (layer != null) {
-                TiledMapTileLayer.Cell cell = layer.getCell(tileX, tileY);
-                if (cell != null && cell.getTile() != null) {
-                    return true;
+                        @Override
+                        public void onFailure(Throwable t) {
+                            System.err.println("Failed to fetch leaderboard: " + t.getMessage());
+                        }
+                    });
                 }
             }
-        }
-        return false;
+        );
     }
 
-    private void restartGame() {
-        if (currentWorld == WorldType.INFERNO) {
-            System.out.println("Died in INFERNO - Clearing inventory, resetting permanent stats, and saving state");
-            player.inventory.clear();
-            player.stats.resetPermanentStats(50f, 100f);
-            player.clearConsumedLegendaries();
-            NetworkManager.getInstance().saveInventory(player);
-            
-            currentWorld = WorldType.FOREST;
-            map = GameAssetManager.getInstance().getMap();
-            mapRenderer.setMap(map);
-            camera.zoom = 1.0f;
-            setPlayerSpawn("spawn_player");
-            player.reset(playerSpawnPoint.x, playerSpawnPoint.y);
-        } else {
-            System.out.println("Died in " + currentWorld + " - Keeping inventory and permanent stats");
-            NetworkManager.getInstance().saveInventory(player);
-            
-            if (currentWorld == WorldType.ICE) {
-                setPlayerSpawn("spawn_ice_player");
-                player.reset(player.position.x, player.position.y);
-            } else {
-                player.reset(playerSpawnPoint.x, playerSpawnPoint.y);
-            }
-        }
-
-        monsters.clear();
-        groundItems.clear();
-        spawnManager.setWorld(currentWorld);
-        spawnManager.reset();
-
-        if (currentWorld == WorldType.INFERNO && !player.bossKilled) {
-            spawnManager.spawnBoss();
-
-            Boss boss = spawnManager.getBoss();
-            if (boss != null) {
-                boss.reset();
-                System.out.println("Boss Respawned & Reset");
-            }
-            gameHud.setBoss(boss);
-        } else {
-            gameHud.setBoss(null);
-        }
-
-        if (currentWorld == WorldType.FOREST) {
-            initForestEnvironment();
-        } else if (currentWorld == WorldType.ICE) {
-            campfire = new Campfire(-1000, -1000);
+    private void startRecording() {
+        recordingStarted = true;
+        try {
+            InputLog.Header header = InputLog.Header.capture(world, SIMULATION_TICK_RATE);
+            player.getInputHandler().startRecording(new InputRecorder(Paths.get(recordPath), header));
+            System.out.println("Merekam input ke " + recordPath + " (seed " + header.seed + ")");
+        } catch (IOException e) {
+            System.err.println("Gagal memulai rekaman input: " + e.getMessage());
         }
-
-        if (currentWorld == WorldType.INFERNO) {
-            camera.position.set(584, 584, 0);
-        } else {
-            float targetX = player.position.x + (player.getWidth() / 2);
-            float targetY = player.position.y + (player.getHeight() / 2);
-            camera.position.set(targetX, targetY, 0);
-        }
-
-        isGameOver = false;
-        isInventoryOpen = false;
-        gamePaused = false;
-        
-        playMusic(currentWorld);
-        
-        System.out.println("Game restarted in world: " + currentWorld);
     }
 
     private void playMusic(WorldType worldType) {
@@ -849,6 +668,7 @@ public class Main extends ApplicationAdapter {
 
     @Override
     public void dispose() {
+        player.getInputHandler().stopRecording();
         batch.dispose();
         worldRenderer.dispose();
         debugRenderer.dispose();
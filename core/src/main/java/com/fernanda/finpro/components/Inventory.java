@@ -1,56 +1,138 @@
 package com.fernanda.finpro.components;
-import java.util.HashMap;
-import java.util.Map;
 
+import java.util.Arrays;
+
+/**
+ * Jumlah item per ItemType, disimpan di int[] dengan index ItemType.ordinal() (tanpa boxing).
+ * Setiap perubahan menaikkan version, jadi UI dan save ke server bisa melewati kerja jika version-nya sama.
+ * Pihak luar hanya membaca lewat getItemCount() atau snapshot(), tidak pernah memegang array-nya.
+ */
 public class Inventory {
-    private final HashMap<ItemType, Integer> items;
+    private static final ItemType[] TYPES = ItemType.values();
 
-    public Inventory() {
-        this.items = new HashMap<>();
-    }
+    private final int[] counts = new int[TYPES.length];
+    private int distinctCount; // Jumlah tipe dengan count > 0
+    private long version;
 
     public void addItem(ItemType type, int amount) {
-        items.put(type, items.getOrDefault(type, 0) + amount);
-        System.out.println("[INVENTORY] Picked up: " + type.getDisplayName() + " x" + amount);
+        if (amount <= 0) return;
+        int i = type.ordinal();
+        if (counts[i] == 0) distinctCount++;
+        counts[i] += amount;
+        version++;
     }
 
     public int getItemCount(ItemType type) {
-        return items.getOrDefault(type, 0);
+        return counts[type.ordinal()];
     }
 
     public boolean removeItem(ItemType type, int amount) {
-        int current = getItemCount(type);
-        if (current >= amount) {
-            items.put(type, current - amount);
-            if (items.get(type) <= 0) items.remove(type);
-            return true;
+        int i = type.ordinal();
+        if (counts[i] < amount) return false;
+        if (amount > 0) {
+            counts[i] -= amount;
+            if (counts[i] == 0) distinctCount--;
+            version++;
         }
-        return false;
+        return true;
     }
 
     public boolean hasItem(ItemType type, int amount) {
-        return getItemCount(type) >= amount;
+        return counts[type.ordinal()] >= amount;
+    }
+
+    /**
+     * @param required jumlah per ordinal (lihat Recipe.getRequiredCounts())
+     */
+    public boolean hasAll(int[] required) {
+        for (int i = 0; i < required.length; i++) {
+            if (counts[i] < required[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Ambil semua item sekaligus; tidak mengubah apa pun jika ada yang kurang.
+     */
+    public boolean removeAll(int[] required) {
+        if (!hasAll(required)) return false;
+        for (int i = 0; i < required.length; i++) {
+            if (required[i] <= 0) continue;
+            counts[i] -= required[i];
+            if (counts[i] == 0) distinctCount--;
+        }
+        version++;
+        return true;
     }
 
     public String getDisplayString() {
-        if (items.isEmpty()) {
+        if (distinctCount == 0) {
             return "[ EMPTY ]";
         }
 
         StringBuilder sb = new StringBuilder();
-        for (Map.Entry<ItemType, Integer> entry : items. entrySet()) {
-            sb.append(entry.getKey().getIcon()).append(" ");
-            sb.append(entry. getKey().name()).append(": x");
-            sb.append(entry. getValue()).append("\n");
+        for (ItemType type : TYPES) {
+            int count = counts[type.ordinal()];
+            if (count <= 0) continue;
+            sb.append(type.getIcon()).append(" ");
+            sb.append(type.name()).append(": x");
+            sb.append(count).append("\n");
         }
         return sb.toString().trim();
     }
 
     public void clear() {
-        items.clear();
+        if (distinctCount == 0) return;
+        Arrays.fill(counts, 0);
+        distinctCount = 0;
+        version++;
     }
 
-    public HashMap<ItemType, Integer> getItems() {
-        return items;
+    public boolean isEmpty() { return distinctCount == 0; }
+    public int getDistinctCount() { return distinctCount; }
+
+    /**
+     * Naik setiap kali isi inventory berubah, tidak pernah turun.
+     */
+    public long getVersion() { return version; }
+
+    /**
+     * Salinan read-only isi inventory saat ini (mis. untuk dikirim ke server).
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(counts.clone(), version);
+    }
+
+    /**
+     * Isi inventory pada satu version. Tidak ikut berubah saat inventory berubah.
+     */
+    public static final class Snapshot {
+        private final int[] counts;
+        private final long version;
+
+        private Snapshot(int[] counts, long version) {
+            this.counts = counts;
+            this.version = version;
+        }
+
+        public int getItemCount(ItemType type) {
+            return counts[type.ordinal()];
+        }
+
+        public long getVersion() { return version; }
+
+        /** Tipe item dengan count > 0, urut ordinal. */
+        public ItemType[] getTypes() {
+            int n = 0;
+            for (int count : counts) {
+                if (count > 0) n++;
+            }
+            ItemType[] types = new ItemType[n];
+            n = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) types[n++] = TYPES[i];
+            }
+            return types;
+        }
     }
 }
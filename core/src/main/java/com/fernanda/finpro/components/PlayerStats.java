@@ -88,9 +88,6 @@ public class PlayerStats {
             currentHealth = 0;
             isDead = true;
             notifyDead();
-            System.out.println("STATUS: Player Mati!");
-        } else {
-            System.out.println("STATUS: Kena Hit! HP: " + (int)currentHealth);
         }
         notifyHealthChanged();
     }
@@ -126,13 +123,13 @@ public class PlayerStats {
 
     // Notify Helpers
     private void notifyHealthChanged() {
-        for (StatsListener listener : listeners) listener.onHealthChanged(currentHealth, maxHealth);
+        for (int i = 0; i < listeners.size(); i++) listeners.get(i).onHealthChanged(currentHealth, maxHealth);
     }
     private void notifyStaminaChanged() {
-        for (StatsListener listener : listeners) listener.onStaminaChanged(currentStamina, maxStamina);
+        for (int i = 0; i < listeners.size(); i++) listeners.get(i).onStaminaChanged(currentStamina, maxStamina);
     }
     private void notifyDead() {
-        for (StatsListener listener : listeners) listener.onDead();
+        for (int i = 0; i < listeners.size(); i++) listeners.get(i).onDead();
     }
 
     // Getters
@@ -6,6 +6,7 @@ import java.util.Map;
 public class Recipe {
     private String recipeName;
     private Map<ItemType, Integer> requirements;
+    private final int[] requiredCounts = new int[ItemType.values().length]; // Index = ItemType.ordinal()
     private ItemType resultItem;
 
     public Recipe(String recipeName, ItemType resultItem) {
@@ -16,6 +17,7 @@ public class Recipe {
 
     public void addRequirement(ItemType type, int amount) {
         requirements.put(type, amount);
+        requiredCounts[type.ordinal()] = amount;
     }
 
     public String getRecipeName() {
@@ -26,6 +28,13 @@ public class Recipe {
         return requirements;
     }
 
+    /**
+     * Jumlah bahan per ItemType.ordinal(), untuk Inventory.hasAll() / removeAll(). Jangan diubah.
+     */
+    public int[] getRequiredCounts() {
+        return requiredCounts;
+    }
+
     public ItemType getResultItem() {
         return resultItem;
     }
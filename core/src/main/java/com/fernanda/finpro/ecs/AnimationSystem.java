@@ -0,0 +1,20 @@
+package com.fernanda.finpro.ecs;
+
+/**
+ * ANIMATION: majukan stateTime (frame animasi / bobbing item dihitung saat render).
+ */
+public class AnimationSystem implements EcsSystem {
+    private static final long REQUIRED = Component.ANIMATION.bit;
+
+    @Override
+    public long requiredMask() { return REQUIRED; }
+
+    @Override
+    public void update(EcsWorld world, Archetype archetype, float dt) {
+        float[] anim = archetype.floats(Component.ANIMATION);
+        int stride = Component.ANIMATION.floats;
+        for (int row = 0, n = archetype.size(); row < n; row++) {
+            anim[row * stride + Component.STATE_TIME] += dt;
+        }
+    }
+}
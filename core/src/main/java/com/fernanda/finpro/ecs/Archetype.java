@@ -0,0 +1,119 @@
+package com.fernanda.finpro.ecs;
+
+import java.util.Arrays;
+
+/**
+ * Semua entity dengan kombinasi component yang sama.
+ * Data disimpan padat per component: floats(c)[row * c.floats + field].
+ * Row [0, size) selalu terisi; hapus = swap dengan row terakhir.
+ */
+public final class Archetype {
+    private static final int INITIAL_CAPACITY = 16;
+
+    final long mask;
+    private final float[][] floatColumns = new float[Component.COUNT][];
+    private final int[][] intColumns = new int[Component.COUNT][];
+    private int[] entities;
+    private int size;
+    private int capacity;
+
+    Archetype(long mask) {
+        this.mask = mask;
+        this.capacity = INITIAL_CAPACITY;
+        this.entities = new int[capacity];
+        for (Component c : Component.ALL) {
+            if ((mask & c.bit) == 0) continue;
+            if (c.floats > 0) floatColumns[c.ordinal()] = new float[capacity * c.floats];
+            if (c.ints > 0) intColumns[c.ordinal()] = new int[capacity * c.ints];
+        }
+    }
+
+    public boolean has(Component c) {
+        return (mask & c.bit) != 0;
+    }
+
+    public boolean matches(long required) {
+        return (mask & required) == required;
+    }
+
+    /**
+     * Kolom float component c (stride c.floats). Null jika archetype tidak punya c.
+     */
+    public float[] floats(Component c) {
+        return floatColumns[c.ordinal()];
+    }
+
+    public int[] ints(Component c) {
+        return intColumns[c.ordinal()];
+    }
+
+    public int size() { return size; }
+    public long getMask() { return mask; }
+
+    public int entityAt(int row) {
+        return entities[row];
+    }
+
+    int addRow(int handle) {
+        if (size == capacity) grow();
+        int row = size++;
+        entities[row] = handle;
+        for (Component c : Component.ALL) {
+            float[] f = floatColumns[c.ordinal()];
+            if (f != null) Arrays.fill(f, row * c.floats, (row + 1) * c.floats, 0f);
+            int[] n = intColumns[c.ordinal()];
+            if (n != null) Arrays.fill(n, row * c.ints, (row + 1) * c.ints, 0);
+        }
+        return row;
+    }
+
+    /**
+     * Hapus row dengan swap-remove.
+     * @return handle entity yang dipindah ke row ini, atau -1 jika row adalah yang terakhir
+     */
+    int removeRow(int row) {
+        int last = --size;
+        if (row == last) return -1;
+
+        entities[row] = entities[last];
+        for (Component c : Component.ALL) {
+            float[] f = floatColumns[c.ordinal()];
+            if (f != null) System.arraycopy(f, last * c.floats, f, row * c.floats, c.floats);
+            int[] n = intColumns[c.ordinal()];
+            if (n != null) System.arraycopy(n, last * c.ints, n, row * c.ints, c.ints);
+        }
+        return entities[row];
+    }
+
+    /**
+     * Salin component yang dimiliki kedua archetype (dipakai saat component ditambah / dilepas).
+     */
+    void copyRow(int row, Archetype target, int targetRow) {
+        long shared = mask & target.mask;
+        for (Component c : Component.ALL) {
+            if ((shared & c.bit) == 0) continue;
+            if (c.floats > 0) {
+                System.arraycopy(floatColumns[c.ordinal()], row * c.floats,
+                    target.floatColumns[c.ordinal()], targetRow * c.floats, c.floats);
+            }
+            if (c.ints > 0) {
+                System.arraycopy(intColumns[c.ordinal()], row * c.ints,
+                    target.intColumns[c.ordinal()], targetRow * c.ints, c.ints);
+            }
+        }
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    private void grow() {
+        capacity *= 2;
+        entities = Arrays.copyOf(entities, capacity);
+        for (Component c : Component.ALL) {
+            int i = c.ordinal();
+            if (floatColumns[i] != null) floatColumns[i] = Arrays.copyOf(floatColumns[i], capacity * c.floats);
+            if (intColumns[i] != null) intColumns[i] = Arrays.copyOf(intColumns[i], capacity * c.ints);
+        }
+    }
+}
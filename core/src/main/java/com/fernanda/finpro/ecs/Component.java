@@ -0,0 +1,49 @@
+package com.fernanda.finpro.ecs;
+
+/**
+ * Daftar component ECS. Setiap component adalah sekumpulan field float dan int
+ * yang disimpan berdampingan (stride tetap) di kolom array milik archetype.
+ * Index field didefinisikan sebagai konstanta di bawah.
+ */
+public enum Component {
+    TRANSFORM(2, 0),   // x, y
+    HITBOX(4, 0),      // offsetX, offsetY, width, height (relatif ke transform)
+    SPRITE(6, 1),      // offsetX, offsetY, width, height, rotation, bob | spriteId (SpriteTable)
+    ANIMATION(1, 1),   // stateTime | animationId
+    DROP(0, 1);        // ItemType.ordinal()
+
+    // TRANSFORM
+    public static final int X = 0, Y = 1;
+    // HITBOX, SPRITE (posisi gambar relatif ke transform)
+    public static final int OFFSET_X = 0, OFFSET_Y = 1, WIDTH = 2, HEIGHT = 3;
+    // SPRITE
+    public static final int ROTATION = 4, BOB = 5;
+    public static final int SPRITE_ID = 0;
+    // ANIMATION
+    public static final int STATE_TIME = 0;
+    public static final int ANIMATION_ID = 0;
+    // DROP
+    public static final int ITEM = 0;
+
+    // values() menyalin array tiap panggilan; add/remove row memakai salinan tetap ini
+    static final Component[] ALL = values();
+    public static final int COUNT = ALL.length;
+
+    public final int floats;
+    public final int ints;
+    public final long bit;
+
+    Component(int floats, int ints) {
+        this.floats = floats;
+        this.ints = ints;
+        this.bit = 1L << ordinal();
+    }
+
+    public static long mask(Component... components) {
+        long mask = 0;
+        for (Component c : components) {
+            mask |= c.bit;
+        }
+        return mask;
+    }
+}
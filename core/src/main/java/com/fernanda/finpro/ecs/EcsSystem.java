@@ -0,0 +1,13 @@
+package com.fernanda.finpro.ecs;
+
+/**
+ * System ECS: dipanggil sekali per archetype yang cocok, lalu menyapu semua row-nya.
+ */
+public interface EcsSystem {
+    /**
+     * Component yang wajib dimiliki archetype (Component.mask(...)).
+     */
+    long requiredMask();
+
+    void update(EcsWorld world, Archetype archetype, float dt);
+}
@@ -0,0 +1,216 @@
+package com.fernanda.finpro.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ECS dengan penyimpanan per archetype.
+ * Entity adalah handle int: 20 bit index + 11 bit generasi, jadi handle lama dari entity
+ * yang sudah dihapus tidak akan tertukar dengan entity baru di slot yang sama.
+ *
+ * System menyapu archetype yang cocok (lihat run()) dan mengakses kolom array langsung,
+ * tanpa virtual call per entity. Selama system berjalan, gunakan destroyLater() lalu flush().
+ */
+public class EcsWorld {
+    private static final int INDEX_BITS = 20;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    private static final int GENERATION_MASK = 0x7FF;
+    public static final int MAX_ENTITIES = 1 << INDEX_BITS;
+
+    private final List<Archetype> archetypes = new ArrayList<>();
+    private final Map<Long, Archetype> archetypesByMask = new HashMap<>();
+
+    // Per index entity
+    private int[] generation = new int[256];
+    private Archetype[] archetypeOf = new Archetype[256];
+    private int[] rowOf = new int[256];
+
+    private int[] freeIndices = new int[256];
+    private int freeCount;
+    private int nextIndex;
+    private int liveCount;
+
+    private int[] pendingDestroy = new int[64];
+    private int pendingCount;
+
+    public int create(Component... components) {
+        return create(Component.mask(components));
+    }
+
+    /**
+     * Buat entity baru; semua field component bernilai 0.
+     */
+    public int create(long mask) {
+        int index;
+        if (freeCount > 0) {
+            index = freeIndices[--freeCount];
+        } else {
+            if (nextIndex >= MAX_ENTITIES) throw new IllegalStateException("Jumlah entity melebihi " + MAX_ENTITIES);
+            index = nextIndex++;
+            ensureIndexCapacity(index + 1);
+        }
+
+        int handle = (generation[index] << INDEX_BITS) | index;
+        Archetype archetype = archetypeFor(mask);
+        archetypeOf[index] = archetype;
+        rowOf[index] = archetype.addRow(handle);
+        liveCount++;
+        return handle;
+    }
+
+    public boolean isAlive(int handle) {
+        int index = handle & INDEX_MASK;
+        return index < nextIndex && archetypeOf[index] != null && generation[index] == (handle >>> INDEX_BITS);
+    }
+
+    public void destroy(int handle) {
+        checkAlive(handle);
+        int index = handle & INDEX_MASK;
+        detach(index);
+
+        archetypeOf[index] = null;
+        generation[index] = (generation[index] + 1) & GENERATION_MASK;
+        if (freeCount == freeIndices.length) freeIndices = Arrays.copyOf(freeIndices, freeCount * 2);
+        freeIndices[freeCount++] = index;
+        liveCount--;
+    }
+
+    /**
+     * Tandai entity untuk dihapus di flush(). Aman dipanggil dari dalam system.
+     */
+    public void destroyLater(int handle) {
+        if (pendingCount == pendingDestroy.length) pendingDestroy = Arrays.copyOf(pendingDestroy, pendingCount * 2);
+        pendingDestroy[pendingCount++] = handle;
+    }
+
+    public void flush() {
+        for (int i = 0; i < pendingCount; i++) {
+            if (isAlive(pendingDestroy[i])) destroy(pendingDestroy[i]);
+        }
+        pendingCount = 0;
+    }
+
+    public void add(int handle, Component component) {
+        changeMask(handle, archetypeOf(handle).mask | component.bit);
+    }
+
+    public void remove(int handle, Component component) {
+        changeMask(handle, archetypeOf(handle).mask & ~component.bit);
+    }
+
+    public boolean has(int handle, Component component) {
+        return archetypeOf(handle).has(component);
+    }
+
+    /**
+     * Jalankan system pada semua archetype yang punya component yang diminta, lalu flush().
+     */
+    public void run(EcsSystem system, float dt) {
+        long required = system.requiredMask();
+        for (int i = 0; i < archetypes.size(); i++) {
+            Archetype archetype = archetypes.get(i);
+            if (archetype.size() > 0 && archetype.matches(required)) {
+                system.update(this, archetype, dt);
+            }
+        }
+        flush();
+    }
+
+    // --- Akses per entity (untuk setup / debug; system sebaiknya pakai kolom archetype) ---
+
+    public float getFloat(int handle, Component c, int field) {
+        Archetype a = archetypeOf(handle);
+        return a.floats(c)[rowOf[handle & INDEX_MASK] * c.floats + field];
+    }
+
+    public void setFloat(int handle, Component c, int field, float value) {
+        Archetype a = archetypeOf(handle);
+        a.floats(c)[rowOf[handle & INDEX_MASK] * c.floats + field] = value;
+    }
+
+    public int getInt(int handle, Component c, int field) {
+        Archetype a = archetypeOf(handle);
+        return a.ints(c)[rowOf[handle & INDEX_MASK] * c.ints + field];
+    }
+
+    public void setInt(int handle, Component c, int field, int value) {
+        Archetype a = archetypeOf(handle);
+        a.ints(c)[rowOf[handle & INDEX_MASK] * c.ints + field] = value;
+    }
+
+    /**
+     * Hapus semua entity (pindah world / restart). Archetype tetap ada untuk dipakai ulang.
+     */
+    public void clear() {
+        for (Archetype archetype : archetypes) {
+            archetype.clear();
+        }
+        for (int i = 0; i < nextIndex; i++) {
+            if (archetypeOf[i] != null) {
+                archetypeOf[i] = null;
+                generation[i] = (generation[i] + 1) & GENERATION_MASK;
+            }
+        }
+        freeCount = 0;
+        for (int i = nextIndex - 1; i >= 0; i--) {
+            if (freeCount == freeIndices.length) freeIndices = Arrays.copyOf(freeIndices, freeCount * 2);
+            freeIndices[freeCount++] = i;
+        }
+        pendingCount = 0;
+        liveCount = 0;
+    }
+
+    public List<Archetype> getArchetypes() { return archetypes; }
+    public int size() { return liveCount; }
+
+    private Archetype archetypeOf(int handle) {
+        checkAlive(handle);
+        return archetypeOf[handle & INDEX_MASK];
+    }
+
+    private void checkAlive(int handle) {
+        if (!isAlive(handle)) throw new IllegalArgumentException("Entity sudah tidak ada: " + handle);
+    }
+
+    private void changeMask(int handle, long newMask) {
+        int index = handle & INDEX_MASK;
+        Archetype from = archetypeOf[index];
+        if (from.mask == newMask) return;
+
+        Archetype to = archetypeFor(newMask);
+        int fromRow = rowOf[index];
+        int toRow = to.addRow(handle);
+        from.copyRow(fromRow, to, toRow);
+        detach(index);
+
+        archetypeOf[index] = to;
+        rowOf[index] = toRow;
+    }
+
+    // Lepas row entity dari archetype-nya, perbaiki row entity yang ikut dipindah
+    private void detach(int index) {
+        int moved = archetypeOf[index].removeRow(rowOf[index]);
+        if (moved != -1) rowOf[moved & INDEX_MASK] = rowOf[index];
+    }
+
+    private Archetype archetypeFor(long mask) {
+        Archetype archetype = archetypesByMask.get(mask);
+        if (archetype == null) {
+            archetype = new Archetype(mask);
+            archetypesByMask.put(mask, archetype);
+            archetypes.add(archetype);
+        }
+        return archetype;
+    }
+
+    private void ensureIndexCapacity(int needed) {
+        if (needed <= generation.length) return;
+        int newLength = Math.max(needed, generation.length * 2);
+        generation = Arrays.copyOf(generation, newLength);
+        archetypeOf = Arrays.copyOf(archetypeOf, newLength);
+        rowOf = Arrays.copyOf(rowOf, newLength);
+    }
+}
@@ -0,0 +1,66 @@
+package com.fernanda.finpro.ecs;
+
+/**
+ * Resep archetype untuk entity dunia.
+ */
+public final class EntityFactory {
+    // Ukuran hitbox pickup & gambar item, bobbing setinggi 4 px
+    private static final float PICKUP_SIZE = 25f;
+    private static final float ITEM_DISPLAY_SIZE = 16f;
+    private static final float ITEM_BOB = 4f;
+
+    private static final long PICKUP = Component.mask(
+        Component.TRANSFORM, Component.HITBOX, Component.SPRITE, Component.ANIMATION, Component.DROP);
+    private static final long PROP = Component.mask(Component.TRANSFORM, Component.SPRITE);
+
+    private EntityFactory() {}
+
+    /**
+     * Item di tanah: posisi = titik tengah, hitbox & gambar berpusat di situ.
+     */
+    public static int createPickup(EcsWorld world, int itemOrdinal, float x, float y) {
+        int e = world.create(PICKUP);
+        setTransform(world, e, x, y);
+        setBox(world, e, Component.HITBOX, -PICKUP_SIZE / 2, -PICKUP_SIZE / 2, PICKUP_SIZE, PICKUP_SIZE);
+        setBox(world, e, Component.SPRITE,
+            -ITEM_DISPLAY_SIZE / 2, -ITEM_DISPLAY_SIZE / 2, ITEM_DISPLAY_SIZE, ITEM_DISPLAY_SIZE);
+        world.setFloat(e, Component.SPRITE, Component.BOB, ITEM_BOB);
+        world.setInt(e, Component.SPRITE, Component.SPRITE_ID, SpriteTable.item(itemOrdinal));
+        world.setInt(e, Component.DROP, Component.ITEM, itemOrdinal);
+        return e;
+    }
+
+    /**
+     * Objek statis (campfire): gambar dari pojok kiri bawah.
+     */
+    public static int createProp(EcsWorld world, int spriteId, float x, float y, float width, float height) {
+        return createDecoration(world, spriteId, x, y, width, height, 0f);
+    }
+
+    /**
+     * Dekorasi statis (pohon, pagar), diputar di sekitar titik tengahnya.
+     */
+    public static int createDecoration(EcsWorld world, int spriteId, float x, float y,
+                                       float width, float height, float rotation) {
+        int e = world.create(PROP);
+        setTransform(world, e, x, y);
+        setBox(world, e, Component.SPRITE, 0, 0, width, height);
+        world.setFloat(e, Component.SPRITE, Component.ROTATION, rotation);
+        world.setInt(e, Component.SPRITE, Component.SPRITE_ID, spriteId);
+        return e;
+    }
+
+    private static void setTransform(EcsWorld world, int e, float x, float y) {
+        world.setFloat(e, Component.TRANSFORM, Component.X, x);
+        world.setFloat(e, Component.TRANSFORM, Component.Y, y);
+    }
+
+    // HITBOX dan SPRITE memakai index OFFSET_X..HEIGHT yang sama
+    private static void setBox(EcsWorld world, int e, Component c,
+                               float offsetX, float offsetY, float width, float height) {
+        world.setFloat(e, c, Component.OFFSET_X, offsetX);
+        world.setFloat(e, c, Component.OFFSET_Y, offsetY);
+        world.setFloat(e, c, Component.WIDTH, width);
+        world.setFloat(e, c, Component.HEIGHT, height);
+    }
+}
@@ -0,0 +1,51 @@
+package com.fernanda.finpro.ecs;
+
+/**
+ * TRANSFORM + HITBOX + DROP = item di tanah.
+ * Jika hitbox-nya overlap dengan player, listener dipanggil lalu entity dihapus.
+ */
+public class PickupSystem implements EcsSystem {
+    private static final long REQUIRED = Component.mask(Component.TRANSFORM, Component.HITBOX, Component.DROP);
+
+    public interface Listener {
+        void onPickup(int itemOrdinal, float x, float y);
+    }
+
+    private final Listener listener;
+    private float playerX, playerY, playerWidth, playerHeight;
+
+    public PickupSystem(Listener listener) {
+        this.listener = listener;
+    }
+
+    public void setPlayerBounds(float x, float y, float width, float height) {
+        this.playerX = x;
+        this.playerY = y;
+        this.playerWidth = width;
+        this.playerHeight = height;
+    }
+
+    @Override
+    public long requiredMask() { return REQUIRED; }
+
+    @Override
+    public void update(EcsWorld world, Archetype archetype, float dt) {
+        float[] t = archetype.floats(Component.TRANSFORM);
+        float[] h = archetype.floats(Component.HITBOX);
+        int[] drop = archetype.ints(Component.DROP);
+        int ts = Component.TRANSFORM.floats;
+        int hs = Component.HITBOX.floats;
+
+        for (int row = 0, n = archetype.size(); row < n; row++) {
+            float x = t[row * ts + Component.X] + h[row * hs + Component.OFFSET_X];
+            float y = t[row * ts + Component.Y] + h[row * hs + Component.OFFSET_Y];
+            float w = h[row * hs + Component.WIDTH];
+            float ht = h[row * hs + Component.HEIGHT];
+
+            if (x < playerX + playerWidth && x + w > playerX && y < playerY + playerHeight && y + ht > playerY) {
+                listener.onPickup(drop[row * Component.DROP.ints + Component.ITEM], x, y);
+                world.destroyLater(archetype.entityAt(row));
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.fernanda.finpro.ecs;
+
+import java.util.Arrays;
+
+/**
+ * TRANSFORM + SPRITE: salin posisi gambar semua sprite ke array paralel sekali per frame,
+ * lalu urutkan berdasarkan Y menurun (sama seperti MonsterStore.sortByRenderY()).
+ * Tidak menyentuh GL; Main yang menggambar lewat SpriteTable.
+ */
+public class SpriteSystem implements EcsSystem {
+    private static final long REQUIRED = Component.mask(Component.TRANSFORM, Component.SPRITE);
+    private static final float BOB_SPEED = 2f;
+
+    private int size;
+    private int capacity;
+
+    public float[] drawX, drawY, width, height, rotation;
+    public float[] sortY; // Y transform, tanpa bobbing
+    public int[] spriteId;
+
+    private long[] sortKeys;
+    private int[] order;
+
+    public SpriteSystem() {
+        allocate(64);
+    }
+
+    /**
+     * Kumpulkan semua sprite di world. Dipanggil dari render, setelah tick selesai.
+     */
+    public void gather(EcsWorld world) {
+        size = 0;
+        world.run(this, 0f);
+    }
+
+    @Override
+    public long requiredMask() { return REQUIRED; }
+
+    @Override
+    public void update(EcsWorld world, Archetype archetype, float dt) {
+        int n = archetype.size();
+        if (size + n > capacity) allocate(Math.max(size + n, capacity * 2));
+
+        float[] t = archetype.floats(Component.TRANSFORM);
+        float[] s = archetype.floats(Component.SPRITE);
+        int[] ids = archetype.ints(Component.SPRITE);
+        float[] anim = archetype.floats(Component.ANIMATION); // null = tidak bobbing
+        int ts = Component.TRANSFORM.floats;
+        int ss = Component.SPRITE.floats;
+        int as = Component.ANIMATION.floats;
+
+        for (int row = 0; row < n; row++, size++) {
+            float x = t[row * ts + Component.X];
+            float y = t[row * ts + Component.Y];
+            float bob = 0f;
+            if (anim != null && s[row * ss + Component.BOB] != 0f) {
+                bob = (float) Math.sin(anim[row * as + Component.STATE_TIME] * BOB_SPEED) * s[row * ss + Component.BOB];
+            }
+
+            drawX[size] = x + s[row * ss + Component.OFFSET_X];
+            drawY[size] = y + s[row * ss + Component.OFFSET_Y] + bob;
+            width[size] = s[row * ss + Component.WIDTH];
+            height[size] = s[row * ss + Component.HEIGHT];
+            rotation[size] = s[row * ss + Component.ROTATION];
+            sortY[size] = y;
+            spriteId[size] = ids[row * Component.SPRITE.ints + Component.SPRITE_ID];
+        }
+    }
+
+    /**
+     * @return index sprite, sortY menurun (stabil, tanpa alokasi); hanya [0, size) yang valid
+     */
+    public int[] sortByY() {
+        for (int i = 0; i < size; i++) {
+            sortKeys[i] = ((long) sortableBits(-sortY[i]) << 32) | i;
+        }
+        Arrays.sort(sortKeys, 0, size);
+        for (int i = 0; i < size; i++) {
+            order[i] = (int) sortKeys[i];
+        }
+        return order;
+    }
+
+    private static int sortableBits(float f) {
+        int bits = Float.floatToIntBits(f + 0f);
+        return bits ^ ((bits >> 31) & 0x7fffffff);
+    }
+
+    private void allocate(int newCapacity) {
+        drawX = grow(drawX, newCapacity);
+        drawY = grow(drawY, newCapacity);
+        width = grow(width, newCapacity);
+        height = grow(height, newCapacity);
+        rotation = grow(rotation, newCapacity);
+        sortY = grow(sortY, newCapacity);
+        spriteId = spriteId == null ? new int[newCapacity] : Arrays.copyOf(spriteId, newCapacity);
+        sortKeys = sortKeys == null ? new long[newCapacity] : Arrays.copyOf(sortKeys, newCapacity);
+        order = order == null ? new int[newCapacity] : Arrays.copyOf(order, newCapacity);
+        capacity = newCapacity;
+    }
+
+    private static float[] grow(float[] array, int newCapacity) {
+        return array == null ? new float[newCapacity] : Arrays.copyOf(array, newCapacity);
+    }
+
+    public int size() { return size; }
+}
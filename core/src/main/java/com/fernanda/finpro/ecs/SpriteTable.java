@@ -0,0 +1,48 @@
+package com.fernanda.finpro.ecs;
+
+import com.fernanda.finpro.components.ItemType;
+import com.fernanda.finpro.singleton.GameAssetManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Id sprite (Component.SPRITE_ID) -> nama texture di GameAssetManager.
+ * Id item sama dengan ItemType.ordinal(), jadi pickup tidak perlu lookup saat dibuat di job.
+ */
+public final class SpriteTable {
+    private static final List<String> TEXTURES = new ArrayList<>();
+
+    static {
+        for (ItemType type : ItemType.values()) {
+            TEXTURES.add(type.texturePath);
+        }
+    }
+
+    public static final int CAMPFIRE = register(GameAssetManager.CAMPFIRE);
+
+    private SpriteTable() {}
+
+    /**
+     * Daftarkan texture (mis. dekorasi). Dipanggil saat setup di main thread, bukan dari job.
+     * @return id yang sudah ada jika texture pernah didaftarkan
+     */
+    public static int register(String textureName) {
+        int id = TEXTURES.indexOf(textureName);
+        if (id != -1) return id;
+        TEXTURES.add(textureName);
+        return TEXTURES.size() - 1;
+    }
+
+    public static int item(int itemOrdinal) {
+        return itemOrdinal;
+    }
+
+    public static String texture(int id) {
+        return TEXTURES.get(id);
+    }
+
+    public static int size() {
+        return TEXTURES.size();
+    }
+}
@@ -6,13 +6,16 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.fernanda.finpro.events.EventPublisher;
+import com.fernanda.finpro.events.SoundEffect;
+import com.fernanda.finpro.events.SoundQueue;
 import com.fernanda.finpro.singleton.GameAssetManager;
 import com.fernanda.finpro.strategy.AttackStrategy;
 import com.fernanda.finpro.strategy.SmashAttackStrategy;
 import com.fernanda.finpro.strategy.MeteorAttackStrategy;
+import com.fernanda.finpro.world.GameRandom;
 
 public class Boss {
 
@@ -46,6 +49,9 @@ public class Boss {
     private final float HAND_HEIGHT = 190f;
 
     private MeteorController meteorController;
+    private final SoundQueue sounds = new SoundQueue(); // Smash + meteor, dikirim lewat flushSounds()
+    private final GameRandom random; // Stream BOSS dari RandomService
+    private EventPublisher events; // DAMAGE smash, meteor & hit dari player (opsional)
 
     private Animation<TextureRegion> idleAnim;
     private Animation<TextureRegion> attackAnim;
@@ -54,7 +60,8 @@ public class Boss {
     private Animation<TextureRegion> deathAnim;
     private Animation<TextureRegion> castingAnim;
 
-    public Boss(float x, float y) {
+    public Boss(float x, float y, GameRandom random) {
+        this.random = random;
         this.position = new Vector2(x, y);
         this.stateTimer = 0;
         this.currentState = BossState.IDLE;
@@ -66,7 +73,7 @@ public class Boss {
         this.leftHandRect = new Rectangle(0, 0, HAND_WIDTH, HAND_HEIGHT);
         this.rightHandRect = new Rectangle(0, 0, HAND_WIDTH, HAND_HEIGHT);
 
-        this.meteorController = new MeteorController();
+        this.meteorController = new MeteorController(random, sounds);
 
         this.smashStrategy = new SmashAttackStrategy();
         this.meteorStrategy = new MeteorAttackStrategy(meteorController);
@@ -157,7 +164,7 @@ public class Boss {
      * Strategy Pattern - Pick and set random attack strategy
      */
     private void pickRandomAttack() {
-        int dice = MathUtils.random(1, 2);
+        int dice = random.random(1, 2);
 
         this.currentState = BossState.ATTACKING;
 
@@ -174,10 +181,40 @@ public class Boss {
         }
     }
 
+    /**
+     * Kapasitas meteor aktif dan jumlah meteor per spawn saat hujan meteor.
+     * Kapasitas baru membuang meteor yang sedang aktif, jadi panggil sebelum boss bertarung.
+     */
+    public void setMeteorRain(int maxMeteors, int meteorsPerSpawn) {
+        if (meteorController.getMaxMeteors() != maxMeteors) meteorController.setMaxMeteors(maxMeteors);
+        meteorController.setMeteorsPerSpawn(meteorsPerSpawn);
+    }
+
+    /**
+     * Bus untuk event DAMAGE selama pertarungan boss. Diisi buffer event job boss.
+     */
+    public void setEventBus(EventPublisher events) {
+        this.events = events;
+        meteorController.setEventBus(events);
+    }
+
+    public MeteorController getMeteorController() {
+        return meteorController;
+    }
+
+    public void queueSound(SoundEffect effect) {
+        sounds.add(effect);
+    }
+
+    /** Kirim sound smash / meteor tick ini ke buffer event job boss. */
+    public void flushSounds(EventPublisher events) {
+        sounds.flush(events, position.x, position.y);
+    }
+
     public void checkSmashCollision(Player player) {
         if (isDead) return;
         if (leftHandRect.overlaps(player.getHitbox()) || rightHandRect.overlaps(player.getHitbox())) {
-            player.takeDamage(attackDamage);
+            if (player.takeDamage(attackDamage) && events != null) events.publishDamage(player, attackDamage);
             System.out.println("Boss Smash Hit! Player took " + attackDamage + " damage");
         }
     }
@@ -203,6 +240,7 @@ public class Boss {
         if (isDead || currentState == BossState.DYING) return;
 
         this.currentHealth -= damage;
+        if (events != null) events.publishDamage(this, damage);
         if (this.currentHealth <= 0) {
             this.currentHealth = 0;
 
@@ -8,54 +8,52 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.math.Vector2;
+import com.fernanda.finpro.events.EventPublisher;
+import com.fernanda.finpro.events.SoundEffect;
+import com.fernanda.finpro.events.SoundQueue;
 import com.fernanda.finpro.singleton.GameAssetManager;
-
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import com.fernanda.finpro.world.GameRandom;
 
 public class MeteorController {
 
-    private class Meteor {
-        Vector2 position;
-        float targetY;
-        float startY;
-        float stateTimer;
-        boolean isExploding;
-        boolean shouldRemove;
-
-        Rectangle hitbox;
+    public static final int DEFAULT_MAX_METEORS = 64;
 
-        public Meteor(float x, float targetY) {
-            this.targetY = targetY;
-            this.startY = 1168f + 200f;
-            this.position = new Vector2(x, startY);
+    // Meteor aktif disimpan sebagai Structure-of-Arrays, index [0, count) selalu terisi.
+    // Hapus = swap dengan meteor terakhir, jadi tidak ada alokasi maupun Iterator per tick.
+    private float[] posX;
+    private float[] posY;
+    private float[] targetY;
+    private float[] stateTimer;
+    private boolean[] exploding;
+    private int count;
+    private int maxMeteors;
 
-            this.stateTimer = 0;
-            this.isExploding = false;
-            this.shouldRemove = false;
-
-            this.hitbox = new Rectangle(x - 15, startY, 30, 30);
-        }
-    }
-
-    private List<Meteor> activeMeteors;
     private boolean isRaining;
     private float rainDurationTimer;
     private float spawnTimer;
+    private int meteorsPerSpawn = 1;
 
     private final float RAIN_DURATION = 3.0f;
     private final float SPAWN_INTERVAL = 0.25f;
     private final float FALL_SPEED = 700f;
     private final int DAMAGE = 70;
 
+    private static final float START_Y = 1168f + 200f;
+    private static final float FALL_HITBOX_SIZE = 30f;
+    private static final float EXPLOSION_WIDTH = 200f;
+    private static final float EXPLOSION_HEIGHT = 90f;
+
     private Animation<TextureRegion> fireballAnim;
     private Animation<TextureRegion> explosionAnim;
     private Texture shadowTexture;
-
-    public MeteorController() {
-        activeMeteors = new ArrayList<>();
+    private final GameRandom random; // Dibagi dengan Boss (stream BOSS)
+    private final SoundQueue sounds; // Milik Boss
+    private EventPublisher events; // DAMAGE ledakan ke player (opsional, di-set lewat Boss)
+
+    public MeteorController(GameRandom random, SoundQueue sounds) {
+        this.random = random;
+        this.sounds = sounds;
+        setMaxMeteors(DEFAULT_MAX_METEORS);
         isRaining = false;
 
         Texture fireballTex = GameAssetManager.getInstance().getTexture("Fireball.png");
@@ -91,48 +89,48 @@ public class MeteorController {
             rainDurationTimer += dt;
             spawnTimer += dt;
             if (spawnTimer >= SPAWN_INTERVAL) {
-                spawnMeteor(player);
+                for (int n = 0; n < meteorsPerSpawn; n++) {
+                    spawnMeteor(player);
+                }
                 spawnTimer = 0;
             }
             if (rainDurationTimer >= RAIN_DURATION) isRaining = false;
         }
 
-        Iterator<Meteor> iter = activeMeteors.iterator();
-        while (iter.hasNext()) {
-            Meteor m = iter.next();
-            m.stateTimer += dt;
+        if (count == 0) return;
 
-            m.hitbox.setPosition(m.position.x - m.hitbox.width/2, m.position.y);
+        // Hitbox player diambil sekali; semua meteor yang meledak tick ini dicek dalam pass yang sama
+        Rectangle body = player.getHitbox();
+        float bodyX = body.x, bodyY = body.y, bodyW = body.width, bodyH = body.height;
 
-            if (!m.isExploding) {
-                m.position.y -= FALL_SPEED * dt;
+        int i = 0;
+        while (i < count) {
+            stateTimer[i] += dt;
 
-                if (m.position.y <= m.targetY) {
-                    m.position.y = m.targetY;
-                    m.isExploding = true;
-                    m.stateTimer = 0;
-
-                    com.badlogic.gdx.audio.Sound crashSound = GameAssetManager.getInstance().getMeteorCrashSound();
-                    if (crashSound != null) {
-                        crashSound.play(0.6f);
-                    }
+            if (!exploding[i]) {
+                posY[i] -= FALL_SPEED * dt;
 
-                    float newWidth = 200f;
-                    float newHeight = 90f;
+                if (posY[i] <= targetY[i]) {
+                    posY[i] = targetY[i];
+                    exploding[i] = true;
+                    stateTimer[i] = 0;
 
-                    m.hitbox.setSize(newWidth, newHeight);
+                    sounds.add(SoundEffect.METEOR_CRASH);
 
-                    m.hitbox.setPosition(m.position.x - (newWidth / 2), m.position.y);
-
-                    checkDamage(m, player);
-                }
-            } else {
-                if (explosionAnim.isAnimationFinished(m.stateTimer)) {
-                    m.shouldRemove = true;
+                    // Area ledakan: 200 x 90, tengah bawah di titik jatuh
+                    float hitX = posX[i] - EXPLOSION_WIDTH / 2;
+                    float hitY = posY[i];
+                    if (bodyX < hitX + EXPLOSION_WIDTH && bodyX + bodyW > hitX
+                        && bodyY < hitY + EXPLOSION_HEIGHT && bodyY + bodyH > hitY) {
+                        if (player.takeDamage(DAMAGE) && events != null) events.publishDamage(player, DAMAGE);
+                    }
                 }
+            } else if (explosionAnim.isAnimationFinished(stateTimer[i])) {
+                // Meteor terakhir pindah ke slot i dan diproses di iterasi berikutnya
+                remove(i);
+                continue;
             }
-
-            if (m.shouldRemove) iter.remove();
+            i++;
         }
     }
 
@@ -149,32 +147,72 @@ public class MeteorController {
         float maxY = 600f;
         // ---------------------------------------------------
 
-        float randX = MathUtils.random(minX, maxX);
-        float randY = MathUtils.random(minY, maxY);
+        float randX = random.random(minX, maxX);
+        float randY = random.random(minY, maxY);
 
         // Mekanisme 50% meteor mengincar posisi player
-        if (MathUtils.randomBoolean(0.5f)) {
+        if (random.randomBoolean(0.5f)) {
             randX = player.position.x;
             randY = player.position.y;
         }
 
-        activeMeteors.add(new Meteor(randX, randY));
+        // Penuh: posisi tetap diundi supaya urutan RNG sama berapa pun kapasitasnya
+        if (count == maxMeteors) return;
+
+        posX[count] = randX;
+        posY[count] = START_Y;
+        targetY[count] = randY;
+        stateTimer[count] = 0;
+        exploding[count] = false;
+        count++;
     }
 
-    private void checkDamage(Meteor m, Player player) {
-        if (player.getHitbox().overlaps(m.hitbox)) {
-            player.takeDamage(DAMAGE);
-        }
+    private void remove(int i) {
+        int last = --count;
+        posX[i] = posX[last];
+        posY[i] = posY[last];
+        targetY[i] = targetY[last];
+        stateTimer[i] = stateTimer[last];
+        exploding[i] = exploding[last];
     }
 
+    /**
+     * Batas meteor aktif sekaligus. Meteor yang sedang aktif dibuang jika kapasitas diganti.
+     */
+    public void setMaxMeteors(int maxMeteors) {
+        if (maxMeteors < 1) throw new IllegalArgumentException("maxMeteors harus >= 1: " + maxMeteors);
+        this.maxMeteors = maxMeteors;
+        posX = new float[maxMeteors];
+        posY = new float[maxMeteors];
+        targetY = new float[maxMeteors];
+        stateTimer = new float[maxMeteors];
+        exploding = new boolean[maxMeteors];
+        count = 0;
+    }
+
+    /**
+     * Jumlah meteor per spawn (default 1). Dinaikkan untuk fase boss yang lebih berat.
+     */
+    public void setMeteorsPerSpawn(int meteorsPerSpawn) {
+        if (meteorsPerSpawn < 1) throw new IllegalArgumentException("meteorsPerSpawn harus >= 1: " + meteorsPerSpawn);
+        this.meteorsPerSpawn = meteorsPerSpawn;
+    }
+
+    public void setEventBus(EventPublisher events) {
+        this.events = events;
+    }
+
+    public int getMaxMeteors() { return maxMeteors; }
+    public int getActiveCount() { return count; }
+
     public void render(SpriteBatch batch) {
-        for (Meteor m : activeMeteors) {
+        for (int i = 0; i < count; i++) {
 
             // --- RENDER BAYANGAN (JUMBO VERSION) ---
-            if (!m.isExploding && shadowTexture != null) {
+            if (!exploding[i] && shadowTexture != null) {
 
-                float distTotal = m.startY - m.targetY;
-                float distCurrent = m.position.y - m.targetY;
+                float distTotal = START_Y - targetY[i];
+                float distCurrent = posY[i] - targetY[i];
                 float progress = 1.0f - (distCurrent / distTotal);
 
                 // Scale effect: Membesar dari 60% ke 120%
@@ -195,8 +233,8 @@ public class MeteorController {
                 batch.setColor(0f, 0f, 0f, 0.6f);
 
                 batch.draw(shadowTexture,
-                    m.position.x - shadowW/2,
-                    m.targetY - shadowH/2 + 5,
+                    posX[i] - shadowW/2,
+                    targetY[i] - shadowH/2 + 5,
                     shadowW, shadowH);
 
                 // RESET WARNA (PENTING)
@@ -208,13 +246,13 @@ public class MeteorController {
             float w, h;
             float drawOffsetY;
 
-            if (!m.isExploding) {
-                currentFrame = fireballAnim.getKeyFrame(m.stateTimer, true);
+            if (!exploding[i]) {
+                currentFrame = fireballAnim.getKeyFrame(stateTimer[i], true);
                 w = currentFrame.getRegionWidth() * 1.5f;
                 h = currentFrame.getRegionHeight() * 1.5f;
                 drawOffsetY = 0;
             } else {
-                currentFrame = explosionAnim.getKeyFrame(m.stateTimer, false);
+                currentFrame = explosionAnim.getKeyFrame(stateTimer[i], false);
                 w = currentFrame.getRegionWidth() * 2.0f;
                 h = currentFrame.getRegionHeight() * 2.0f;
                 drawOffsetY = 0;
@@ -222,8 +260,8 @@ public class MeteorController {
 
             if (currentFrame != null) {
                 batch.draw(currentFrame,
-                    m.position.x - w/2,
-                    m.position.y + drawOffsetY,
+                    posX[i] - w/2,
+                    posY[i] + drawOffsetY,
                     w, h);
             }
         }
@@ -231,17 +269,15 @@ public class MeteorController {
 
     public void renderDebug(ShapeRenderer shapeRenderer) {
         /*
-        for (Meteor m : activeMeteors) {
-            if (m.isExploding) {
+        for (int i = 0; i < count; i++) {
+            if (exploding[i]) {
                 shapeRenderer.setColor(Color.RED);
+                shapeRenderer.rect(posX[i] - EXPLOSION_WIDTH / 2, posY[i], EXPLOSION_WIDTH, EXPLOSION_HEIGHT);
             } else {
                 shapeRenderer.setColor(Color.YELLOW);
-            }
-            shapeRenderer.rect(m.hitbox.x, m.hitbox.y, m.hitbox.width, m.hitbox.height);
-
-            if (!m.isExploding) {
+                shapeRenderer.rect(posX[i] - FALL_HITBOX_SIZE / 2, posY[i], FALL_HITBOX_SIZE, FALL_HITBOX_SIZE);
                 shapeRenderer.setColor(Color.GRAY);
-                shapeRenderer.line(m.position.x, m.position.y, m.position.x, m.targetY);
+                shapeRenderer.line(posX[i], posY[i], posX[i], targetY[i]);
             }
         }
         */
@@ -249,7 +285,7 @@ public class MeteorController {
 
     public void reset() {
         this.isRaining = false;
-        this.activeMeteors.clear();
+        this.count = 0;
         this.rainDurationTimer = 0;
         this.spawnTimer = 0;
     }
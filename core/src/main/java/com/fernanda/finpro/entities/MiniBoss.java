@@ -5,10 +5,13 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.fernanda.finpro.components.ItemType;
+import com.fernanda.finpro.events.SoundEffect;
+import com.fernanda.finpro.projectile.ProjectileType;
 import com.fernanda.finpro.singleton.GameAssetManager;
+import com.fernanda.finpro.world.GameRandom;
+import com.fernanda.finpro.world.WorldSnapshot;
 
 public class MiniBoss extends Monster {
 
@@ -34,6 +37,9 @@ public class MiniBoss extends Monster {
     private static final float HIT_START_TIME = 0.75f;
     private static final float HIT_END_TIME   = 1.2f;
 
+    // Saat mengejar di luar jangkauan melee, lempar ice shard (ProjectileSystem) ke arah player
+    private static final float SHARD_COOLDOWN = 2.5f;
+
     private Animation<TextureRegion> idleAnim;
     private Animation<TextureRegion> walkAnim;
     private Animation<TextureRegion> attackAnim;
@@ -41,6 +47,7 @@ public class MiniBoss extends Monster {
     private Vector2 wanderTarget = new Vector2();
     private float wanderWaitTimer = 0f;
     private boolean isWanderWalking = false;
+    private float shardTimer = 0f;
 
     public MiniBoss(float x, float y) {
         super(x, y, BOSS_SPEED, BOSS_HP, BOSS_DMG, WIDTH, HEIGHT, HABITAT_MIN, HABITAT_MAX);
@@ -57,34 +64,40 @@ public class MiniBoss extends Monster {
     }
 
     @Override
-    public void takeDamage(int amount) {
-        if (isDead || immunityTimer > 0) return;
+    public void reset(float x, float y) {
+        super.reset(x, y);
+        wanderTarget.set(x, y);
+        wanderWaitTimer = 0f;
+        isWanderWalking = false;
+        shardTimer = 0f;
+    }
+
+    @Override
+    public boolean takeDamage(int amount) {
+        if (isDead || immunityTimer > 0) return false;
 
         currentHealth -= amount;
         immunityTimer = 0.4f;
-        
-        com.badlogic.gdx.audio.Sound hurtSound = com.fernanda.finpro.singleton.GameAssetManager.getInstance().getMonsterHurtSound();
-        if (hurtSound != null) {
-            hurtSound.play(0.4f);
-        }
 
         if (currentHealth <= 0) {
             isDead = true;
             currentState = State.DEAD;
         }
+        return true;
     }
 
     @Override
-    public void aiBehavior(float dt, Player player) {
+    public void aiBehavior(float dt, WorldSnapshot world) {
         if (isDead) return;
 
         float myCenterX = position.x + (WIDTH / 2);
         float myCenterY = position.y + (HEIGHT / 2);
 
-        float playerCenterX = player.position.x + (player.getWidth() / 2);
-        float playerCenterY = player.position.y + (player.getHeight() / 2);
+        float playerCenterX = world.playerCenterX;
+        float playerCenterY = world.playerCenterY;
 
         float distToPlayer = Vector2.dst(myCenterX, myCenterY, playerCenterX, playerCenterY);
+        if (shardTimer > 0) shardTimer -= dt;
 
         if (currentState != State.WANDER && currentState != State.DEAD && currentState != State.ATTACKING) {
 
@@ -98,7 +111,7 @@ public class MiniBoss extends Monster {
             case IDLE:
             case WANDER:
                 handleWander(dt);
-                if (distToPlayer < detectionRadius) {
+                if (distToPlayer < detectionRadius && canSeePlayer(world, myCenterX, myCenterY)) {
                     currentState = State.CHASE;
                 }
                 break;
@@ -108,7 +121,7 @@ public class MiniBoss extends Monster {
                 break;
 
             case CHASE:
-                moveTowards(new Vector2(playerCenterX, playerCenterY));
+                moveTowards(playerCenterX, playerCenterY);
 
                 if (distToPlayer <= attackRadius) {
                     currentState = State.PREPARE_ATTACK;
@@ -117,6 +130,10 @@ public class MiniBoss extends Monster {
                 } else if (distToPlayer > detectionRadius * 1.5f) {
                     currentState = State.WANDER;
                     wanderTarget.set(spawnPosition);
+                } else if (shardTimer <= 0 && canSeePlayer(world, myCenterX, myCenterY)) {
+                    queueProjectile(ProjectileType.ICE_SHARD, playerCenterX, playerCenterY);
+                    queueSound(SoundEffect.ICE_ATTACK);
+                    shardTimer = SHARD_COOLDOWN;
                 }
                 break;
 
@@ -127,10 +144,7 @@ public class MiniBoss extends Monster {
                     currentState = State.ATTACKING;
                     stateTimer = 0;
                     
-                    com.badlogic.gdx.audio.Sound attackSound = GameAssetManager.getInstance().getIceAttackSound();
-                    if (attackSound != null) {
-                        attackSound.play(0.5f);
-                    }
+                    queueSound(SoundEffect.ICE_ATTACK);
                 }
                 break;
 
@@ -159,7 +173,12 @@ public class MiniBoss extends Monster {
                 break;
         }
 
-        position.mulAdd(velocity, dt);
+        moveBy(velocity.x * dt, velocity.y * dt);
+    }
+
+    @Override
+    protected void tickWanderTimers(float dt) {
+        if (!isWanderWalking) wanderWaitTimer -= dt;
     }
 
     private void handleWander(float dt) {
@@ -168,12 +187,12 @@ public class MiniBoss extends Monster {
                 moveTowards(wanderTarget);
                 if (stateTimer > 5.0f) {
                     isWanderWalking = false;
-                    wanderWaitTimer = MathUtils.random(1.0f, 3.0f);
+                    wanderWaitTimer = random.random(1.0f, 3.0f);
                     velocity.set(0, 0);
                 }
             } else {
                 isWanderWalking = false;
-                wanderWaitTimer = MathUtils.random(2.0f, 4.0f);
+                wanderWaitTimer = random.random(2.0f, 4.0f);
                 velocity.set(0, 0);
             }
         } else {
@@ -181,8 +200,8 @@ public class MiniBoss extends Monster {
             velocity.set(0, 0);
 
             if (wanderWaitTimer <= 0) {
-                float rx = spawnPosition.x + MathUtils.random(-300, 300);
-                float ry = spawnPosition.y + MathUtils.random(-300, 300);
+                float rx = spawnPosition.x + random.random(-300, 300);
+                float ry = spawnPosition.y + random.random(-300, 300);
                 wanderTarget.set(rx, ry);
                 isWanderWalking = true;
                 stateTimer = 0;
@@ -260,8 +279,8 @@ public class MiniBoss extends Monster {
             float width = currentFrame.getRegionWidth() * scale;
             float height = currentFrame.getRegionHeight() * scale;
 
-            float drawX = position.x + (WIDTH - width) / 2f;
-            float drawY = (position.y + (HEIGHT - height) / 2f) + VISUAL_OFFSET_Y;
+            float drawX = renderPosition.x + (WIDTH - width) / 2f;
+            float drawY = (renderPosition.y + (HEIGHT - height) / 2f) + VISUAL_OFFSET_Y;
 
             if (facingRight) {
                 batch.draw(currentFrame, drawX, drawY, width, height);
@@ -290,7 +309,7 @@ public class MiniBoss extends Monster {
     }
 
     @Override
-    public ItemType rollDrop() {
+    public ItemType rollDrop(GameRandom dropRandom) {
         return ItemType.ORC_SKULL ;
     }
 }
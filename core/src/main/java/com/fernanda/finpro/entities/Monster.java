@@ -4,15 +4,25 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.fernanda.finpro.enums.WorldType;
+import com.fernanda.finpro.events.EventPublisher;
+import com.fernanda.finpro.events.SoundEffect;
+import com.fernanda.finpro.pool.Poolable;
+import com.fernanda.finpro.projectile.ProjectileSystem;
+import com.fernanda.finpro.projectile.ProjectileType;
 import com.fernanda.finpro.singleton.GameAssetManager;
+import com.fernanda.finpro.world.CollisionGrid;
+import com.fernanda.finpro.world.GameRandom;
+import com.fernanda.finpro.world.LineOfSight;
+import com.fernanda.finpro.world.TileSweep;
+import com.fernanda.finpro.world.WorldSnapshot;
 
 import java.util.ArrayList;
 import java.util.List;
 
-public abstract class Monster {
+public abstract class Monster implements Poolable {
 
     public enum State {
         IDLE, WANDER, CHASE, PREPARE_ATTACK, ATTACKING, COOLDOWN, HURT, DEAD
@@ -25,6 +35,10 @@ public abstract class Monster {
     public Rectangle bodyRect;
     public Rectangle attackRect;
 
+    // --- INTERPOLASI RENDER ---
+    public Vector2 previousPosition;
+    protected Vector2 renderPosition;
+
     // --- STATS ---
     protected float speed;
     protected float detectionRadius;
@@ -48,11 +62,51 @@ public abstract class Monster {
 
     protected State currentState;
 
+    // RNG milik monster ini (wander). Di-seed oleh SpawnManager dari stream AI,
+    // jadi aman dipakai dari thread worker dan hasilnya bisa diulang.
+    protected final GameRandom random = new GameRandom(0);
+
+    // --- AI LOD (diisi oleh AiLodScheduler) ---
+    public float lodAccumulator;
+    public int lodTier;
+    public boolean lodRan; // true jika AI penuh dijalankan tick ini
+
+    // --- BROADPHASE (diatur oleh CollisionManager) ---
+    public int collisionHandle = -1; // Handle di SpatialHash, divalidasi pemiliknya oleh CollisionManager
+
+    // --- ACTIVATION (diatur oleh ActivationManager) ---
+    private boolean sleeping;
+    private float sleepStartTime;
+
+    // Sound dari AI ditunda sampai fase merge, lalu dikirim ke EventBus (diputar AudioSubscriber di main thread)
+    private SoundEffect pendingSound;
+
+    // Tembakan dari AI juga ditunda sampai merge, lalu masuk ke ProjectileSystem world
+    private ProjectileType pendingProjectile;
+    private float pendingProjectileTargetX;
+    private float pendingProjectileTargetY;
+
+    // Hitungan line of sight monster ini, ditulis thread AI-nya sendiri lalu disetor di merge
+    private int sightQueries;
+    private int sightRaycasts;
+
+    // Scratch per monster (AI bisa jalan paralel, jadi tidak boleh dibagi antar monster)
+    protected final Vector2 steerDir = new Vector2();
+    protected final Vector2 tmp = new Vector2();
+
+    // Slot di pool MonsterFactory
+    private int poolSlot = -1;
+
+    // Tile solid world tempat monster hidup (diset SpawnManager saat spawn)
+    protected CollisionGrid collision = GameAssetManager.getInstance().getCollisionGrid(WorldType.FOREST);
+
     // Constructor menerima zoneMin dan zoneMax
     public Monster(float x, float y, float speed, int maxHp, int damage, float width, float height, float zoneMin, float zoneMax) {
         this.position = new Vector2(x, y);
         this.spawnPosition = new Vector2(x, y); // Simpan posisi spawn
         this.velocity = new Vector2(0, 0);
+        this.previousPosition = new Vector2(x, y);
+        this.renderPosition = new Vector2(x, y);
         this.speed = speed;
         this.maxHealth = maxHp;
         this.currentHealth = maxHp;
@@ -71,6 +125,38 @@ public abstract class Monster {
         this.facingRight = true;
     }
 
+    /**
+     * Kembalikan monster ke kondisi baru spawn di (x, y), sama persis dengan hasil constructor.
+     * Dipakai saat monster diambil ulang dari pool. Subclass wajib memanggil super.reset().
+     */
+    public void reset(float x, float y) {
+        position.set(x, y);
+        spawnPosition.set(x, y);
+        velocity.set(0, 0);
+        previousPosition.set(x, y);
+        renderPosition.set(x, y);
+        bodyRect.setPosition(x, y);
+        attackRect.set(0, 0, 0, 0);
+
+        currentHealth = maxHealth;
+        currentState = State.WANDER;
+        stateTimer = 0;
+        immunityTimer = 0;
+        isDead = false;
+        facingRight = true;
+
+        lodAccumulator = 0f;
+        lodTier = 0;
+        lodRan = false;
+        sleeping = false;
+        sleepStartTime = 0f;
+        pendingSound = null;
+        pendingProjectile = null;
+        sightQueries = 0;
+        sightRaycasts = 0;
+        collisionHandle = -1;
+    }
+
     protected Animation<TextureRegion> createAnimation(String assetName, int cols, float frameDuration, Animation.PlayMode mode) {
         Texture texture = GameAssetManager.getInstance().getTexture(assetName);
 
@@ -106,15 +192,14 @@ public abstract class Monster {
         return anim;
     }
 
-    public void takeDamage(int amount) {
-        if (isDead || immunityTimer > 0) return;
+    /**
+     * @return false jika damage diabaikan (sudah mati / masih kebal). Sound hurt diputar oleh consumer EventBus.
+     */
+    public boolean takeDamage(int amount) {
+        if (isDead || immunityTimer > 0) return false;
 
         currentHealth -= amount;
-        immunityTimer = 0.4f; // Jeda kebal visual        
-        com.badlogic.gdx.audio.Sound hurtSound = com.fernanda.finpro.singleton.GameAssetManager.getInstance().getMonsterHurtSound();
-        if (hurtSound != null) {
-            hurtSound.play(0.4f);
-        }
+        immunityTimer = 0.4f; // Jeda kebal visual
         if (currentHealth <= 0) {
             isDead = true;
             currentState = State.DEAD;
@@ -122,6 +207,7 @@ public abstract class Monster {
             currentState = State.HURT;
             stateTimer = 0;
         }
+        return true;
     }
 
     public void update(float dt) {
@@ -133,6 +219,44 @@ public abstract class Monster {
         bodyRect.setPosition(position.x, position.y);
     }
 
+    /**
+     * Tick murah untuk monster jauh: hanya timer yang maju, tidak ada AI / gerak.
+     */
+    public void advanceTimers(float dt) {
+        if (immunityTimer > 0) immunityTimer -= dt;
+        stateTimer += dt;
+        tickWanderTimers(dt);
+    }
+
+    public void seedRandom(long seed) {
+        random.setSeed(seed);
+    }
+
+    public void sleep(float simTime) {
+        sleeping = true;
+        sleepStartTime = simTime;
+        velocity.set(0, 0);
+    }
+
+    /**
+     * Bangun dari tidur: timer dimajukan sebanyak waktu tidur (catch-up),
+     * posisi render disamakan supaya tidak ada lompatan interpolasi.
+     */
+    public void wake(float simTime) {
+        sleeping = false;
+        advanceTimers(simTime - sleepStartTime);
+        lodAccumulator = 0f;
+        previousPosition.set(position);
+        renderPosition.set(position);
+        bodyRect.setPosition(position.x, position.y);
+    }
+
+    public boolean isSleeping() { return sleeping; }
+
+    // Override di subclass yang punya timer wander sendiri
+    protected void tickWanderTimers(float dt) {
+    }
+
     protected void enforceZoneBoundaries() {
         if (position.x < 0) position.x = 0;
         if (position.x > 1168 - bodyRect.width) position.x = 1168 - bodyRect.width;
@@ -141,11 +265,15 @@ public abstract class Monster {
     }
 
     protected void moveTowards(Vector2 target) {
+        moveTowards(target.x, target.y);
+    }
+
+    protected void moveTowards(float targetX, float targetY) {
         float myCenterX = position.x + (bodyRect.width / 2);
         float myCenterY = position.y + (bodyRect.height / 2);
 
         // Arah ideal: Dari Tengah Monster ke Target (Target diasumsikan titik tengah Player)
-        Vector2 direction = new Vector2(target).sub(myCenterX, myCenterY).nor();
+        Vector2 direction = steerDir.set(targetX, targetY).sub(myCenterX, myCenterY).nor();
 
         // Jarak sensor (cek 32 pixel ke depan)
         float checkDist = 32f;
@@ -161,15 +289,15 @@ public abstract class Monster {
         // Jika sensor menabrak tembok
         if (isTileBlocked(feelerX, feelerY)) {
             // Coba cari jalan ke KANAN (serong 45 derajat)
-            Vector2 rightDir = new Vector2(direction).rotateDeg(-45);
+            Vector2 rightDir = tmp.set(direction).rotateDeg(-45);
             if (!isTileBlocked(centerX + rightDir.x * checkDist, centerY + rightDir.y * checkDist)) {
-                direction = rightDir;
+                direction.set(rightDir);
             }
             // Coba cari jalan ke KIRI (serong 45 derajat)
             else {
-                Vector2 leftDir = new Vector2(direction).rotateDeg(45);
+                Vector2 leftDir = tmp.set(direction).rotateDeg(45);
                 if (!isTileBlocked(centerX + leftDir.x * checkDist, centerY + leftDir.y * checkDist)) {
-                    direction = leftDir;
+                    direction.set(leftDir);
                 }
             }
         }
@@ -179,28 +307,90 @@ public abstract class Monster {
 
     // Method Helper untuk membaca Map (Mendeteksi Tembok)
     public boolean isTileBlocked(float x, float y) {
-        com.badlogic.gdx.maps.tiled.TiledMap map = GameAssetManager.getInstance().getMap();
+        return collision.isSolidAt(x, y);
+    }
 
-        int tileX = (int) (x / 16);
-        int tileY = (int) (y / 16);
+    /**
+     * Gerak dengan swept AABB body terhadap tile solid (meluncur di sepanjang tembok).
+     * @return TileSweep.HIT_X / HIT_Y untuk sumbu yang tertahan
+     */
+    public int moveBy(float dx, float dy) {
+        return TileSweep.move(collision, position, bodyRect.width, bodyRect.height, dx, dy);
+    }
 
-        if (tileX < 0 || tileX >= 73 || tileY < 0 || tileY >= 73) return true;
+    public void setCollisionGrid(CollisionGrid collision) {
+        this.collision = collision;
+    }
 
-        String[] collisionLayers = { "building_coklat", "building_hijau" };
+    protected void queueSound(SoundEffect effect) {
+        pendingSound = effect;
+    }
 
-        for (String layerName : collisionLayers) {
-            TiledMapTileLayer layer = (TiledMapTileLayer) map.getLayers().get(layerName);
-            if (layer != null) {
-                TiledMapTileLayer.Cell cell = layer.getCell(tileX, tileY);
-                if (cell != null && cell.getTile() != null) {
-                    return true;
-                }
-            }
+    /**
+     * Kirim sound yang diantrikan aiBehavior ke buffer event job ai; Sound.play() sendiri terjadi di AudioSubscriber.
+     * Dipanggil dari merge AI (job yang menulis MONSTERS, boleh di thread worker).
+     */
+    public void flushPendingSound(EventPublisher events) {
+        if (pendingSound != null) {
+            events.publishSound(pendingSound, position.x, position.y);
+            pendingSound = null;
         }
-        return false;
+    }
+
+    /**
+     * Tembak projectile dari tengah badan ke arah target (hanya mengenai player).
+     * Aman dipanggil dari aiBehavior; maksimal satu tembakan per tick.
+     */
+    protected void queueProjectile(ProjectileType type, float targetX, float targetY) {
+        pendingProjectile = type;
+        pendingProjectileTargetX = targetX;
+        pendingProjectileTargetY = targetY;
+    }
+
+    /**
+     * Kirim tembakan yang diantrikan aiBehavior. Dipanggil dari merge AI (job yang menulis MONSTERS dan PROJECTILES).
+     */
+    public void flushPendingProjectile(ProjectileSystem projectiles) {
+        if (pendingProjectile != null) {
+            projectiles.fire(pendingProjectile, bodyRect.x + bodyRect.width / 2, bodyRect.y + bodyRect.height / 2,
+                pendingProjectileTargetX, pendingProjectileTargetY, ProjectileSystem.HIT_PLAYER);
+            pendingProjectile = null;
+        }
+    }
+
+    /**
+     * Line of sight ke player lewat snapshot, dihitung ke counter milik monster ini
+     * (bukan counter bersama, supaya worker AI tidak berebut cache line).
+     */
+    protected boolean canSeePlayer(WorldSnapshot world, float x, float y) {
+        int result = world.querySight(x, y);
+        if ((result & LineOfSight.COUNTED) != 0) sightQueries++;
+        if ((result & LineOfSight.RAYCAST) != 0) sightRaycasts++;
+        return (result & LineOfSight.VISIBLE) != 0;
+    }
+
+    /**
+     * Setor hitungan line of sight ke LineOfSight world. Dipanggil dari merge AI, yang berjalan
+     * sekali per tick setelah semua worker AI selesai (job yang menulis MONSTERS).
+     */
+    public void flushSightCounts(LineOfSight sight) {
+        if (sightQueries == 0) return;
+        if (sight != null) sight.addCounts(sightQueries, sightRaycasts);
+        sightQueries = 0;
+        sightRaycasts = 0;
+    }
+
+    public void savePreviousPosition() {
+        previousPosition.set(position);
+    }
+
+    public void interpolate(float alpha) {
+        renderPosition.set(previousPosition).lerp(position, alpha);
     }
 
     // Getters
+    public State getState() { return currentState; }
+    public Vector2 getRenderPosition() { return renderPosition; }
     public Rectangle getBodyHitbox() { return bodyRect; }
     public Rectangle getAttackHitbox() { return attackRect; }
     public boolean isDead() { return isDead; }
@@ -212,9 +402,12 @@ public abstract class Monster {
     public int getCurrentHealth() { return currentHealth; }
     public int getMaxHealth() { return maxHealth; }
 
+    @Override public int getPoolSlot() { return poolSlot; }
+    @Override public void setPoolSlot(int slot) { this.poolSlot = slot; }
+
     // Abstract
-    public abstract void aiBehavior(float dt, Player player);
+    public abstract void aiBehavior(float dt, WorldSnapshot world);
     public abstract void render(com.badlogic.gdx.graphics.g2d.SpriteBatch batch);
     public abstract void renderDebug(ShapeRenderer shapeRenderer);
-    public abstract com.fernanda.finpro.components.ItemType rollDrop();
+    public abstract com.fernanda.finpro.components.ItemType rollDrop(GameRandom dropRandom);
 }
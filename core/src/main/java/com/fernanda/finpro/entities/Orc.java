@@ -6,11 +6,12 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.fernanda.finpro.components.ItemType;
 import com.fernanda.finpro.singleton.GameAssetManager;
+import com.fernanda.finpro.world.GameRandom;
+import com.fernanda.finpro.world.WorldSnapshot;
 
 public class Orc extends Monster {
 
@@ -49,6 +50,7 @@ public class Orc extends Monster {
     private Animation<TextureRegion> deathAnim;
 
     private Vector2 wanderTarget = new Vector2();
+    private final Rectangle predictedAttackRect = new Rectangle();
     private float wanderWaitTimer = 0f;
     private boolean isWanderWalking = false;
     private boolean forceReverse = false;
@@ -71,6 +73,15 @@ public class Orc extends Monster {
         this.deathDuration = 1.5f; // Body lingers for a while
     }
 
+    @Override
+    public void reset(float x, float y) {
+        super.reset(x, y);
+        wanderTarget.set(x, y);
+        wanderWaitTimer = 0f;
+        isWanderWalking = false;
+        forceReverse = false;
+    }
+
     private Rectangle getPredictedAttackHitbox() {
         float atkWidth = 25f;
         float atkHeight = 60f;
@@ -87,20 +98,20 @@ public class Orc extends Monster {
 
         float atkY = position.y + (HEIGHT / 2) - (atkHeight / 2) - offsetDown;
 
-        // Return rectangle baru (hanya untuk pengecekan)
-        return new Rectangle(atkX, atkY, atkWidth, atkHeight);
+        // Rectangle dipakai ulang (hanya untuk pengecekan, jangan disimpan)
+        return predictedAttackRect.set(atkX, atkY, atkWidth, atkHeight);
     }
 
     @Override
-    public void aiBehavior(float dt, Player player) {
+    public void aiBehavior(float dt, WorldSnapshot world) {
         if (isDead) return;
 
         // float distToPlayer = position.dst(player.position);
         float orcCenterX = position.x + (WIDTH / 2);
         float orcCenterY = position.y + (HEIGHT / 2);
 
-        float playerCenterX = player.position.x + (player.getWidth() / 2);
-        float playerCenterY = player.position.y + (player.getHeight() / 2);
+        float playerCenterX = world.playerCenterX;
+        float playerCenterY = world.playerCenterY;
 
         float distToPlayer = Vector2.dst(orcCenterX, orcCenterY, playerCenterX, playerCenterY);
 
@@ -114,20 +125,21 @@ public class Orc extends Monster {
 
             case WANDER:
                 handleWander(dt);
-                // Hanya kejar jika player dekat DAN player masuk area patroli
-                if (distToPlayer < detectionRadius && player.position.dst(spawnPosition) < wanderRadius * 1.5f) {
+                // Hanya kejar jika player dekat, masuk area patroli, DAN tidak terhalang tembok
+                if (distToPlayer < detectionRadius && spawnPosition.dst(world.playerX, world.playerY) < wanderRadius * 1.5f
+                    && canSeePlayer(world, orcCenterX, orcCenterY)) {
                     currentState = State.CHASE;
                 }
                 break;
 
             case CHASE:
-                moveTowards(new Vector2(playerCenterX, playerCenterY));
+                moveTowards(playerCenterX, playerCenterY);
 
                 if (distToPlayer <= attackRadius) {
                     currentState = State.PREPARE_ATTACK;
                     stateTimer = 0;
                     velocity.set(0, 0);
-                } else if (player.position.dst(spawnPosition) > wanderRadius * 2.0f) {
+                } else if (spawnPosition.dst(world.playerX, world.playerY) > wanderRadius * 2.0f) {
                     // Stop chasing if player runs too far from spawn point
                     currentState = State.WANDER;
                     wanderTarget.set(spawnPosition); // Kembali ke spawn
@@ -167,13 +179,18 @@ public class Orc extends Monster {
                 break;
         }
 
-        position.mulAdd(velocity, dt);
+        moveBy(velocity.x * dt, velocity.y * dt);
 
         if (Math.abs(velocity.x) > 0.1f) {
             facingRight = velocity.x > 0;
         }
     }
 
+    @Override
+    protected void tickWanderTimers(float dt) {
+        if (!isWanderWalking) wanderWaitTimer -= dt;
+    }
+
     private void handleWander(float dt) {
         if (isWanderWalking) {
             if (position.dst(wanderTarget) > 5f) {
@@ -182,7 +199,7 @@ public class Orc extends Monster {
                 float checkDist = 16f;
                 float centerX = position.x + (WIDTH / 2);
                 float centerY = position.y + (HEIGHT / 2);
-                Vector2 dir = new Vector2(velocity).nor();
+                Vector2 dir = tmp.set(velocity).nor();
 
                 float checkX = centerX + dir.x * checkDist;
                 float checkY = centerY + dir.y * checkDist;
@@ -191,21 +208,21 @@ public class Orc extends Monster {
                      // Nabrak Tembok!
                      velocity.set(0, 0);
                      isWanderWalking = false;
-                     wanderWaitTimer = MathUtils.random(0.5f, 1.0f); // Idle sebentar sebelum balik arah
+                     wanderWaitTimer = random.random(0.5f, 1.0f); // Idle sebentar sebelum balik arah
                      forceReverse = true; // Tandai untuk balik arah setelah tunggu
                 }
 
                 // Timeout jika kelamaan gak nyampe-nyampe (5 detik)
                 if (stateTimer > 5.0f) {
                      isWanderWalking = false;
-                     wanderWaitTimer = MathUtils.random(1.0f, 3.0f);
+                     wanderWaitTimer = random.random(1.0f, 3.0f);
                      velocity.set(0, 0);
                 }
 
             } else {
                 // Sampai di target
                 isWanderWalking = false;
-                wanderWaitTimer = MathUtils.random(2.0f, 5.0f); // Tunggu lama
+                wanderWaitTimer = random.random(2.0f, 5.0f); // Tunggu lama
                 velocity.set(0, 0);
             }
         } else {
@@ -219,18 +236,18 @@ public class Orc extends Monster {
                     // Jika facingRight (kanan), berarti nabrak tembok di kanan -> jalan ke kiri (180 derajat)
                     // Jika !facingRight (kiri), berarti nabrak tembok di kiri -> jalan ke kanan (0 derajat)
                     float baseAngle = facingRight ? 180f : 0f;
-                    float randomOffset = MathUtils.random(-45f, 45f); // Variasi sedikit
+                    float randomOffset = random.random(-45f, 45f); // Variasi sedikit
                     float angle = baseAngle + randomOffset;
 
-                    float dist = MathUtils.random(30f, wanderRadius); // Jalan agak jauh
-                    wanderTarget.set(position).add(new Vector2(dist, 0).rotateDeg(angle));
+                    float dist = random.random(30f, wanderRadius); // Jalan agak jauh
+                    wanderTarget.set(position).add(tmp.set(dist, 0).rotateDeg(angle));
 
                     forceReverse = false; // Reset flag
                 } else {
                     // Cari target baru (Random)
-                    float angle = MathUtils.random(0f, 360f);
-                    float dist = MathUtils.random(10f, wanderRadius);
-                    wanderTarget.set(spawnPosition).add(new Vector2(dist, 0).rotateDeg(angle));
+                    float angle = random.random(0f, 360f);
+                    float dist = random.random(10f, wanderRadius);
+                    wanderTarget.set(spawnPosition).add(tmp.set(dist, 0).rotateDeg(angle));
                 }
 
                 isWanderWalking = true;
@@ -299,8 +316,8 @@ public class Orc extends Monster {
 
         float width = currentFrame.getRegionWidth();
         float height = currentFrame.getRegionHeight();
-        float drawX = position.x + (WIDTH - width) / 2f;
-        float drawY = position.y + (HEIGHT - height) / 2f;
+        float drawX = renderPosition.x + (WIDTH - width) / 2f;
+        float drawY = renderPosition.y + (HEIGHT - height) / 2f;
 
         if (facingRight) {
             batch.draw(currentFrame, drawX, drawY, width, height);
@@ -331,8 +348,8 @@ public class Orc extends Monster {
          */
     }
     @Override
-    public ItemType rollDrop() {
-        float roll = MathUtils.random();
+    public ItemType rollDrop(GameRandom dropRandom) {
+        float roll = dropRandom.random();
         if (roll < 0.5f) {
             return ItemType.ORC_MEAT;
         } else {
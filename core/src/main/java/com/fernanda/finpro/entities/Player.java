@@ -5,15 +5,27 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic. gdx.graphics.g2d.TextureRegion;
 import com.badlogic. gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;import com.fernanda.finpro.components.BuffManager;import com.fernanda.finpro.components.Inventory;
+import com.fernanda.finpro.components.ItemType;
+import com.fernanda.finpro.components.Recipe;
 import com.fernanda.finpro.components.PlayerStats;
+import com.fernanda.finpro.events.EventPublisher;
+import com.fernanda.finpro.events.SoundEffect;
+import com.fernanda.finpro.events.SoundQueue;
 import com.fernanda. finpro.input.InputHandler;
 import com.fernanda. finpro.states.*;
+import com.fernanda.finpro.world.CollisionGrid;
+import com.fernanda.finpro.world.TileSweep;
 
 public class Player {
     // --- FISIKA & POSISI ---
     public Vector2 position;
     public Vector2 velocity;
     public boolean facingRight = true;
+    private CollisionGrid collision; // Tile solid world saat ini (null = gerak bebas)
+
+    // --- INTERPOLASI RENDER (posisi tick sebelumnya -> tick sekarang) ---
+    public Vector2 previousPosition;
+    private Vector2 renderPosition;
 
     // --- COMPONENTS ---
     public PlayerStats stats;
@@ -50,6 +62,10 @@ public class Player {
     private static final float DAMAGE_END_TIME   = 0.4f;
 
     private Rectangle attackRect = new Rectangle();
+    private final Rectangle hitboxRect = new Rectangle();
+
+    // Sound tick ini, dikirim ke EventBus lewat flushSounds() (job player bisa jalan di thread worker)
+    private final SoundQueue sounds = new SoundQueue();
 
     // --- COOLDOWN & TIMERS ---
     private float attackTimer = 0f;
@@ -85,6 +101,8 @@ public class Player {
     public Player(float startX, float startY) {
         this.position = new Vector2(startX, startY);
         this.velocity = new Vector2(0, 0);
+        this.previousPosition = new Vector2(startX, startY);
+        this.renderPosition = new Vector2(startX, startY);
         this.inputHandler = new InputHandler();
 
         this.idleState = new IdleState();
@@ -136,11 +154,10 @@ public class Player {
                 velocity.set(0, 0);
                 changeState(idleState);
                 dodgeCooldownTimer = DODGE_WAIT_TIME;
-                System.out.println("Dodge Selesai.  Masuk Cooldown:  " + DODGE_WAIT_TIME + " detik.");
             }
         }
 
-        position.mulAdd(velocity, dt);
+        moveBy(velocity.x * dt, velocity.y * dt);
 
         if (velocity.x > 0) {
             facingRight = true;
@@ -181,13 +198,10 @@ public class Player {
     public void dodge() {
         if (currentState == dodgeState) return;
 
-        if (dodgeCooldownTimer > 0) {
-            System.out.println("Gagal Dodge!  Sedang Cooldown.  Sisa: " + String.format("%.2f", dodgeCooldownTimer));
-            return;
-        }
+        // Dodge / attack / hit terjadi di tick path: tidak ada log di sini (println = garbage tiap kejadian)
+        if (dodgeCooldownTimer > 0) return;
 
         if (stats.useStamina(DODGE_COST)) {
-            System.out.println("Dodge Dimulai!");
             changeState(dodgeState);
             dodgeTimer = DODGE_DURATION;
 
@@ -196,8 +210,6 @@ public class Player {
             } else {
                 dodgeDirection. set(facingRight ? 1 : -1, 0);
             }
-        } else {
-            System.out. println("Stamina tidak cukup!");
         }
     }
 
@@ -207,7 +219,6 @@ public class Player {
 
         // Check energy cost (10 stamina per attack)
         if (stats.getCurrentStamina() < 10f) {
-            System.out.println("Not enough energy to attack! (Need 10)");
             return;
         }
 
@@ -225,21 +236,20 @@ public class Player {
         changeState(attackState);
         attackTimer = ATTACK_COOLDOWN;
         
-        // Play sword slash sound
-        com.badlogic.gdx.audio.Sound sfx = com.fernanda.finpro.singleton.GameAssetManager.getInstance().getSwordSlashSound();
-        if (sfx != null) {
-            sfx.play(0.5f); // Volume 50%
-        }
+        // Sound sword slash diputar AudioSubscriber setelah dikirim lewat flushSounds()
+        sounds.add(SoundEffect.SWORD_SLASH);
     }
 
-    public void takeDamage(float amount) {
+    /**
+     * @return false jika damage diabaikan (rolling / masih kebal)
+     */
+    public boolean takeDamage(float amount) {
         if (currentState == dodgeState) {
-            System. out.println("DODGED!  (Damage diabaikan karena rolling)");
-            return;
+            return false;
         }
 
         if (invincibilityTimer > 0) {
-            return;
+            return false;
         }
 
         stats.takeDamage(amount);
@@ -248,15 +258,13 @@ public class Player {
             if (currentState != deathState) {
                 changeState(deathState);
                 velocity.set(0, 0);
-                System.out.println("Player Mati -> Masuk DeathState");
             }
         } else {
             changeState(hurtState);
-            System.out.println("Player Luka -> Masuk HurtState");
         }
 
         invincibilityTimer = INVINCIBILITY_DURATION;
-        System.out.println("Player terkena hit!  Kebal aktif selama " + INVINCIBILITY_DURATION + "s");
+        return true;
     }
 
     public Rectangle getAttackHitbox() {
@@ -269,8 +277,30 @@ public class Player {
         return attackRect;
     }
 
+    /**
+     * Gerak dengan swept AABB hitbox terhadap tile solid, jadi dodge cepat pun tidak tembus tembok.
+     * @return TileSweep.HIT_X / HIT_Y untuk sumbu yang tertahan
+     */
+    public int moveBy(float dx, float dy) {
+        if (collision == null) {
+            position.add(dx, dy);
+            return 0;
+        }
+        return TileSweep.move(collision, position, LOGICAL_WIDTH, LOGICAL_HEIGHT, dx, dy);
+    }
+
+    public void setCollisionGrid(CollisionGrid collision) {
+        this.collision = collision;
+    }
+
     public Rectangle getHitbox() {
-        return new Rectangle(position.x, position. y, LOGICAL_WIDTH, LOGICAL_HEIGHT);
+        // Rectangle dipakai ulang tiap panggilan, salin jika perlu disimpan
+        return hitboxRect.set(position.x, position.y, LOGICAL_WIDTH, LOGICAL_HEIGHT);
+    }
+
+    /** Kirim sound tick ini ke buffer event job player. */
+    public void flushSounds(EventPublisher events) {
+        sounds.flush(events, position.x, position.y);
     }
 
     public boolean isHitboxActive() {
@@ -300,6 +330,85 @@ public class Player {
         System.out.println("[PERMANENT UPGRADE] Damage +" + amount + "! Total damage: " + getDamage());
     }
 
+    /**
+     * Makan / minum satu item dari inventory dan terapkan efeknya.
+     * Dipanggil lewat InputHandler.consumeItem supaya aksi ini ikut rekaman input.
+     */
+    public void consumeItem(ItemType item) {
+        System.out.println("[EAT] Consumed " + item.getDisplayName());
+        
+        switch (item) {
+            // === SURVIVAL MEALS ===
+            case ROASTED_MEAT:
+                // Heals 50% Max HP
+                stats.heal(stats.maxHealth * 0.5f);
+                break;
+                
+            case HUNTERS_STEW:
+                // Damage +5 for 60 seconds
+                buffManager.applyDamageBoost(5, 60f);
+                stats.heal(10f); // Small heal bonus
+                break;
+                
+            case BONE_BROTH:
+                // Energy Regen +20/s for 10 seconds
+                buffManager.applyEnergyRegenBoost(20f, 10f);
+                stats.heal(5f); // Small heal bonus
+                break;
+                
+            case YETI_SOUP:
+                // Heals 75% Max HP
+                stats.heal(stats.maxHealth * 0.75f);
+                break;
+                
+            // === LEGENDARY ELIXIRS (PERMANENT UPGRADES) ===
+            case BERSERKERS_ELIXIR:
+                // PERMANENT: Dmg+3, HP=100, Energy=120
+                addPermanentDamage(3);
+                stats.upgradeMaxHealth(100f);
+                stats.upgradeMaxStamina(120f);
+                markLegendaryConsumed(ItemType.BERSERKERS_ELIXIR);
+                System.out.println("[LEGENDARY] Berserker's Elixir consumed! You are now stronger!");
+                break;
+                
+            case HEART_OF_MOUNTAIN:
+                // PERMANENT: Dmg+3, HP=200, Energy=150
+                addPermanentDamage(3);
+                stats.upgradeMaxHealth(200f);
+                stats.upgradeMaxStamina(150f);
+                markLegendaryConsumed(ItemType.HEART_OF_MOUNTAIN);
+                System.out.println("[LEGENDARY] Heart of Mountain consumed! You feel unstoppable!");
+                break;
+                
+            case GOD_SLAYER_ELIXIR:
+                // ULTIMATE: Dmg+5, HP=300, Energy=170
+                addPermanentDamage(5);
+                stats.upgradeMaxHealth(300f);
+                stats.upgradeMaxStamina(170f);
+                markLegendaryConsumed(ItemType.GOD_SLAYER_ELIXIR);
+                System.out.println("[LEGENDARY] God Slayer Elixir consumed! You have ascended!");
+                break;
+                
+            default:
+                // Raw ingredients cannot be consumed
+                break;
+        }
+
+        inventory.removeItem(item, 1);
+    }
+
+    /**
+     * Masak recipe dari bahan di inventory. Dipanggil lewat InputHandler.cook supaya ikut rekaman input.
+     * @return false jika bahan tidak cukup (inventory tidak berubah)
+     */
+    public boolean cook(Recipe recipe) {
+        if (!inventory.removeAll(recipe.getRequiredCounts())) return false;
+
+        inventory.addItem(recipe.getResultItem(), 1);
+        cookingScore += recipe.isLegendary() ? 10 : 5;
+        return true;
+    }
+
     public void render(SpriteBatch batch) {
         TextureRegion currentFrame = currentState.getCurrentFrame(stateTime);
 
@@ -327,8 +436,8 @@ public class Player {
             int fixedCenterX = (int) rawCenterX;
             int fixedCenterY = (int) rawCenterY;
 
-            float drawX = position.x + fixedCenterX + DRAW_OFFSET_X;
-            float drawY = position. y + fixedCenterY + DRAW_OFFSET_Y;
+            float drawX = renderPosition.x + fixedCenterX + DRAW_OFFSET_X;
+            float drawY = renderPosition.y + fixedCenterY + DRAW_OFFSET_Y;
 
             batch.draw(currentFrame, (int)drawX, (int)drawY);
             batch.setColor(Color.WHITE);
@@ -339,6 +448,7 @@ public class Player {
         this.position.set(startX, startY);
         this.velocity.set(0, 0);
         this.facingRight = true;
+        resetInterpolation();
 
         this.stats.reset();
         // Inventory tidak di-clear di sini, hanya clear ketika mati oleh boss terakhir
@@ -346,12 +456,32 @@ public class Player {
         this.invincibilityTimer = 0f;
         this.attackTimer = 0f;
         this. dodgeCooldownTimer = 0f;
+        sounds.clear();
 
         changeState(idleState);
 
         System.out.println("Player Reset:  HP Penuh, State kembali ke Idle.");
     }
 
+    public void savePreviousPosition() {
+        previousPosition.set(position);
+    }
+
+    public void interpolate(float alpha) {
+        renderPosition.set(previousPosition).lerp(position, alpha);
+    }
+
+    /**
+     * Dipakai setelah teleport (spawn, pindah world) agar render tidak "meluncur".
+     */
+    public void resetInterpolation() {
+        previousPosition.set(position);
+        renderPosition.set(position);
+    }
+
+    public Vector2 getRenderPosition() { return renderPosition; }
+    public InputHandler getInputHandler() { return inputHandler; }
+
     public boolean isDeathAnimationFinished() {
         return currentState == deathState && stateTime > 1.0f;
     }
@@ -6,10 +6,12 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.fernanda.finpro.components.ItemType;
+import com.fernanda.finpro.events.SoundEffect;
 import com.fernanda.finpro.singleton.GameAssetManager;
+import com.fernanda.finpro.world.GameRandom;
+import com.fernanda.finpro.world.WorldSnapshot;
 
 public class Werewolf extends Monster {
 
@@ -65,13 +67,22 @@ public class Werewolf extends Monster {
     }
 
     @Override
-    public void aiBehavior(float dt, Player player) {
+    public void reset(float x, float y) {
+        super.reset(x, y);
+        wanderTarget.set(x, y);
+        wanderWaitTimer = 0f;
+        isWanderWalking = false;
+        forceReverse = false;
+    }
+
+    @Override
+    public void aiBehavior(float dt, WorldSnapshot world) {
         if (isDead) return;
 
         float myCenterX = position.x + (WIDTH / 2);
         float myCenterY = position.y + (HEIGHT / 2);
-        float playerCenterX = player.position.x + (player.getWidth() / 2);
-        float playerCenterY = player.position.y + (player.getHeight() / 2);
+        float playerCenterX = world.playerCenterX;
+        float playerCenterY = world.playerCenterY;
 
         float distToPlayer = Vector2.dst(myCenterX, myCenterY, playerCenterX, playerCenterY);
 
@@ -95,19 +106,20 @@ public class Werewolf extends Monster {
 
             case WANDER:
                 handleWander(dt);
-                if (distToPlayer < detectionRadius && player.position.dst(spawnPosition) < wanderRadius * 1.5f) {
+                if (distToPlayer < detectionRadius && spawnPosition.dst(world.playerX, world.playerY) < wanderRadius * 1.5f
+                    && canSeePlayer(world, myCenterX, myCenterY)) {
                     currentState = State.CHASE;
                 }
                 break;
 
             case CHASE:
-                moveTowards(new Vector2(playerCenterX, playerCenterY));
+                moveTowards(playerCenterX, playerCenterY);
 
                 if (distToPlayer <= attackRadius) {
                     currentState = State.PREPARE_ATTACK;
                     stateTimer = 0;
                     velocity.set(0, 0);
-                } else if (player.position.dst(spawnPosition) > wanderRadius * 2.0f) {
+                } else if (spawnPosition.dst(world.playerX, world.playerY) > wanderRadius * 2.0f) {
                     currentState = State.WANDER;
                     wanderTarget.set(spawnPosition);
                 }
@@ -118,10 +130,7 @@ public class Werewolf extends Monster {
                     currentState = State.ATTACKING;
                     stateTimer = 0;
                     
-                    com.badlogic.gdx.audio.Sound attackSound = com.fernanda.finpro.singleton.GameAssetManager.getInstance().getWerewolfScratchSound();
-                    if (attackSound != null) {
-                        attackSound.play(0.5f);
-                    }
+                    queueSound(SoundEffect.WEREWOLF_SCRATCH);
                 }
                 break;
 
@@ -148,7 +157,12 @@ public class Werewolf extends Monster {
                 break;
         }
 
-        position.mulAdd(velocity, dt);
+        moveBy(velocity.x * dt, velocity.y * dt);
+    }
+
+    @Override
+    protected void tickWanderTimers(float dt) {
+        if (!isWanderWalking) wanderWaitTimer -= dt;
     }
 
     private void handleWander(float dt) {
@@ -161,7 +175,7 @@ public class Werewolf extends Monster {
                 float checkDist = 16f; // Cek 16 pixel ke depan
                 float centerX = position.x + (WIDTH / 2);
                 float centerY = position.y + (HEIGHT / 2);
-                Vector2 dir = new Vector2(velocity).nor();
+                Vector2 dir = tmp.set(velocity).nor();
 
                 float checkX = centerX + dir.x * checkDist;
                 float checkY = centerY + dir.y * checkDist;
@@ -170,18 +184,18 @@ public class Werewolf extends Monster {
                     // Nabrak Tembok!
                     velocity.set(0, 0);
                     isWanderWalking = false;
-                    wanderWaitTimer = MathUtils.random(0.5f, 1.0f); // Idle sebentar sebelum balik arah
+                    wanderWaitTimer = random.random(0.5f, 1.0f); // Idle sebentar sebelum balik arah
                     forceReverse = true; // Tandai untuk balik arah setelah tunggu
                 }
 
                 if (stateTimer > 5.0f) {
                     isWanderWalking = false;
-                    wanderWaitTimer = MathUtils.random(1.0f, 3.0f);
+                    wanderWaitTimer = random.random(1.0f, 3.0f);
                     velocity.set(0, 0);
                 }
             } else {
                 isWanderWalking = false;
-                wanderWaitTimer = MathUtils.random(2.0f, 5.0f);
+                wanderWaitTimer = random.random(2.0f, 5.0f);
                 velocity.set(0, 0);
             }
         } else {
@@ -192,17 +206,17 @@ public class Werewolf extends Monster {
                 if (forceReverse) {
                     // Balik arah (Opposite direction)
                     float baseAngle = facingRight ? 180f : 0f;
-                    float randomOffset = MathUtils.random(-45f, 45f);
+                    float randomOffset = random.random(-45f, 45f);
                     float angle = baseAngle + randomOffset;
 
-                    float dist = MathUtils.random(30f, wanderRadius);
-                    wanderTarget.set(position).add(new Vector2(dist, 0).rotateDeg(angle));
+                    float dist = random.random(30f, wanderRadius);
+                    wanderTarget.set(position).add(tmp.set(dist, 0).rotateDeg(angle));
 
                     forceReverse = false;
                 } else {
-                    float angle = MathUtils.random(0f, 360f);
-                    float dist = MathUtils.random(10f, wanderRadius);
-                    wanderTarget.set(spawnPosition).add(new Vector2(dist, 0).rotateDeg(angle));
+                    float angle = random.random(0f, 360f);
+                    float dist = random.random(10f, wanderRadius);
+                    wanderTarget.set(spawnPosition).add(tmp.set(dist, 0).rotateDeg(angle));
                 }
 
                 isWanderWalking = true;
@@ -277,8 +291,8 @@ public class Werewolf extends Monster {
             // Draw Logic
             float width = currentFrame.getRegionWidth();
             float height = currentFrame.getRegionHeight();
-            float drawX = position.x + (WIDTH - width) / 2f;
-            float drawY = position.y + (HEIGHT - height) / 2f;
+            float drawX = renderPosition.x + (WIDTH - width) / 2f;
+            float drawY = renderPosition.y + (HEIGHT - height) / 2f;
 
             if (facingRight) {
                 batch.draw(currentFrame, drawX, drawY, width, height);
@@ -312,7 +326,7 @@ public class Werewolf extends Monster {
     }
 
     @Override
-    public ItemType rollDrop() {
+    public ItemType rollDrop(GameRandom dropRandom) {
         return ItemType.WEREWOLF_CLAW;
     }
 }
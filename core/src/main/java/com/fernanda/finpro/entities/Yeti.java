@@ -6,10 +6,12 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.fernanda.finpro.components.ItemType;
+import com.fernanda.finpro.events.SoundEffect;
 import com.fernanda.finpro.singleton.GameAssetManager;
+import com.fernanda.finpro.world.GameRandom;
+import com.fernanda.finpro.world.WorldSnapshot;
 
 public class Yeti extends Monster {
 
@@ -60,13 +62,22 @@ public class Yeti extends Monster {
     }
 
     @Override
-    public void aiBehavior(float dt, Player player) {
+    public void reset(float x, float y) {
+        super.reset(x, y);
+        wanderTarget.set(x, y);
+        wanderWaitTimer = 0f;
+        isWanderWalking = false;
+        forceReverse = false;
+    }
+
+    @Override
+    public void aiBehavior(float dt, WorldSnapshot world) {
         if (isDead) return;
 
         float myCenterX = position.x + (WIDTH / 2);
         float myCenterY = position.y + (HEIGHT / 2);
-        float playerCenterX = player.position.x + (player.getWidth() / 2);
-        float playerCenterY = player.position.y + (player.getHeight() / 2);
+        float playerCenterX = world.playerCenterX;
+        float playerCenterY = world.playerCenterY;
 
         float distToPlayer = Vector2.dst(myCenterX, myCenterY, playerCenterX, playerCenterY);
 
@@ -88,19 +99,20 @@ public class Yeti extends Monster {
 
             case WANDER:
                 handleWander(dt);
-                if (distToPlayer < detectionRadius && player.position.dst(spawnPosition) < wanderRadius * 1.5f) {
+                if (distToPlayer < detectionRadius && spawnPosition.dst(world.playerX, world.playerY) < wanderRadius * 1.5f
+                    && canSeePlayer(world, myCenterX, myCenterY)) {
                     currentState = State.CHASE;
                 }
                 break;
 
             case CHASE:
-               moveTowards(new Vector2(playerCenterX, playerCenterY));
+               moveTowards(playerCenterX, playerCenterY);
 
                 if (distToPlayer <= attackRadius) {
                     currentState = State.PREPARE_ATTACK;
                     stateTimer = 0;
                     velocity.set(0, 0);
-                } else if (player.position.dst(spawnPosition) > wanderRadius * 2.0f) {
+                } else if (spawnPosition.dst(world.playerX, world.playerY) > wanderRadius * 2.0f) {
                     currentState = State.WANDER;
                     wanderTarget.set(spawnPosition);
                 }
@@ -111,10 +123,7 @@ public class Yeti extends Monster {
                     currentState = State.ATTACKING;
                     stateTimer = 0;
                     
-                    com.badlogic.gdx.audio.Sound attackSound = com.fernanda.finpro.singleton.GameAssetManager.getInstance().getYetiHitSound();
-                    if (attackSound != null) {
-                        attackSound.play(0.5f);
-                    }
+                    queueSound(SoundEffect.YETI_HIT);
                 }
                 break;
 
@@ -141,7 +150,12 @@ public class Yeti extends Monster {
                 break;
         }
 
-        position.mulAdd(velocity, dt);
+        moveBy(velocity.x * dt, velocity.y * dt);
+    }
+
+    @Override
+    protected void tickWanderTimers(float dt) {
+        if (!isWanderWalking) wanderWaitTimer -= dt;
     }
 
     private void handleWander(float dt) {
@@ -151,12 +165,12 @@ public class Yeti extends Monster {
 
                 if (stateTimer > 8.0f) {
                     isWanderWalking = false;
-                    wanderWaitTimer = MathUtils.random(1.0f, 3.0f);
+                    wanderWaitTimer = random.random(1.0f, 3.0f);
                     velocity.set(0, 0);
                 }
             } else {
                 isWanderWalking = false;
-                wanderWaitTimer = MathUtils.random(3.0f, 6.0f); // Yeti diam lebih lama
+                wanderWaitTimer = random.random(3.0f, 6.0f); // Yeti diam lebih lama
                 velocity.set(0, 0);
             }
         } else {
@@ -166,14 +180,14 @@ public class Yeti extends Monster {
             if (wanderWaitTimer <= 0) {
                 if (forceReverse) {
                     float baseAngle = facingRight ? 180f : 0f;
-                    float angle = baseAngle + MathUtils.random(-45f, 45f);
-                    float dist = MathUtils.random(30f, wanderRadius);
-                    wanderTarget.set(position).add(new Vector2(dist, 0).rotateDeg(angle));
+                    float angle = baseAngle + random.random(-45f, 45f);
+                    float dist = random.random(30f, wanderRadius);
+                    wanderTarget.set(position).add(tmp.set(dist, 0).rotateDeg(angle));
                     forceReverse = false;
                 } else {
-                    float angle = MathUtils.random(0f, 360f);
-                    float dist = MathUtils.random(20f, wanderRadius);
-                    wanderTarget.set(spawnPosition).add(new Vector2(dist, 0).rotateDeg(angle));
+                    float angle = random.random(0f, 360f);
+                    float dist = random.random(20f, wanderRadius);
+                    wanderTarget.set(spawnPosition).add(tmp.set(dist, 0).rotateDeg(angle));
                 }
                 isWanderWalking = true;
                 stateTimer = 0;
@@ -251,8 +265,8 @@ public class Yeti extends Monster {
             float height = currentFrame.getRegionHeight();
 
             // Logika centering gambar terhadap hitbox
-            float drawX = position.x + (WIDTH - width) / 2f;
-            float drawY = position.y + (HEIGHT - height) / 2f;
+            float drawX = renderPosition.x + (WIDTH - width) / 2f;
+            float drawY = renderPosition.y + (HEIGHT - height) / 2f;
 
             if (facingRight) {
                 batch.draw(currentFrame, drawX, drawY, width, height);
@@ -281,7 +295,7 @@ public class Yeti extends Monster {
     }
 
     @Override
-    public ItemType rollDrop() {
+    public ItemType rollDrop(GameRandom dropRandom) {
         return ItemType.YETI_HEART;
     }
 }
@@ -0,0 +1,67 @@
+package com.fernanda.finpro.events;
+
+import java.util.Arrays;
+
+/**
+ * Event satu job, disimpan berurutan di array primitif sampai flushTo().
+ * Setiap job GameWorld punya buffer sendiri, jadi job yang publish tidak perlu berurutan satu sama lain;
+ * GameWorld mem-flush semua buffer ke EventBus sesuai urutan daftar job, sehingga urutan event
+ * sama persis dengan menjalankan semua job berurutan.
+ * Tanpa alokasi kecuali saat kapasitas naik.
+ */
+public final class EventBuffer extends EventPublisher {
+    private int[] types;
+    private int[] subjects;
+    private int[] amounts;
+    private float[] xs;
+    private float[] ys;
+    private int size;
+
+    public EventBuffer() {
+        this(64);
+    }
+
+    public EventBuffer(int initialCapacity) {
+        types = new int[initialCapacity];
+        subjects = new int[initialCapacity];
+        amounts = new int[initialCapacity];
+        xs = new float[initialCapacity];
+        ys = new float[initialCapacity];
+    }
+
+    @Override
+    protected void publish(GameEvent.Type type, int subject, int amount, float x, float y) {
+        if (size == types.length) grow();
+        types[size] = type.ordinal();
+        subjects[size] = subject;
+        amounts[size] = amount;
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+    }
+
+    /**
+     * Kirim semua event ke bus (urutan publish) lalu kosongkan buffer. Dipanggil dari thread producer bus.
+     */
+    public void flushTo(EventBus bus) {
+        for (int i = 0; i < size; i++) {
+            bus.publish(GameEvent.TYPES[types[i]], subjects[i], amounts[i], xs[i], ys[i]);
+        }
+        size = 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() { return size; }
+
+    private void grow() {
+        int capacity = types.length * 2;
+        types = Arrays.copyOf(types, capacity);
+        subjects = Arrays.copyOf(subjects, capacity);
+        amounts = Arrays.copyOf(amounts, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+    }
+}
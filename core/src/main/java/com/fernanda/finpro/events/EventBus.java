@@ -0,0 +1,154 @@
+package com.fernanda.finpro.events;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ring buffer event gameplay: satu producer (simulasi), banyak consumer (score, persistence, audio, telemetry).
+ * Semua GameEvent dialokasikan di constructor; publish hanya menimpa field slot berikutnya, tanpa lock dan tanpa alokasi.
+ *
+ * Producer tidak pernah menunggu. Consumer membaca lewat Subscription masing-masing dengan kecepatannya sendiri;
+ * jika tertinggal lebih dari kapasitas ring, event tertua hilang dan dihitung di getLostCount().
+ * Slot dibaca ala seqlock: disalin dulu, lalu dicek ulang apakah producer sudah menimpanya,
+ * jadi consumer boleh berjalan di thread lain.
+ *
+ * Producer tunggal: job di GameWorld publish ke EventBuffer masing-masing, lalu GameWorld mem-flush semuanya
+ * ke sini dari thread simulasi sesuai urutan daftar job.
+ */
+public class EventBus extends EventPublisher {
+
+    public interface Handler {
+        void onEvent(GameEvent event);
+    }
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final GameEvent[] ring;
+    private final int mask;
+    private final int capacity;
+
+    // Sequence yang sudah diklaim producer (naik SEBELUM slot ditimpa)
+    private final AtomicLong claimed = new AtomicLong();
+    // Semua sequence < published sudah lengkap dan boleh dibaca
+    private final AtomicLong published = new AtomicLong();
+
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    public EventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity jumlah slot, harus pangkat dua
+     */
+    public EventBus(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Kapasitas EventBus harus pangkat dua: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        ring = new GameEvent[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new GameEvent();
+        }
+    }
+
+    // --- PRODUCER (thread simulasi) ---
+
+    @Override
+    protected void publish(GameEvent.Type type, int subject, int amount, float x, float y) {
+        long sequence = claimed.get();
+        claimed.set(sequence + 1);
+        // Tulisan field di bawah tidak boleh mendahului klaim (lihat cek ulang di Subscription.drain)
+        VarHandle.storeStoreFence();
+
+        GameEvent event = ring[(int) sequence & mask];
+        event.type = type;
+        event.sequence = sequence;
+        event.subject = subject;
+        event.amount = amount;
+        event.x = x;
+        event.y = y;
+
+        published.setRelease(sequence + 1);
+    }
+
+    // --- CONSUMER ---
+
+    /**
+     * Daftarkan consumer baru; hanya menerima event yang di-publish setelah ini.
+     * Dipanggil saat setup, bukan dari handler.
+     */
+    public synchronized Subscription subscribe(String name) {
+        Subscription subscription = new Subscription(name, published.get());
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    public synchronized List<Subscription> getSubscriptions() {
+        return Collections.unmodifiableList(new ArrayList<>(subscriptions));
+    }
+
+    public long getPublishedCount() { return published.get(); }
+    public int getCapacity() { return capacity; }
+
+    /**
+     * Posisi baca satu consumer. Satu Subscription hanya boleh di-drain dari satu thread.
+     */
+    public final class Subscription {
+        private final String name;
+        private final GameEvent scratch = new GameEvent();
+        private volatile long next;
+        private long lost;
+        private long consumed;
+
+        private Subscription(String name, long start) {
+            this.name = name;
+            this.next = start;
+        }
+
+        public int drain(Handler handler) {
+            return drain(handler, Integer.MAX_VALUE);
+        }
+
+        /**
+         * Proses maksimal max event yang sudah di-publish, urut sequence.
+         * @return jumlah event yang diterima handler
+         */
+        public int drain(Handler handler, int max) {
+            long available = published.getAcquire();
+            long sequence = next;
+            int count = 0;
+
+            while (sequence < available && count < max) {
+                scratch.copyFrom(ring[(int) sequence & mask]);
+                VarHandle.loadLoadFence();
+
+                // Slot sudah diklaim ulang producer = salinan mungkin rusak; lompat ke event tertua yang masih utuh
+                long oldest = claimed.get() - capacity;
+                if (sequence < oldest) {
+                    lost += oldest - sequence;
+                    sequence = oldest;
+                    continue;
+                }
+
+                sequence++;
+                count++;
+                handler.onEvent(scratch);
+            }
+
+            next = sequence;
+            consumed += count;
+            return count;
+        }
+
+        public String getName() { return name; }
+        /** Event yang sudah di-publish tapi belum dibaca consumer ini. */
+        public long getLag() { return published.get() - next; }
+        public long getLostCount() { return lost; }
+        public long getConsumedCount() { return consumed; }
+    }
+}
@@ -0,0 +1,60 @@
+package com.fernanda.finpro.events;
+
+import com.fernanda.finpro.entities.Boss;
+import com.fernanda.finpro.entities.Monster;
+import com.fernanda.finpro.entities.Player;
+import com.fernanda.finpro.factories.MonsterFactory;
+
+/**
+ * API publish event gameplay. Dipakai EventBus (ring yang dibaca consumer) dan EventBuffer
+ * (staging per job GameWorld yang di-flush ke bus setelah job graph selesai).
+ */
+public abstract class EventPublisher {
+
+    public void publishKill(int monsterType, int score, float x, float y) {
+        publish(GameEvent.Type.KILL, monsterType, score, x, y);
+    }
+
+    public void publishKill(Monster monster, int score) {
+        publishKill(typeOf(monster), score, monster.position.x, monster.position.y);
+    }
+
+    public void publishPickup(int itemType, int count, float x, float y) {
+        publish(GameEvent.Type.PICKUP, itemType, count, x, y);
+    }
+
+    /**
+     * @param target GameEvent.TARGET_PLAYER atau MonsterFactory.Type.ordinal()
+     */
+    public void publishDamage(int target, int damage, float x, float y) {
+        publish(GameEvent.Type.DAMAGE, target, damage, x, y);
+    }
+
+    public void publishDamage(Monster monster, int damage) {
+        publishDamage(typeOf(monster), damage, monster.position.x, monster.position.y);
+    }
+
+    public void publishDamage(Player player, int damage) {
+        publishDamage(GameEvent.TARGET_PLAYER, damage, player.position.x, player.position.y);
+    }
+
+    public void publishDamage(Boss boss, int damage) {
+        publishDamage(MonsterFactory.Type.BOSS.ordinal(), damage, boss.position.x, boss.position.y);
+    }
+
+    public void publishWorldTransition(int worldType) {
+        publish(GameEvent.Type.WORLD_TRANSITION, worldType, 0, 0f, 0f);
+    }
+
+    public void publishSound(SoundEffect effect, float x, float y) {
+        publish(GameEvent.Type.SOUND, effect.ordinal(), 0, x, y);
+    }
+
+    protected abstract void publish(GameEvent.Type type, int subject, int amount, float x, float y);
+
+    private static int typeOf(Monster monster) {
+        MonsterFactory.Type type = MonsterFactory.typeOf(monster);
+        if (type == null) throw new IllegalArgumentException("Monster bukan dari MonsterFactory: " + monster);
+        return type.ordinal();
+    }
+}
@@ -0,0 +1,52 @@
+package com.fernanda.finpro.events;
+
+import java.util.List;
+
+/**
+ * Consumer EventBus untuk statistik: jumlah event per tipe, total damage,
+ * serta lag dan event yang hilang per consumer. Drain boleh jarang (mis. sekali per frame).
+ */
+public class EventTelemetry implements EventBus.Handler {
+    private final EventBus events;
+    private final EventBus.Subscription subscription;
+    private final long[] counts = new long[GameEvent.TYPES.length];
+    private long playerDamage;
+    private long monsterDamage;
+
+    public EventTelemetry(EventBus events) {
+        this.events = events;
+        this.subscription = events.subscribe("telemetry");
+    }
+
+    public void update() {
+        subscription.drain(this);
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        counts[event.type.ordinal()]++;
+        if (event.type == GameEvent.Type.DAMAGE) {
+            if (event.subject == GameEvent.TARGET_PLAYER) playerDamage += event.amount;
+            else monsterDamage += event.amount;
+        }
+    }
+
+    public long getCount(GameEvent.Type type) {
+        return counts[type.ordinal()];
+    }
+
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(events.getPublishedCount()).append(" event (ring ").append(events.getCapacity()).append(") -");
+        for (GameEvent.Type type : GameEvent.TYPES) {
+            sb.append(' ').append(type).append(' ').append(counts[type.ordinal()]);
+        }
+        sb.append(", damage ke player ").append(playerDamage).append(", ke monster ").append(monsterDamage);
+        List<EventBus.Subscription> subscriptions = events.getSubscriptions();
+        for (EventBus.Subscription s : subscriptions) {
+            sb.append("\n  ").append(s.getName()).append(": ").append(s.getConsumedCount()).append(" dibaca, lag ")
+                .append(s.getLag()).append(", hilang ").append(s.getLostCount());
+        }
+        return sb.toString();
+    }
+}
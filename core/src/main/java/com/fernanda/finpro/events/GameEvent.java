@@ -0,0 +1,39 @@
+package com.fernanda.finpro.events;
+
+/**
+ * Satu record event di ring EventBus. Objeknya dialokasikan sekali dan ditimpa terus,
+ * jadi jangan disimpan setelah handler selesai (salin field yang dibutuhkan).
+ *
+ * Arti field per tipe:
+ * - KILL:             subject = MonsterFactory.Type.ordinal(), amount = score, (x, y) = posisi monster
+ * - PICKUP:           subject = ItemType.ordinal(), amount = jumlah, (x, y) = posisi item
+ * - DAMAGE:           subject = TARGET_PLAYER / MonsterFactory.Type.ordinal(), amount = damage, (x, y) = posisi target
+ * - WORLD_TRANSITION: subject = WorldType.ordinal()
+ * - SOUND:            subject = SoundEffect.ordinal(), (x, y) = posisi sumber
+ */
+public final class GameEvent {
+
+    public enum Type {
+        KILL, PICKUP, DAMAGE, WORLD_TRANSITION, SOUND
+    }
+
+    public static final int TARGET_PLAYER = -1;
+
+    static final Type[] TYPES = Type.values();
+
+    public Type type;
+    public long sequence;
+    public int subject;
+    public int amount;
+    public float x;
+    public float y;
+
+    void copyFrom(GameEvent other) {
+        type = other.type;
+        sequence = other.sequence;
+        subject = other.subject;
+        amount = other.amount;
+        x = other.x;
+        y = other.y;
+    }
+}
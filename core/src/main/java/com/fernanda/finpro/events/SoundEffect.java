@@ -0,0 +1,25 @@
+package com.fernanda.finpro.events;
+
+/**
+ * Sound efek yang dikirim lewat EventBus (GameEvent.Type.SOUND) dan diputar AudioSubscriber di main thread.
+ */
+public enum SoundEffect {
+    YETI_HIT(0.5f),
+    WEREWOLF_SCRATCH(0.5f),
+    ICE_ATTACK(0.5f),
+    SWORD_SLASH(0.5f),
+    METEOR_CRASH(0.6f),
+    BOSS_SMASH(0.7f);
+
+    static final SoundEffect[] VALUES = values();
+
+    public final float volume;
+
+    SoundEffect(float volume) {
+        this.volume = volume;
+    }
+
+    public static SoundEffect of(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
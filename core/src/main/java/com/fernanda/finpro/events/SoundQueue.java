@@ -0,0 +1,25 @@
+package com.fernanda.finpro.events;
+
+/**
+ * Sound efek yang diminta selama satu update, disimpan sebagai bitmask SoundEffect lalu
+ * dikirim ke buffer event job pemilik entity. Sound yang sama dua kali dalam satu tick cukup sekali.
+ */
+public final class SoundQueue {
+    private int pending;
+
+    public void add(SoundEffect effect) {
+        pending |= 1 << effect.ordinal();
+    }
+
+    public void flush(EventPublisher events, float x, float y) {
+        while (pending != 0) {
+            int ordinal = Integer.numberOfTrailingZeros(pending);
+            pending &= pending - 1;
+            events.publishSound(SoundEffect.of(ordinal), x, y);
+        }
+    }
+
+    public void clear() {
+        pending = 0;
+    }
+}
@@ -3,19 +3,21 @@ package com.fernanda.finpro.factories;
 import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.fernanda.finpro.entities.MiniBoss;
 import com.fernanda.finpro.entities.Monster;
 import com.fernanda.finpro.entities.Orc;
 import com.fernanda.finpro.entities.Werewolf;
 import com.fernanda.finpro.entities.Yeti;
+import com.fernanda.finpro.pool.MonsterPool;
 import com.fernanda.finpro.singleton.GameAssetManager;
+import com.fernanda.finpro.world.GameRandom;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 public class MonsterFactory {
 
@@ -27,7 +29,47 @@ public class MonsterFactory {
         BOSS
     }
 
+    // Pool per tipe, dibuat saat pertama dipakai (butuh texture yang sudah dimuat)
+    private static final EnumMap<Type, MonsterPool> pools = new EnumMap<>(Type.class);
+    private static final Map<Class<? extends Monster>, MonsterPool> poolsByClass = new HashMap<>();
+    // Hanya diisi pemanggil getRandomSpawnPoint(), yaitu job yang menulis WorldResource.SPAWN (tidak pernah paralel)
+    private static final Map<MapLayer, int[]> spawnTileCache = new IdentityHashMap<>();
+
+    /**
+     * Ambil monster dari pool tipe-nya (atau buat baru jika pool kosong), dalam kondisi baru spawn di (x, y).
+     * Kembalikan lewat free() saat monster dibuang dari world.
+     */
     public static Monster createMonster(Type type, float x, float y) {
+        return getPool(type).obtain(x, y);
+    }
+
+    public static void free(Monster monster) {
+        MonsterPool pool = poolsByClass.get(monster.getClass());
+        if (pool != null) pool.free(monster);
+    }
+
+    /**
+     * Tipe monster berdasarkan class-nya, atau null jika bukan dari factory ini.
+     */
+    public static Type typeOf(Monster monster) {
+        MonsterPool pool = poolsByClass.get(monster.getClass());
+        return pool != null ? pool.getType() : null;
+    }
+
+    public static MonsterPool getPool(Type type) {
+        MonsterPool pool = pools.get(type);
+        if (pool == null) {
+            pool = new MonsterPool(type, 0);
+            pools.put(type, pool);
+            poolsByClass.put(classOf(type), pool);
+        }
+        return pool;
+    }
+
+    /**
+     * Buat instance baru tanpa pool. Hanya untuk MonsterPool.
+     */
+    public static Monster instantiate(Type type, float x, float y) {
         switch (type) {
             case ORC:
                 return new Orc(x, y);
@@ -41,9 +83,20 @@ public class MonsterFactory {
         }
     }
 
-    public static Monster createForestMonster() {
-        Vector2 pos = getRandomSpawnPoint();
-        if (MathUtils.randomBoolean()) {
+    private static Class<? extends Monster> classOf(Type type) {
+        switch (type) {
+            case ORC: return Orc.class;
+            case WEREWOLF: return Werewolf.class;
+            case YETI: return Yeti.class;
+            case MINI_BOSS: return MiniBoss.class;
+            default:
+                throw new IllegalArgumentException("Tipe Monster belum terdaftar: " + type);
+        }
+    }
+
+    public static Monster createForestMonster(GameRandom random) {
+        Vector2 pos = getRandomSpawnPoint(random);
+        if (random.randomBoolean()) {
             return createMonster(Type.ORC, pos.x, pos.y);
         } else {
             return createMonster(Type.WEREWOLF, pos.x, pos.y);
@@ -51,42 +104,68 @@ public class MonsterFactory {
     }
 
     // --- HELPER MATH ---
-    public static Vector2 getRandomSpawnPoint(TiledMap map, String[] layerNames) {
+    public static Vector2 getRandomSpawnPoint(TiledMap map, String[] layerNames, GameRandom random) {
+        return getRandomSpawnPoint(map, layerNames, random, new Vector2(), new String[layerNames.length]);
+    }
+
+    /**
+     * Titik spawn acak dari salah satu layer, ditulis ke out (tanpa alokasi; dipakai SpawnManager tiap spawn).
+     * @param shuffledLayers scratch milik pemanggil untuk urutan layer, panjang minimal layerNames.length
+     */
+    public static Vector2 getRandomSpawnPoint(TiledMap map, String[] layerNames, GameRandom random, Vector2 out,
+                                              String[] shuffledLayers) {
         // Acak urutan layer agar spawn tersebar merata antar layer
-        List<String> shuffledLayers = new ArrayList<>(Arrays.asList(layerNames));
-        Collections.shuffle(shuffledLayers);
-
-        for (String layerName : shuffledLayers) {
-            List<Vector2> spawnTiles = new ArrayList<>();
-            MapLayer layer = map.getLayers().get(layerName);
-            
-            if (layer instanceof TiledMapTileLayer) {
-                TiledMapTileLayer spawnLayer = (TiledMapTileLayer) layer;
-                for (int x = 0; x < spawnLayer.getWidth(); x++) {
-                    for (int y = 0; y < spawnLayer.getHeight(); y++) {
-                        if (spawnLayer.getCell(x, y) != null) {
-                            spawnTiles.add(new Vector2(x * 16, y * 16));
-                        }
-                    }
-                }
-            }
+        int count = layerNames.length;
+        System.arraycopy(layerNames, 0, shuffledLayers, 0, count);
+        random.shuffle(shuffledLayers, count);
+
+        for (int i = 0; i < count; i++) {
+            int[] spawnTiles = getSpawnTiles(map.getLayers().get(shuffledLayers[i]));
 
             // Jika layer ini punya spawn point, pilih satu dan kembalikan
-            if (!spawnTiles.isEmpty()) {
-                Vector2 tilePos = spawnTiles.get(MathUtils.random(0, spawnTiles.size() - 1));
-                return tilePos.add(MathUtils.random(0, 16), MathUtils.random(0, 16));
+            if (spawnTiles.length > 0) {
+                int tile = spawnTiles[random.random(0, spawnTiles.length - 1)];
+                out.set((tile >>> 16) * 16, (tile & 0xFFFF) * 16);
+                return out.add(random.random(0, 16), random.random(0, 16));
             }
         }
 
         // Fallback if no spawn points found in ANY layer
-        return new Vector2(500, 500);
+        return out.set(500, 500);
+    }
+
+    /**
+     * Koordinat tile spawn (x << 16 | y) dari satu layer, urutan kolom lalu baris.
+     * Map tidak berubah saat runtime, jadi hasil scan disimpan per layer.
+     */
+    private static int[] getSpawnTiles(MapLayer layer) {
+        int[] tiles = spawnTileCache.get(layer);
+        if (tiles != null) return tiles;
+
+        tiles = new int[0];
+        if (layer instanceof TiledMapTileLayer) {
+            TiledMapTileLayer spawnLayer = (TiledMapTileLayer) layer;
+            int count = 0;
+            tiles = new int[16];
+            for (int x = 0; x < spawnLayer.getWidth(); x++) {
+                for (int y = 0; y < spawnLayer.getHeight(); y++) {
+                    if (spawnLayer.getCell(x, y) != null) {
+                        if (count == tiles.length) tiles = Arrays.copyOf(tiles, count * 2);
+                        tiles[count++] = (x << 16) | y;
+                    }
+                }
+            }
+            tiles = Arrays.copyOf(tiles, count);
+        }
+        if (layer != null) spawnTileCache.put(layer, tiles);
+        return tiles;
     }
 
-    public static Vector2 getRandomSpawnPoint(TiledMap map, String layerName) {
-        return getRandomSpawnPoint(map, new String[]{layerName});
+    public static Vector2 getRandomSpawnPoint(TiledMap map, String layerName, GameRandom random) {
+        return getRandomSpawnPoint(map, new String[]{layerName}, random);
     }
 
-    public static Vector2 getRandomSpawnPoint() {
-        return getRandomSpawnPoint(GameAssetManager.getInstance().getMap(), "spawn_monster");
+    public static Vector2 getRandomSpawnPoint(GameRandom random) {
+        return getRandomSpawnPoint(GameAssetManager.getInstance().getMap(), "spawn_monster", random);
     }
 }
@@ -0,0 +1,33 @@
+package com.fernanda.finpro.input;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+/**
+ * Input langsung dari keyboard & mouse.
+ */
+public class GdxInputSource implements InputSource {
+
+    // Tombol "just pressed" ditahan sampai tick simulasi berikutnya,
+    // karena satu frame render bisa berisi nol atau beberapa tick.
+    private int latched;
+
+    @Override
+    public void pollFrame() {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.CONTROL_LEFT)) latched |= DODGE;
+        if (Gdx.input.isKeyJustPressed(Input.Keys.R)) latched |= RESTART;
+    }
+
+    @Override
+    public int nextTick() {
+        int actions = latched;
+        latched = 0;
+
+        if (Gdx.input.isKeyPressed(Input.Keys.SPACE) || Gdx.input.isButtonPressed(Input.Buttons.LEFT)) actions |= ATTACK;
+        if (Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.LEFT)) actions |= LEFT;
+        if (Gdx.input.isKeyPressed(Input.Keys.D) || Gdx.input.isKeyPressed(Input.Keys.RIGHT)) actions |= RIGHT;
+        if (Gdx.input.isKeyPressed(Input.Keys.W) || Gdx.input.isKeyPressed(Input.Keys.UP)) actions |= UP;
+        if (Gdx.input.isKeyPressed(Input.Keys.S) || Gdx.input.isKeyPressed(Input.Keys.DOWN)) actions |= DOWN;
+        return actions;
+    }
+}
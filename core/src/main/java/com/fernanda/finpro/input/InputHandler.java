@@ -1,14 +1,49 @@
 package com.fernanda.finpro.input;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
+import com.fernanda.finpro.components.ItemType;
+import com.fernanda.finpro.components.RecipeManager;
 import com.fernanda.finpro.entities.Player;
 
+import java.io.IOException;
+
 public class InputHandler {
 
+    private InputSource source = new GdxInputSource();
+    private InputRecorder recorder;
+    private int actions; // Aksi untuk tick yang sedang berjalan
+
+    /**
+     * Dipanggil sekali per frame render, sebelum tick simulasi dijalankan.
+     */
+    public void pollFrame() {
+        source.pollFrame();
+    }
+
+    /**
+     * Dipanggil di awal setiap tick simulasi (hidup maupun mati),
+     * jadi satu tick = satu entri di rekaman. Aksi UI dari rekaman yang jatuh
+     * sebelum tick ini diterapkan lebih dulu.
+     */
+    public void beginTick(Player player) {
+        for (int action = source.nextUiAction(); action != UiAction.NONE; action = source.nextUiAction()) {
+            performUiAction(player, action);
+        }
+
+        actions = source.nextTick();
+        if (recorder != null) {
+            try {
+                recorder.record(actions);
+            } catch (IOException e) {
+                System.err.println("Rekaman input dihentikan: " + e.getMessage());
+                stopRecording();
+            }
+        }
+    }
+
     public void handleInput(Player player) {
         // 0. CEK DODGE (PRIORITAS TERTINGGI)
-        if (Gdx.input.isKeyJustPressed(Input.Keys.CONTROL_LEFT)) {
+        if ((actions & InputSource.DODGE) != 0) {
+            actions &= ~InputSource.DODGE;
             player.dodge();
         }
 
@@ -17,23 +52,23 @@ public class InputHandler {
         if (player.isDodging()) return;
 
         // 1. CEK SERANGAN
-        if (Gdx.input.isKeyPressed(Input.Keys.SPACE) || Gdx.input.isButtonPressed(Input.Buttons.LEFT)) {
+        if ((actions & InputSource.ATTACK) != 0) {
             player.attack();
         }
 
         float moveX = 0;
         float moveY = 0;
 
-        if (Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.LEFT)) {
+        if ((actions & InputSource.LEFT) != 0) {
             moveX = -1;
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.D) || Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
+        if ((actions & InputSource.RIGHT) != 0) {
             moveX = 1;
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.W) || Gdx.input.isKeyPressed(Input.Keys.UP)) {
+        if ((actions & InputSource.UP) != 0) {
             moveY = 1;
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.S) || Gdx.input.isKeyPressed(Input.Keys.DOWN)) {
+        if ((actions & InputSource.DOWN) != 0) {
             moveY = -1;
         }
 
@@ -45,4 +80,70 @@ public class InputHandler {
         if (moveX > 0) player.facingRight = true;
         if (moveX < 0) player.facingRight = false;
     }
+
+    /**
+     * Makan / minum item dari inventory UI (dipanggil saat game di-pause).
+     */
+    public void consumeItem(Player player, ItemType item) {
+        performUiAction(player, UiAction.of(UiAction.CONSUME_ITEM, item.ordinal()));
+    }
+
+    /**
+     * Masak recipe ke-recipeIndex dari cooking menu (dipanggil saat game di-pause).
+     * @return false jika bahan tidak cukup
+     */
+    public boolean cook(Player player, int recipeIndex) {
+        return performUiAction(player, UiAction.of(UiAction.COOK, recipeIndex));
+    }
+
+    // Semua aksi UI lewat sini: dicatat dulu (dengan tick berikutnya), lalu diterapkan ke player
+    private boolean performUiAction(Player player, int action) {
+        if (recorder != null) {
+            try {
+                recorder.recordUiAction(action);
+            } catch (IOException e) {
+                System.err.println("Rekaman input dihentikan: " + e.getMessage());
+                stopRecording();
+            }
+        }
+
+        int arg = UiAction.arg(action);
+        switch (UiAction.kind(action)) {
+            case UiAction.CONSUME_ITEM:
+                player.consumeItem(ItemType.values()[arg]);
+                return true;
+            case UiAction.COOK:
+                return player.cook(RecipeManager.getInstance().getAllRecipes().get(arg));
+            default:
+                throw new IllegalArgumentException("Aksi UI tidak dikenal: " + UiAction.kind(action));
+        }
+    }
+
+    public boolean isRestartRequested() {
+        return (actions & InputSource.RESTART) != 0;
+    }
+
+    public void setSource(InputSource source) {
+        this.source = source;
+    }
+
+    public InputSource getSource() { return source; }
+
+    public void startRecording(InputRecorder recorder) {
+        stopRecording();
+        this.recorder = recorder;
+    }
+
+    public void stopRecording() {
+        if (recorder != null) {
+            try {
+                recorder.close();
+            } catch (IOException e) {
+                System.err.println("Gagal menutup rekaman input: " + e.getMessage());
+            }
+            recorder = null;
+        }
+    }
+
+    public boolean isRecording() { return recorder != null; }
 }
@@ -0,0 +1,136 @@
+package com.fernanda.finpro.input;
+
+import com.fernanda.finpro.components.ItemType;
+import com.fernanda.finpro.entities.Player;
+import com.fernanda.finpro.world.GameWorld;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Format file rekaman input (.fpir):
+ *
+ *   int   MAGIC "FPIR"
+ *   short VERSION
+ *   short flags           (bit0 bossKilled, bit1 miniBossDefeated)
+ *   long  seed world
+ *   float tick rate
+ *   int   jumlah tick     (diperbarui setiap entri, jadi tetap valid jika game crash)
+ *   int   panjang data    (byte)
+ *   byte  n, lalu n x int jumlah item per ItemType.ordinal()
+ *   data  entri: varint(jarak tick sejak entri sebelumnya) + byte, lalu
+ *         - bit 7 = 0: byte adalah mask XOR mask sebelumnya
+ *         - bit 7 = 1: aksi UI (UiAction) jenis (byte & 0x7F), diikuti varint(argumen)
+ *
+ * Hanya perubahan tombol yang ditulis, jadi tick tanpa perubahan tidak memakan tempat.
+ * Aksi UI terjadi saat game di-pause (inventory / cooking menu), jadi tick-nya adalah tick
+ * berikutnya yang akan dijalankan: diterapkan sebelum mask tick itu dibaca.
+ * Versi 1 belum punya entri aksi UI; formatnya tetap kompatibel dan masih bisa diputar.
+ */
+public final class InputLog {
+    public static final int MAGIC = 0x46504952; // "FPIR"
+    public static final short VERSION = 2;
+    static final int UI_ENTRY = 0x80;
+
+    static final int TICK_COUNT_OFFSET = 20;
+    static final int DATA_LENGTH_OFFSET = 24;
+    static final int FIXED_HEADER_SIZE = 28;
+
+    private InputLog() {}
+
+    /**
+     * State awal sesi yang tidak berasal dari seed (hasil login: inventory & progres boss).
+     */
+    public static class Header {
+        public long seed;
+        public float tickRate;
+        public boolean bossKilled;
+        public boolean miniBossDefeated;
+        public int[] inventory = new int[ItemType.values().length];
+
+        public static Header capture(GameWorld world, float tickRate) {
+            Header header = new Header();
+            Player player = world.getPlayer();
+            header.seed = world.getRandom().getSeed();
+            header.tickRate = tickRate;
+            header.bossKilled = player.bossKilled;
+            header.miniBossDefeated = world.getSpawnManager().isMiniBossDefeated();
+            for (ItemType type : ItemType.values()) {
+                header.inventory[type.ordinal()] = player.inventory.getItemCount(type);
+            }
+            return header;
+        }
+
+        /**
+         * Terapkan ke world yang baru dibuat dengan seed yang sama.
+         */
+        public void applyTo(GameWorld world) {
+            Player player = world.getPlayer();
+            player.bossKilled = bossKilled;
+            world.getSpawnManager().setMiniBossDefeated(miniBossDefeated);
+            player.inventory.clear();
+            ItemType[] types = ItemType.values();
+            for (int i = 0; i < inventory.length && i < types.length; i++) {
+                if (inventory[i] > 0) player.inventory.addItem(types[i], inventory[i]);
+            }
+        }
+
+        int size() {
+            return FIXED_HEADER_SIZE + 1 + inventory.length * 4;
+        }
+
+        void write(ByteBuffer buffer) {
+            buffer.putInt(MAGIC);
+            buffer.putShort(VERSION);
+            buffer.putShort((short) ((bossKilled ? 1 : 0) | (miniBossDefeated ? 2 : 0)));
+            buffer.putLong(seed);
+            buffer.putFloat(tickRate);
+            buffer.putInt(0); // tick count
+            buffer.putInt(0); // data length
+            buffer.put((byte) inventory.length);
+            for (int count : inventory) {
+                buffer.putInt(count);
+            }
+        }
+
+        static Header read(ByteBuffer buffer) {
+            if (buffer.getInt() != MAGIC) throw new IllegalArgumentException("Bukan file rekaman input");
+            short version = buffer.getShort();
+            if (version < 1 || version > VERSION) throw new IllegalArgumentException("Versi rekaman tidak didukung: " + version);
+
+            Header header = new Header();
+            short flags = buffer.getShort();
+            header.bossKilled = (flags & 1) != 0;
+            header.miniBossDefeated = (flags & 2) != 0;
+            header.seed = buffer.getLong();
+            header.tickRate = buffer.getFloat();
+            buffer.getInt(); // tick count & data length dibaca terpisah
+            buffer.getInt();
+            int n = buffer.get() & 0xFF;
+            header.inventory = new int[n];
+            for (int i = 0; i < n; i++) {
+                header.inventory[i] = buffer.getInt();
+            }
+            return header;
+        }
+    }
+
+    static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static int getVarInt(ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
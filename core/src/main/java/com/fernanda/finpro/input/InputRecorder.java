@@ -0,0 +1,78 @@
+package com.fernanda.finpro.input;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Menulis input per tick ke file .fpir lewat memory-mapped buffer.
+ * Mapping diperbesar dua kali lipat saat penuh; isi yang sudah ditulis tetap ada di
+ * page cache OS walaupun proses crash sebelum close().
+ */
+public class InputRecorder implements Closeable {
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+    private static final int MAX_ENTRY_SIZE = 11; // varint 5 byte + 1 byte + varint argumen aksi UI 5 byte
+
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+    private final int dataStart;
+
+    private int currentMask;
+    private int ticksSinceChange;
+    private int tickCount;
+
+    public InputRecorder(Path file, InputLog.Header header) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(INITIAL_CAPACITY, header.size() * 2));
+        header.write(buffer);
+        dataStart = buffer.position();
+    }
+
+    public void record(int mask) throws IOException {
+        if (mask != currentMask) {
+            ensureCapacity();
+            InputLog.putVarInt(buffer, ticksSinceChange);
+            buffer.put((byte) (mask ^ currentMask));
+            currentMask = mask;
+            ticksSinceChange = 0;
+        }
+        ticksSinceChange++;
+        tickCount++;
+
+        buffer.putInt(InputLog.TICK_COUNT_OFFSET, tickCount);
+        buffer.putInt(InputLog.DATA_LENGTH_OFFSET, buffer.position() - dataStart);
+    }
+
+    /**
+     * Catat aksi UI (UiAction) yang terjadi sebelum tick berikutnya, yaitu saat game di-pause.
+     */
+    public void recordUiAction(int action) throws IOException {
+        ensureCapacity();
+        InputLog.putVarInt(buffer, ticksSinceChange);
+        buffer.put((byte) (InputLog.UI_ENTRY | UiAction.kind(action)));
+        InputLog.putVarInt(buffer, UiAction.arg(action));
+        ticksSinceChange = 0;
+
+        buffer.putInt(InputLog.DATA_LENGTH_OFFSET, buffer.position() - dataStart);
+    }
+
+    private void ensureCapacity() throws IOException {
+        if (buffer.remaining() >= MAX_ENTRY_SIZE) return;
+        int position = buffer.position();
+        buffer.force();
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) buffer.capacity() * 2);
+        buffer.position(position);
+    }
+
+    public int getTickCount() { return tickCount; }
+
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+}
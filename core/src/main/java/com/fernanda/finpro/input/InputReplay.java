@@ -0,0 +1,82 @@
+package com.fernanda.finpro.input;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Memutar ulang file .fpir sebagai InputSource. Setelah rekaman habis, semua tombol dilepas.
+ */
+public class InputReplay implements InputSource {
+    private final InputLog.Header header;
+    private final ByteBuffer data;
+    private final int totalTicks;
+
+    private int tick;
+    private int currentMask;
+    private long nextEntryTick = -1; // -1 = tidak ada entri lagi
+    private int nextEntry;           // XOR mask, atau UI_ENTRY | jenis aksi UI
+    private int nextArg;
+
+    public InputReplay(Path file) throws IOException {
+        ByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // Mapping tetap valid setelah channel ditutup
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        totalTicks = mapped.getInt(InputLog.TICK_COUNT_OFFSET);
+        int dataLength = mapped.getInt(InputLog.DATA_LENGTH_OFFSET);
+        header = InputLog.Header.read(mapped);
+
+        mapped.limit(mapped.position() + dataLength);
+        data = mapped.slice();
+        readNextEntry(0);
+    }
+
+    private void readNextEntry(long fromTick) {
+        if (data.hasRemaining()) {
+            nextEntryTick = fromTick + InputLog.getVarInt(data);
+            nextEntry = data.get() & 0xFF;
+            nextArg = isUiEntry() ? InputLog.getVarInt(data) : 0;
+        } else {
+            nextEntryTick = -1;
+        }
+    }
+
+    private boolean isUiEntry() {
+        return (nextEntry & InputLog.UI_ENTRY) != 0;
+    }
+
+    @Override
+    public void pollFrame() {
+    }
+
+    @Override
+    public int nextUiAction() {
+        if (nextEntryTick != tick || !isUiEntry()) return UiAction.NONE;
+
+        int action = UiAction.of(nextEntry & ~InputLog.UI_ENTRY, nextArg);
+        readNextEntry(tick);
+        return action;
+    }
+
+    @Override
+    public int nextTick() {
+        if (tick >= totalTicks) return 0;
+
+        // Aksi UI tick ini yang tidak diambil lewat nextUiAction() dilewati
+        while (tick == nextEntryTick) {
+            if (!isUiEntry()) currentMask ^= nextEntry;
+            readNextEntry(tick);
+        }
+        tick++;
+        return currentMask;
+    }
+
+    public boolean isFinished() { return tick >= totalTicks; }
+    public int getTick() { return tick; }
+    public int getTotalTicks() { return totalTicks; }
+    public InputLog.Header getHeader() { return header; }
+}
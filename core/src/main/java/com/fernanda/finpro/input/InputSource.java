@@ -0,0 +1,35 @@
+package com.fernanda.finpro.input;
+
+/**
+ * Sumber input gameplay per tick simulasi, dalam bentuk bitmask aksi.
+ * Implementasi: GdxInputSource (keyboard/mouse) dan InputReplay (file rekaman).
+ */
+public interface InputSource {
+    int DODGE   = 1;
+    int ATTACK  = 1 << 1;
+    int LEFT    = 1 << 2;
+    int RIGHT   = 1 << 3;
+    int UP      = 1 << 4;
+    int DOWN    = 1 << 5;
+    int RESTART = 1 << 6;
+    // Bit 7 dipakai InputLog untuk menandai entri aksi UI, jadi aksi per tick maksimal 7 bit
+
+    /**
+     * Dipanggil sekali per frame render (untuk menahan tombol "just pressed").
+     */
+    void pollFrame();
+
+    /**
+     * Ambil aksi untuk satu tick simulasi.
+     */
+    int nextTick();
+
+    /**
+     * Aksi UI (lihat UiAction) yang harus diterapkan sebelum tick berikutnya, atau UiAction.NONE.
+     * Dipanggil berulang sampai NONE, sebelum nextTick(). Input live mengembalikan NONE:
+     * aksi UI-nya langsung diterapkan oleh menu lewat InputHandler.
+     */
+    default int nextUiAction() {
+        return UiAction.NONE;
+    }
+}
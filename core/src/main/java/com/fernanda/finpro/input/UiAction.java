@@ -0,0 +1,26 @@
+package com.fernanda.finpro.input;
+
+/**
+ * Aksi UI yang mengubah state player di luar bitmask per tick (game di-pause saat menu terbuka).
+ * Dikemas dalam satu int: jenis di 16 bit atas, argumen di 16 bit bawah.
+ */
+public final class UiAction {
+    public static final int NONE = -1;
+
+    public static final int CONSUME_ITEM = 1; // arg = ItemType.ordinal()
+    public static final int COOK = 2;         // arg = index recipe di RecipeManager
+
+    private UiAction() {}
+
+    public static int of(int kind, int arg) {
+        return (kind << 16) | arg;
+    }
+
+    public static int kind(int action) {
+        return action >>> 16;
+    }
+
+    public static int arg(int action) {
+        return action & 0xFFFF;
+    }
+}
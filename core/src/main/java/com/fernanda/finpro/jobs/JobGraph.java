@@ -0,0 +1,256 @@
+package com.fernanda.finpro.jobs;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Job Graph per tick
+ * Setiap fase update adalah job dengan read set & write set (enum resource).
+ * Job B bergantung pada job A yang didaftarkan lebih dulu jika:
+ * A menulis sesuatu yang dibaca/ditulis B, atau A membaca sesuatu yang ditulis B.
+ * Job tanpa konflik berjalan bersamaan di worker pool. Karena job yang konflik tetap
+ * berjalan sesuai urutan daftar, hasilnya sama persis dengan menjalankan semua job berurutan.
+ *
+ * Main thread ikut mengerjakan job yang siap, jadi tidak ada core yang menganggur menunggu.
+ * Waktu tiap job dicatat untuk debug critical path (lihat report()).
+ */
+public class JobGraph<R extends Enum<R>> {
+
+    private static class Node<R extends Enum<R>> {
+        final int index;
+        final String name;
+        final Set<R> reads;
+        final Set<R> writes;
+        final Runnable body;
+        final List<Node<R>> successors = new ArrayList<>();
+        final List<Node<R>> predecessors = new ArrayList<>();
+        final BitSet ancestors = new BitSet();
+        final AtomicInteger pending = new AtomicInteger();
+
+        long totalNanos;
+
+        Node(int index, String name, Set<R> reads, Set<R> writes, Runnable body) {
+            this.index = index;
+            this.name = name;
+            this.reads = reads;
+            this.writes = writes;
+            this.body = body;
+        }
+
+        boolean conflictsWith(Node<R> other) {
+            for (R r : writes) {
+                if (other.reads.contains(r) || other.writes.contains(r)) return true;
+            }
+            for (R r : reads) {
+                if (other.writes.contains(r)) return true;
+            }
+            return false;
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final List<Node<R>> nodes = new ArrayList<>();
+
+    private final ConcurrentLinkedQueue<Node<R>> ready = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger remaining = new AtomicInteger();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final Runnable helper = this::drainReady;
+
+    private boolean parallelEnabled = true;
+    private long runs;
+    private long lastWallNanos;
+    private long totalWallNanos;
+
+    public JobGraph() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public JobGraph(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Daftarkan job. Dependency dihitung terhadap job yang didaftarkan sebelumnya.
+     * Dicek dari yang terbaru: job yang sudah tercakup lewat dependency lain tidak diberi edge langsung.
+     */
+    public void add(String name, Set<R> reads, Set<R> writes, Runnable body) {
+        Node<R> node = new Node<>(nodes.size(), name, reads, writes, body);
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            Node<R> earlier = nodes.get(i);
+            if (!node.ancestors.get(i) && earlier.conflictsWith(node)) {
+                earlier.successors.add(node);
+                node.predecessors.add(0, earlier);
+                node.ancestors.set(i);
+                node.ancestors.or(earlier.ancestors);
+            }
+        }
+        nodes.add(node);
+    }
+
+    /**
+     * Jalankan semua job satu kali dan tunggu sampai selesai.
+     * Exception pertama dari job mana pun dilempar ulang di thread pemanggil.
+     */
+    public void run() {
+        long start = System.nanoTime();
+
+        if (!isConcurrent()) {
+            // Urutan daftar selalu merupakan urutan topologis yang valid
+            for (int i = 0; i < nodes.size(); i++) {
+                execute(nodes.get(i));
+            }
+        } else {
+            runParallel();
+        }
+
+        lastWallNanos = System.nanoTime() - start;
+        totalWallNanos += lastWallNanos;
+        runs++;
+    }
+
+    private void runParallel() {
+        failure.set(null);
+        remaining.set(nodes.size());
+        for (Node<R> node : nodes) {
+            node.pending.set(node.predecessors.size());
+        }
+        for (Node<R> node : nodes) {
+            if (node.predecessors.isEmpty()) dispatch(node);
+        }
+
+        // Main thread ikut mengerjakan job sampai semuanya selesai
+        while (remaining.get() > 0) {
+            Node<R> node = ready.poll();
+            if (node != null) {
+                executeAndRelease(node);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+
+        Throwable t = failure.get();
+        if (t != null) {
+            if (t instanceof RuntimeException) throw (RuntimeException) t;
+            if (t instanceof Error) throw (Error) t;
+            throw new RuntimeException(t);
+        }
+    }
+
+    private void dispatch(Node<R> node) {
+        ready.add(node);
+        pool.execute(helper);
+    }
+
+    private void drainReady() {
+        Node<R> node;
+        while ((node = ready.poll()) != null) {
+            executeAndRelease(node);
+        }
+    }
+
+    private void execute(Node<R> node) {
+        long start = System.nanoTime();
+        try {
+            node.body.run();
+        } finally {
+            node.totalNanos += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Mode paralel: jalankan job lalu lepas successor yang semua dependency-nya sudah selesai.
+     * Setelah ada job yang gagal, job sisanya dilewati tapi tetap dihitung selesai.
+     */
+    private void executeAndRelease(Node<R> node) {
+        try {
+            if (failure.get() == null) execute(node);
+        } catch (Throwable t) {
+            failure.compareAndSet(null, t);
+        }
+
+        for (Node<R> next : node.successors) {
+            if (next.pending.decrementAndGet() == 0) dispatch(next);
+        }
+        remaining.decrementAndGet();
+    }
+
+    private boolean isConcurrent() {
+        return parallelEnabled && pool.getParallelism() > 1;
+    }
+
+    public void resetStats() {
+        for (Node<R> node : nodes) {
+            node.totalNanos = 0;
+        }
+        runs = 0;
+        lastWallNanos = 0;
+        totalWallNanos = 0;
+    }
+
+    /**
+     * Ringkasan debug: dependency tiap job, rata-rata waktu per job,
+     * dan critical path (rantai dependency terpanjang berdasarkan rata-rata waktu).
+     */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        if (runs == 0) return "Job graph belum dijalankan";
+
+        int n = nodes.size();
+        double[] finish = new double[n];
+        int[] via = new int[n];
+        double serialSum = 0;
+
+        for (int i = 0; i < n; i++) {
+            Node<R> node = nodes.get(i);
+            double avg = node.totalNanos / (double) runs / 1_000_000.0;
+            serialSum += avg;
+
+            double startAt = 0;
+            via[i] = -1;
+            for (Node<R> pred : node.predecessors) {
+                int p = pred.index;
+                if (finish[p] > startAt) {
+                    startAt = finish[p];
+                    via[i] = p;
+                }
+            }
+            finish[i] = startAt + avg;
+
+            sb.append(String.format("  %-14s %7.3f ms", node.name, avg));
+            if (!node.predecessors.isEmpty()) {
+                sb.append("  <- ");
+                for (int k = 0; k < node.predecessors.size(); k++) {
+                    if (k > 0) sb.append(", ");
+                    sb.append(node.predecessors.get(k).name);
+                }
+            }
+            sb.append('\n');
+        }
+
+        int end = 0;
+        for (int i = 1; i < n; i++) {
+            if (finish[i] > finish[end]) end = i;
+        }
+        List<String> path = new ArrayList<>();
+        for (int i = end; i >= 0; i = via[i]) {
+            path.add(0, nodes.get(i).name);
+        }
+
+        sb.append(String.format("  critical path %.3f ms: %s%n", finish[end], String.join(" -> ", path)));
+        sb.append(String.format("  serial %.3f ms, wall %.3f ms (%d run, %s)",
+            serialSum, totalWallNanos / (double) runs / 1_000_000.0, runs,
+            isConcurrent() ? "paralel" : "serial"));
+        return sb.toString();
+    }
+
+    public void setParallelEnabled(boolean parallelEnabled) { this.parallelEnabled = parallelEnabled; }
+    public boolean isParallelEnabled() { return parallelEnabled; }
+    public int getJobCount() { return nodes.size(); }
+    public long getLastWallNanos() { return lastWallNanos; }
+}
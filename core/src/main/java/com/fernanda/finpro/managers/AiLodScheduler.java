@@ -0,0 +1,153 @@
+package com.fernanda.finpro.managers;
+
+import com.fernanda.finpro.entities.Monster;
+import com.fernanda.finpro.world.MonsterStore;
+import com.fernanda.finpro.world.WorldSnapshot;
+
+import java.util.List;
+
+/**
+ * AI Level-of-Detail
+ * Monster yang sedang WANDER / IDLE dikelompokkan berdasarkan jarak ke player:
+ * - NEAR : AI penuh setiap tick
+ * - MID  : AI penuh setiap N tick, dt dikumpulkan supaya total waktu tetap sama
+ * - FAR  : hanya timer (wander wait, state, immunity) yang maju
+ * Monster yang sedang bertarung (CHASE, ATTACK, HURT, DEAD, ...) selalu NEAR.
+ *
+ * run() dipanggil dari thread worker MonsterAiManager, jadi hanya menulis ke monster itu sendiri.
+ * Counter dihitung di countTiers() saat merge AI (sekali per tick, dengan akses tulis eksklusif ke MONSTERS).
+ */
+public class AiLodScheduler {
+    public static final int TIER_NEAR = 0;
+    public static final int TIER_MID = 1;
+    public static final int TIER_FAR = 2;
+    public static final int TIER_COUNT = 3;
+
+    private static final int STATE_WANDER = Monster.State.WANDER.ordinal();
+    private static final int STATE_IDLE = Monster.State.IDLE.ordinal();
+
+    // Layar 800x450 (setengah diagonal ~460) + jarak deteksi terbesar (Yeti 250) tetap di NEAR
+    public static final float DEFAULT_NEAR_RADIUS = 480f;
+    public static final float DEFAULT_MID_RADIUS = 960f;
+    public static final int DEFAULT_MID_INTERVAL = 4;
+
+    private boolean enabled = true;
+    private float nearRadius2 = DEFAULT_NEAR_RADIUS * DEFAULT_NEAR_RADIUS;
+    private float midRadius2 = DEFAULT_MID_RADIUS * DEFAULT_MID_RADIUS;
+    private int midInterval = DEFAULT_MID_INTERVAL;
+
+    // Counter: jumlah monster per tier di tick terakhir, dan total sejak resetCounters()
+    private final int[] lastTierCounts = new int[TIER_COUNT];
+    private final long[] totalTierCounts = new long[TIER_COUNT];
+    private long fullUpdates;
+    private long ticks;
+
+    /**
+     * Jalankan update + AI satu monster sesuai tier-nya.
+     * @param index posisi monster di list (dan di store), dipakai juga untuk menyebar tick MID antar frame
+     * @param store hasil gather + computeDistances tick ini
+     */
+    public void run(Monster m, int index, long tick, float dt, WorldSnapshot snapshot, MonsterStore store) {
+        int tier = enabled ? classify(store, index) : TIER_NEAR;
+        m.lodTier = tier;
+        m.lodRan = tier != TIER_FAR;
+
+        switch (tier) {
+            case TIER_NEAR:
+                float total = dt + m.lodAccumulator;
+                m.lodAccumulator = 0f;
+                m.update(total);
+                m.aiBehavior(total, snapshot);
+                break;
+
+            case TIER_MID:
+                m.lodAccumulator += dt;
+                if ((tick + index) % midInterval == 0) {
+                    float acc = m.lodAccumulator;
+                    m.lodAccumulator = 0f;
+                    m.update(acc);
+                    m.aiBehavior(acc, snapshot);
+                } else {
+                    m.lodRan = false;
+                }
+                break;
+
+            default:
+                // Sisa dt MID yang belum terpakai ikut dimajukan di sini
+                m.advanceTimers(dt + m.lodAccumulator);
+                m.lodAccumulator = 0f;
+                break;
+        }
+    }
+
+    private int classify(MonsterStore store, int index) {
+        int state = store.state[index];
+        if (state != STATE_WANDER && state != STATE_IDLE) return TIER_NEAR;
+
+        float dist2 = store.dist2[index];
+
+        if (dist2 <= nearRadius2) return TIER_NEAR;
+        if (dist2 <= midRadius2) return TIER_MID;
+        return TIER_FAR;
+    }
+
+    /**
+     * Kumpulkan counter dari hasil run() tick ini. Dipanggil dari merge AI setelah semua worker selesai.
+     */
+    public void countTiers(List<Monster> monsters) {
+        lastTierCounts[TIER_NEAR] = 0;
+        lastTierCounts[TIER_MID] = 0;
+        lastTierCounts[TIER_FAR] = 0;
+
+        for (int i = 0; i < monsters.size(); i++) {
+            Monster m = monsters.get(i);
+            lastTierCounts[m.lodTier]++;
+            if (m.lodRan) fullUpdates++;
+        }
+
+        for (int t = 0; t < TIER_COUNT; t++) {
+            totalTierCounts[t] += lastTierCounts[t];
+        }
+        ticks++;
+    }
+
+    public void resetCounters() {
+        for (int t = 0; t < TIER_COUNT; t++) {
+            lastTierCounts[t] = 0;
+            totalTierCounts[t] = 0;
+        }
+        fullUpdates = 0;
+        ticks = 0;
+    }
+
+    /**
+     * Ringkasan satu baris, contoh: "near 12 / mid 40 / far 900, AI penuh 3.1% dari 952000 monster-tick"
+     */
+    public String report() {
+        long monsterTicks = totalTierCounts[TIER_NEAR] + totalTierCounts[TIER_MID] + totalTierCounts[TIER_FAR];
+        double ratio = monsterTicks == 0 ? 0 : 100.0 * fullUpdates / monsterTicks;
+        return String.format("near %d / mid %d / far %d, AI penuh %.1f%% dari %d monster-tick (%d tick)",
+            lastTierCounts[TIER_NEAR], lastTierCounts[TIER_MID], lastTierCounts[TIER_FAR],
+            ratio, monsterTicks, ticks);
+    }
+
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public boolean isEnabled() { return enabled; }
+
+    public void setRadii(float nearRadius, float midRadius) {
+        if (nearRadius <= 0 || midRadius < nearRadius) {
+            throw new IllegalArgumentException("Radius LOD tidak valid: near=" + nearRadius + ", mid=" + midRadius);
+        }
+        this.nearRadius2 = nearRadius * nearRadius;
+        this.midRadius2 = midRadius * midRadius;
+    }
+
+    public void setMidInterval(int midInterval) {
+        if (midInterval < 1) throw new IllegalArgumentException("Interval MID harus >= 1: " + midInterval);
+        this.midInterval = midInterval;
+    }
+
+    public int getLastTierCount(int tier) { return lastTierCounts[tier]; }
+    public long getTotalTierCount(int tier) { return totalTierCounts[tier]; }
+    public long getFullUpdates() { return fullUpdates; }
+}
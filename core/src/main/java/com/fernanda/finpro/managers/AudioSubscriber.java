@@ -0,0 +1,59 @@
+package com.fernanda.finpro.managers;
+
+import com.badlogic.gdx.audio.Sound;
+import com.fernanda.finpro.events.EventBus;
+import com.fernanda.finpro.events.GameEvent;
+import com.fernanda.finpro.events.SoundEffect;
+import com.fernanda.finpro.singleton.GameAssetManager;
+
+/**
+ * Consumer EventBus untuk sound efek dari event gameplay. Dipanggil sekali per frame dari main thread,
+ * jadi simulasi (termasuk job di thread worker) tidak pernah memanggil Sound.play() untuk event ini.
+ * Beberapa monster yang terkena di frame yang sama cukup satu sound hurt (tidak ditumpuk).
+ */
+public class AudioSubscriber implements EventBus.Handler {
+    private final EventBus.Subscription subscription;
+    private boolean monsterHurt;
+
+    public AudioSubscriber(EventBus events) {
+        this.subscription = events.subscribe("audio");
+    }
+
+    public void update() {
+        subscription.drain(this);
+
+        if (monsterHurt) {
+            monsterHurt = false;
+            Sound hurtSound = GameAssetManager.getInstance().getMonsterHurtSound();
+            if (hurtSound != null) {
+                hurtSound.play(0.4f);
+            }
+        }
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        if (event.type == GameEvent.Type.DAMAGE && event.subject != GameEvent.TARGET_PLAYER) {
+            monsterHurt = true;
+        } else if (event.type == GameEvent.Type.SOUND) {
+            SoundEffect effect = SoundEffect.of(event.subject);
+            Sound sound = soundOf(effect);
+            if (sound != null) {
+                sound.play(effect.volume);
+            }
+        }
+    }
+
+    private static Sound soundOf(SoundEffect effect) {
+        GameAssetManager assets = GameAssetManager.getInstance();
+        switch (effect) {
+            case YETI_HIT: return assets.getYetiHitSound();
+            case WEREWOLF_SCRATCH: return assets.getWerewolfScratchSound();
+            case ICE_ATTACK: return assets.getIceAttackSound();
+            case SWORD_SLASH: return assets.getSwordSlashSound();
+            case METEOR_CRASH: return assets.getMeteorCrashSound();
+            case BOSS_SMASH: return assets.getBossSmashSound();
+            default: return null;
+        }
+    }
+}
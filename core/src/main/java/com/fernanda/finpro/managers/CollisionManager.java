@@ -4,63 +4,220 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.fernanda.finpro.entities.Monster;
 import com.fernanda.finpro.entities.Player;
+import com.fernanda.finpro.events.EventPublisher;
+import com.fernanda.finpro.projectile.ProjectileSystem;
+import com.fernanda.finpro.world.SpatialHash;
 
+import java.util.Arrays;
 import java.util.List;
 
-public class CollisionManager {
+/**
+ * Tabrakan player <-> monster.
+ * Setiap monster terdaftar di SpatialHash dengan AABB gabungan body + attack rect dan dipindah
+ * secara inkremental tiap tick; narrowphase hanya menyentuh monster di sekitar player,
+ * diproses urut index list supaya hasilnya sama dengan sapuan penuh.
+ * Grid yang sama dipakai ProjectileSystem sebagai broadphase monster (MonsterLookup).
+ */
+public class CollisionManager implements ProjectileSystem.MonsterLookup {
+    // Player boleh terdorong sejauh ini dari posisi saat query sebelum kandidat di-query ulang
+    private static final float QUERY_SLACK = SpatialHash.TILE_SIZE;
+
     private Player player;
     private List<Monster> monsters;
+    private final EventPublisher events;
+
+    private final SpatialHash grid = new SpatialHash();
+    // Per handle grid: monster pemiliknya, index di list tick ini, dan tick terakhir terlihat
+    private Monster[] handleOwners = new Monster[64];
+    private int[] handleIndex = new int[64];
+    private int[] handleSeen = new int[64];
+    private int tick;
+
+    // Index list kandidat dari query terakhir, urut menaik
+    private int[] candidates = new int[64];
+    private int candidateCount;
+    private float queryX, queryY;
 
-    public CollisionManager(Player player, List<Monster> monsters) {
+    private long candidatesTested;
+
+    // Scratch knockback / push, dipakai ulang tiap monster
+    private final Vector2 knockback = new Vector2();
+    private final Vector2 pushDirection = new Vector2();
+
+    public CollisionManager(Player player, List<Monster> monsters, EventPublisher events) {
         this.player = player;
         this.monsters = monsters;
+        this.events = events;
     }
 
     public void update(float dt) {
+        refreshGrid();
+
+        // Body player dibaca sekali; attack hitbox ikut posisi player (bisa terdorong monster sebelumnya)
         Rectangle playerBody = player.getHitbox();
+        boolean attacking = player.isHitboxActive();
+        queryCandidates(playerBody, attacking, -1);
 
-        for (Monster m : monsters) {
+        for (int k = 0; k < candidateCount; k++) {
+            int i = candidates[k];
+            Monster m = monsters.get(i);
             if (m.isDead()) continue;
+            candidatesTested++;
+
+            boolean hitByPlayer = player.isHitboxActive() && overlaps(m.bodyRect, player.getAttackHitbox());
+            boolean hitsPlayer = m.attackRect.width > 0 && overlaps(m.attackRect, playerBody);
+            boolean touchesPlayer = overlaps(m.bodyRect, playerBody);
+            if (!hitByPlayer && !hitsPlayer && !touchesPlayer) continue;
 
             // PLAYER MENYERANG MONSTER
-            if (player.isHitboxActive()) {
-                if (player.getAttackHitbox().overlaps(m.getBodyHitbox())) {
-                    m.takeDamage(player.getDamage());
-
-                    float distance = m.getKnockbackDistance();
-
-                    Vector2 knockback = new Vector2(m.position).sub(player.position).nor().scl(distance);
-                    
-                    // Validasi knockback tidak tembus building
-                    Vector2 newPos = new Vector2(m.position).add(knockback);
-                    float centerX = newPos.x + (m.getBodyHitbox().width / 2);
-                    float centerY = newPos.y + (m.getBodyHitbox().height / 2);
-                    
-                    // Cek apakah posisi baru tidak blocked
-                    if (!m.isTileBlocked(centerX, centerY)) {
-                        m.position.add(knockback);
-                    }
+            if (hitByPlayer) {
+                if (m.takeDamage(player.getDamage())) {
+                    events.publishDamage(m, player.getDamage());
                 }
+
+                float distance = m.getKnockbackDistance();
+
+                // Knockback di-sweep terhadap tile: berhenti di tembok, tidak tembus building
+                knockback.set(m.position).sub(player.position).nor().scl(distance);
+                m.moveBy(knockback.x, knockback.y);
             }
 
             // MONSTER MENYERANG PLAYER
-            Rectangle mAtkRect = m.getAttackHitbox();
-            if (mAtkRect.width > 0) {
-                if (mAtkRect.overlaps(playerBody)) {
-                    player.takeDamage(m.getDamage());
+            if (hitsPlayer) {
+                if (player.takeDamage(m.getDamage())) {
+                    events.publishDamage(player, m.getDamage());
                 }
             }
 
             // TABRAKAN BADAN (Push back dengan damage)
-            if (playerBody.overlaps(m.getBodyHitbox())) {
-                player.takeDamage(5);
+            if (touchesPlayer) {
+                if (player.takeDamage(5)) {
+                    events.publishDamage(player, 5);
+                }
 
                 if (!player.isDodging()) {
-                    Vector2 pushDirection = new Vector2(player.position).sub(m.position).nor();
+                    pushDirection.set(player.position).sub(m.position).nor();
                     float pushForce = 150f * dt;
-                    player.position.mulAdd(pushDirection, pushForce);
+                    player.moveBy(pushDirection.x * pushForce, pushDirection.y * pushForce);
+
+                    // Attack hitbox ikut bergeser; monster yang tadinya di luar query bisa jadi kena
+                    if (attacking && (Math.abs(player.position.x - queryX) > QUERY_SLACK
+                        || Math.abs(player.position.y - queryY) > QUERY_SLACK)) {
+                        queryCandidates(playerBody, true, i);
+                        k = -1;
+                    }
                 }
             }
         }
     }
+
+    /**
+     * Sinkronkan grid dengan list monster: monster baru di-insert, yang bergerak di-update,
+     * yang mati / keluar list (tidur, dihapus) dilepas.
+     */
+    private void refreshGrid() {
+        tick++;
+        int count = monsters.size();
+        for (int i = 0; i < count; i++) {
+            Monster m = monsters.get(i);
+            if (m.isDead()) continue;
+
+            Rectangle body = m.bodyRect;
+            Rectangle atk = m.attackRect;
+            float x0 = body.x, y0 = body.y, x1 = body.x + body.width, y1 = body.y + body.height;
+            if (atk.width > 0) {
+                x0 = Math.min(x0, atk.x);
+                y0 = Math.min(y0, atk.y);
+                x1 = Math.max(x1, atk.x + atk.width);
+                y1 = Math.max(y1, atk.y + atk.height);
+            }
+
+            int h = m.collisionHandle;
+            if (grid.isActive(h) && handleOwners[h] == m) {
+                grid.update(h, x0, y0, x1 - x0, y1 - y0);
+            } else {
+                h = grid.insert(x0, y0, x1 - x0, y1 - y0);
+                if (h >= handleOwners.length) growHandles(h + 1);
+                handleOwners[h] = m;
+                m.collisionHandle = h;
+            }
+            handleIndex[h] = i;
+            handleSeen[h] = tick;
+        }
+
+        for (int h = 0, limit = grid.getHandleLimit(); h < limit; h++) {
+            Monster owner = handleOwners[h];
+            if (owner == null || handleSeen[h] == tick) continue;
+            grid.remove(h);
+            if (owner.collisionHandle == h) owner.collisionHandle = -1;
+            handleOwners[h] = null;
+        }
+    }
+
+    /**
+     * Projectile job berjalan setelah knockback collision, jadi grid disinkronkan ulang di sini
+     * (hanya menulis AABB; bucket disentuh jika monster pindah sel).
+     */
+    @Override
+    public void refreshMonsters() {
+        refreshGrid();
+    }
+
+    @Override
+    public int queryMonsters(float x, float y, float width, float height) {
+        fillCandidates(grid.queryRect(x, y, width, height), -1);
+        return candidateCount;
+    }
+
+    @Override
+    public Monster getMonster(int k) {
+        return monsters.get(candidates[k]);
+    }
+
+    /**
+     * Isi candidates dengan index list monster di sekitar body / attack hitbox player, diperluas QUERY_SLACK.
+     * @param after hanya ambil index > after (query ulang di tengah loop)
+     */
+    private void queryCandidates(Rectangle playerBody, boolean attacking, int after) {
+        float x0 = playerBody.x, y0 = playerBody.y;
+        float x1 = playerBody.x + playerBody.width, y1 = playerBody.y + playerBody.height;
+        if (attacking) {
+            Rectangle atk = player.getAttackHitbox();
+            x0 = Math.min(x0, atk.x);
+            y0 = Math.min(y0, atk.y);
+            x1 = Math.max(x1, atk.x + atk.width);
+            y1 = Math.max(y1, atk.y + atk.height);
+        }
+        queryX = player.position.x;
+        queryY = player.position.y;
+
+        int n = grid.queryRect(x0 - QUERY_SLACK, y0 - QUERY_SLACK,
+            x1 - x0 + QUERY_SLACK * 2, y1 - y0 + QUERY_SLACK * 2);
+        fillCandidates(n, after);
+    }
+
+    private void fillCandidates(int n, int after) {
+        if (n > candidates.length) candidates = new int[Math.max(n, candidates.length * 2)];
+        candidateCount = 0;
+        for (int r = 0; r < n; r++) {
+            int index = handleIndex[grid.getResult(r)];
+            if (index > after) candidates[candidateCount++] = index;
+        }
+        Arrays.sort(candidates, 0, candidateCount);
+    }
+
+    private void growHandles(int minCapacity) {
+        int capacity = Math.max(minCapacity, handleOwners.length * 2);
+        handleOwners = Arrays.copyOf(handleOwners, capacity);
+        handleIndex = Arrays.copyOf(handleIndex, capacity);
+        handleSeen = Arrays.copyOf(handleSeen, capacity);
+    }
+
+    private static boolean overlaps(Rectangle a, Rectangle b) {
+        return a.x < b.x + b.width && a.x + a.width > b.x && a.y < b.y + b.height && a.y + a.height > b.y;
+    }
+
+    public SpatialHash getGrid() { return grid; }
+    /** Total monster yang lolos broadphase dan dicek narrowphase. */
+    public long getCandidatesTested() { return candidatesTested; }
 }
@@ -0,0 +1,291 @@
+package com.fernanda.finpro.managers;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.fernanda.finpro.entities.Monster;
+import com.fernanda.finpro.world.CollisionGrid;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Separation steering (boids) untuk semua monster awake, dijalankan sekali per tick setelah fase AI.
+ * Monster yang terlalu dekat saling mendorong menjauh, jadi Orc / Werewolf yang mengejar player
+ * tidak lagi menumpuk di pixel yang sama.
+ *
+ * Tetangga dicari lewat grid seragam yang dibangun ulang tiap tick dengan counting sort
+ * (sel 2 x 2 tile, isi sel urut index list). Setiap monster memeriksa paling banyak
+ * maxNeighbors * CANDIDATES_PER_NEIGHBOR kandidat dan memakai paling banyak maxNeighbors tetangga,
+ * jadi biayanya linear terhadap jumlah monster walau semuanya berkumpul di satu titik.
+ *
+ * Dorongan dihitung dari posisi awal semua monster (bukan posisi yang sudah didorong),
+ * lalu diterapkan lewat Monster.moveBy supaya tetap tertahan tembok. Hasilnya tidak
+ * bergantung pada urutan pemrosesan, jadi pass ini dipecah ke ForkJoinPool seperti fase AI.
+ */
+public class CrowdSeparation {
+    public static final int DEFAULT_MAX_NEIGHBORS = 8;
+    private static final int CANDIDATES_PER_NEIGHBOR = 4;
+    private static final int CELL_SIZE = CollisionGrid.TILE_SIZE * 2;
+    private static final int MAX_GRID_AXIS = 256; // Monster yang terlalu jauh masuk sel tepi
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int CHUNK_SIZE = 256;
+
+    // Jarak ekstra di luar badan yang masih dianggap terlalu dekat
+    private static final float PERSONAL_SPACE = 2f;
+    // Kecepatan dorong maksimum (px/s), di bawah kecepatan jalan monster
+    private static final float MAX_PUSH_SPEED = 40f;
+
+    private final ForkJoinPool pool;
+    private boolean enabled = true;
+    private boolean parallelEnabled = true;
+    private int parallelThreshold = MonsterAiManager.DEFAULT_PARALLEL_THRESHOLD;
+    private int maxNeighbors = DEFAULT_MAX_NEIGHBORS;
+
+    // Snapshot posisi (titik tengah body) & radius monster yang ikut separation
+    private float[] centerX, centerY, radius;
+    private float[] pushX, pushY;
+    private int[] listIndex;
+    private int count;
+
+    // Grid: isi sel c ada di cellItems[cellStart[c] .. cellStart[c + 1])
+    private int gridWidth, gridHeight;
+    private float originX, originY;
+    // Dibuat untuk grid maksimum (MAX_GRID_AXIS^2, 256 KB) supaya bounding box yang melebar tidak alokasi di tick
+    private final int[] cellStart = new int[MAX_GRID_AXIS * MAX_GRID_AXIS + 1];
+    private int[] cellOf;
+    private int[] cellItems;
+
+    private List<Monster> current; // List yang sedang diproses (dibaca worker)
+    private float maxPush;
+
+    private final AtomicLong neighborChecks = new AtomicLong();
+    private final AtomicLong pushedCount = new AtomicLong();
+
+    public CrowdSeparation() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public CrowdSeparation(ForkJoinPool pool) {
+        this.pool = pool;
+        allocate(INITIAL_CAPACITY);
+        // Tabel sin/cos MathUtils (64 KB) baru dibuat saat pertama dipakai, yaitu di tick pertama ada monster
+        // yang tepat bertumpuk. Dipaksa di sini supaya tidak jadi garbage di tengah permainan
+        MathUtils.sin(0f);
+    }
+
+    public void update(List<Monster> monsters, float dt) {
+        if (!enabled || monsters.size() < 2) return;
+
+        gather(monsters);
+        if (count < 2) return;
+        buildGrid();
+
+        maxPush = MAX_PUSH_SPEED * dt;
+        current = monsters;
+        // Dua fase: semua dorongan dihitung dari snapshot dulu, baru monster digerakkan
+        if (parallelEnabled && count >= parallelThreshold && pool.getParallelism() > 1) {
+            pool.invoke(new CrowdTask(this, 0, count, false));
+            pool.invoke(new CrowdTask(this, 0, count, true));
+        } else {
+            computeRange(0, count);
+            applyRange(0, count);
+        }
+        current = null;
+    }
+
+    private void computeRange(int from, int to) {
+        long checks = 0;
+        for (int i = from; i < to; i++) {
+            checks += computePush(i);
+        }
+        neighborChecks.addAndGet(checks);
+    }
+
+    private void applyRange(int from, int to) {
+        int pushed = 0;
+        for (int i = from; i < to; i++) {
+            if (pushX[i] == 0 && pushY[i] == 0) continue;
+            current.get(listIndex[i]).moveBy(pushX[i], pushY[i]);
+            pushed++;
+        }
+        pushedCount.addAndGet(pushed);
+    }
+
+    private void gather(List<Monster> monsters) {
+        int size = monsters.size();
+        if (size > centerX.length) allocate(Math.max(size, centerX.length * 2));
+
+        count = 0;
+        for (int i = 0; i < size; i++) {
+            Monster m = monsters.get(i);
+            if (m.isDead()) continue;
+            float w = m.bodyRect.width, h = m.bodyRect.height;
+            centerX[count] = m.position.x + w / 2;
+            centerY[count] = m.position.y + h / 2;
+            radius[count] = Math.max(w, h) / 2;
+            listIndex[count] = i;
+            count++;
+        }
+    }
+
+    /**
+     * Counting sort ke sel grid yang menutupi bounding box semua monster.
+     */
+    private void buildGrid() {
+        float minX = centerX[0], minY = centerY[0], maxX = minX, maxY = minY;
+        for (int i = 1; i < count; i++) {
+            minX = Math.min(minX, centerX[i]);
+            minY = Math.min(minY, centerY[i]);
+            maxX = Math.max(maxX, centerX[i]);
+            maxY = Math.max(maxY, centerY[i]);
+        }
+        originX = minX;
+        originY = minY;
+        gridWidth = Math.min((int) ((maxX - minX) / CELL_SIZE) + 1, MAX_GRID_AXIS);
+        gridHeight = Math.min((int) ((maxY - minY) / CELL_SIZE) + 1, MAX_GRID_AXIS);
+
+        int cells = gridWidth * gridHeight;
+        Arrays.fill(cellStart, 0, cells + 1, 0);
+
+        for (int i = 0; i < count; i++) {
+            int c = cellIndex(centerX[i], centerY[i]);
+            cellOf[i] = c;
+            cellStart[c + 1]++;
+        }
+        for (int c = 0; c < cells; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        // Isi sel urut index (stabil), cellStart[c] dipakai sebagai kursor lalu dikembalikan
+        for (int i = 0; i < count; i++) {
+            cellItems[cellStart[cellOf[i]]++] = i;
+        }
+        for (int c = cells; c > 0; c--) {
+            cellStart[c] = cellStart[c - 1];
+        }
+        cellStart[0] = 0;
+    }
+
+    /**
+     * @return jumlah kandidat yang diperiksa
+     */
+    private int computePush(int i) {
+        float x = centerX[i], y = centerY[i], r = radius[i];
+        int cx = cellOf[i] % gridWidth;
+        int cy = cellOf[i] / gridWidth;
+        int candidateBudget = maxNeighbors * CANDIDATES_PER_NEIGHBOR;
+        int checks = 0;
+        int neighbors = 0;
+        float sumX = 0, sumY = 0;
+
+        scan:
+        for (int gy = Math.max(cy - 1, 0); gy <= Math.min(cy + 1, gridHeight - 1); gy++) {
+            for (int gx = Math.max(cx - 1, 0); gx <= Math.min(cx + 1, gridWidth - 1); gx++) {
+                int c = gy * gridWidth + gx;
+                for (int k = cellStart[c], end = cellStart[c + 1]; k < end; k++) {
+                    int j = cellItems[k];
+                    if (j == i) continue;
+                    if (candidateBudget-- == 0) break scan;
+                    checks++;
+
+                    float dx = x - centerX[j];
+                    float dy = y - centerY[j];
+                    float minDist = r + radius[j] + PERSONAL_SPACE;
+                    float dist2 = dx * dx + dy * dy;
+                    if (dist2 >= minDist * minDist) continue;
+
+                    float dist = (float) Math.sqrt(dist2);
+                    if (dist < 0.0001f) {
+                        // Tepat bertumpuk: arah dari hash pasangan (berlawanan untuk i dan j), jadi tumpukan menyebar
+                        int pair = Math.min(i, j) * 0x9E3779B9 ^ Math.max(i, j);
+                        float angle = (pair & 0xffff) * (MathUtils.PI2 / 65536f);
+                        float sign = i < j ? 1f : -1f;
+                        dx = MathUtils.cos(angle) * sign;
+                        dy = MathUtils.sin(angle) * sign;
+                        dist = 1f;
+                    }
+                    // Makin dalam overlap, makin kuat dorongannya (0..1)
+                    float strength = (minDist - dist) / minDist;
+                    sumX += dx / dist * strength;
+                    sumY += dy / dist * strength;
+                    if (++neighbors == maxNeighbors) break scan;
+                }
+            }
+        }
+
+        float len = (float) Math.sqrt(sumX * sumX + sumY * sumY);
+        if (len < 0.0001f) {
+            pushX[i] = 0;
+            pushY[i] = 0;
+            return checks;
+        }
+        float scale = Math.min(len, 1f) * maxPush / len;
+        pushX[i] = sumX * scale;
+        pushY[i] = sumY * scale;
+        return checks;
+    }
+
+    private int cellIndex(float x, float y) {
+        int cx = Math.min((int) ((x - originX) / CELL_SIZE), gridWidth - 1);
+        int cy = Math.min((int) ((y - originY) / CELL_SIZE), gridHeight - 1);
+        return cy * gridWidth + cx;
+    }
+
+    private void allocate(int capacity) {
+        centerX = new float[capacity];
+        centerY = new float[capacity];
+        radius = new float[capacity];
+        pushX = new float[capacity];
+        pushY = new float[capacity];
+        listIndex = new int[capacity];
+        cellOf = new int[capacity];
+        cellItems = new int[capacity];
+    }
+
+    private static class CrowdTask extends RecursiveAction {
+        private final CrowdSeparation owner;
+        private final int from;
+        private final int to;
+        private final boolean apply;
+
+        CrowdTask(CrowdSeparation owner, int from, int to, boolean apply) {
+            this.owner = owner;
+            this.from = from;
+            this.to = to;
+            this.apply = apply;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                if (apply) owner.applyRange(from, to);
+                else owner.computeRange(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new CrowdTask(owner, from, mid, apply), new CrowdTask(owner, mid, to, apply));
+        }
+    }
+
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public boolean isEnabled() { return enabled; }
+
+    public void setParallelEnabled(boolean parallelEnabled) { this.parallelEnabled = parallelEnabled; }
+
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 1) throw new IllegalArgumentException("Threshold harus >= 1: " + parallelThreshold);
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public void setMaxNeighbors(int maxNeighbors) {
+        if (maxNeighbors < 1) throw new IllegalArgumentException("maxNeighbors harus >= 1: " + maxNeighbors);
+        this.maxNeighbors = maxNeighbors;
+    }
+    public int getMaxNeighbors() { return maxNeighbors; }
+
+    /** Total pasangan yang diperiksa (dibatasi maxNeighbors per monster). */
+    public long getNeighborChecks() { return neighborChecks.get(); }
+    /** Total monster yang didorong (satu per monster per tick). */
+    public long getPushedCount() { return pushedCount.get(); }
+}
@@ -0,0 +1,155 @@
+package com.fernanda.finpro.managers;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Antrian task untuk main thread (GL thread) dengan budget waktu per frame.
+ * Pengganti Gdx.app.postRunnable: thread worker (HTTP, dll) memasukkan task lewat post()
+ * tanpa lock, lalu Main memanggil runFrame() sekali per frame.
+ * Task dijalankan dari prioritas tertinggi; jika budget habis, sisanya pindah ke frame berikutnya.
+ * Minimal satu task per frame selalu dijalankan supaya antrian tidak macet.
+ */
+public class MainThreadQueue {
+
+    public enum Priority {
+        HIGH,    // Login, error yang ditunggu UI
+        NORMAL,  // Leaderboard, callback score
+        LOW      // Log / statistik
+    }
+
+    private static MainThreadQueue instance;
+
+    private static final int PRIORITY_COUNT = Priority.values().length;
+
+    private final Inbox[] inboxes = new Inbox[PRIORITY_COUNT];
+    @SuppressWarnings("unchecked")
+    private final ArrayDeque<Runnable>[] pending = new ArrayDeque[PRIORITY_COUNT];
+
+    private long executedCount;
+    private long rolledOverFrames;
+    private long maxFrameNanos;
+
+    private MainThreadQueue() {
+        for (int i = 0; i < PRIORITY_COUNT; i++) {
+            inboxes[i] = new Inbox();
+            pending[i] = new ArrayDeque<>();
+        }
+    }
+
+    public static synchronized MainThreadQueue getInstance() {
+        if (instance == null) {
+            instance = new MainThreadQueue();
+        }
+        return instance;
+    }
+
+    /**
+     * Aman dipanggil dari thread mana pun.
+     */
+    public void post(Priority priority, Runnable task) {
+        inboxes[priority.ordinal()].push(task);
+    }
+
+    public void post(Runnable task) {
+        post(Priority.NORMAL, task);
+    }
+
+    /**
+     * Jalankan task sampai budget habis. Hanya dari main thread.
+     * @return jumlah task yang dijalankan frame ini
+     */
+    public int runFrame(long budgetNanos) {
+        for (int i = 0; i < PRIORITY_COUNT; i++) {
+            inboxes[i].drainTo(pending[i]);
+        }
+
+        long start = System.nanoTime();
+        int executed = 0;
+
+        for (int p = 0; p < PRIORITY_COUNT; p++) {
+            Runnable task;
+            while ((task = pending[p].peekFirst()) != null) {
+                if (executed > 0 && System.nanoTime() - start >= budgetNanos) {
+                    rolledOverFrames++;
+                    finishFrame(start, executed);
+                    return executed;
+                }
+                pending[p].pollFirst();
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    System.err.println("MainThreadQueue: task gagal - " + e);
+                }
+                executed++;
+            }
+        }
+
+        finishFrame(start, executed);
+        return executed;
+    }
+
+    private void finishFrame(long start, int executed) {
+        executedCount += executed;
+        long spent = System.nanoTime() - start;
+        if (spent > maxFrameNanos) maxFrameNanos = spent;
+    }
+
+    /**
+     * Jumlah task yang sudah dipindah ke main thread tapi belum dijalankan.
+     * Task yang masih di inbox (belum di-drain) tidak ikut terhitung.
+     */
+    public int getPendingCount() {
+        int count = 0;
+        for (ArrayDeque<Runnable> queue : pending) {
+            count += queue.size();
+        }
+        return count;
+    }
+
+    public long getExecutedCount() { return executedCount; }
+    public long getRolledOverFrames() { return rolledOverFrames; }
+    public long getMaxFrameNanos() { return maxFrameNanos; }
+
+    /**
+     * Antrian MPSC lock-free (linked list intrusif ala Vyukov).
+     * Producer: satu getAndSet pada tail. Consumer tunggal (main thread) berjalan dari head.
+     */
+    private static final class Inbox {
+        private static final class Node {
+            final Runnable task;
+            volatile Node next;
+
+            Node(Runnable task) {
+                this.task = task;
+            }
+        }
+
+        private final AtomicReference<Node> tail;
+        private Node head; // Sentinel, hanya disentuh consumer
+
+        Inbox() {
+            Node stub = new Node(null);
+            head = stub;
+            tail = new AtomicReference<>(stub);
+        }
+
+        void push(Runnable task) {
+            Node node = new Node(task);
+            Node prev = tail.getAndSet(node);
+            prev.next = node;
+        }
+
+        /**
+         * Pindahkan semua task yang sudah tersambung. Producer yang sedang di tengah push
+         * (tail sudah maju, next belum ditulis) akan terambil di frame berikutnya.
+         */
+        void drainTo(ArrayDeque<Runnable> out) {
+            Node next;
+            while ((next = head.next) != null) {
+                out.addLast(next.task);
+                head = next;
+            }
+        }
+    }
+}
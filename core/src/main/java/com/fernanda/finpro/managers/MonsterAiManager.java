@@ -0,0 +1,123 @@
+package com.fernanda.finpro.managers;
+
+import com.fernanda.finpro.entities.Monster;
+import com.fernanda.finpro.events.EventPublisher;
+import com.fernanda.finpro.projectile.ProjectileSystem;
+import com.fernanda.finpro.world.LineOfSight;
+import com.fernanda.finpro.world.MonsterStore;
+import com.fernanda.finpro.world.WorldSnapshot;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fase AI monster: update() + aiBehavior() untuk semua monster (lewat AiLodScheduler).
+ * Setiap monster hanya membaca WorldSnapshot dan menulis state miliknya sendiri,
+ * jadi list bisa dipecah ke ForkJoinPool tanpa lock. Efek yang menyentuh dunia luar
+ * (sound, projectile) ditunda dan dijalankan berurutan di merge(), sehingga hasilnya sama
+ * persis dengan mode serial.
+ */
+public class MonsterAiManager {
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 256;
+    private static final int CHUNK_SIZE = 64;
+
+    private final ForkJoinPool pool;
+    private final AiLodScheduler lodScheduler = new AiLodScheduler();
+    private final MonsterStore store = new MonsterStore();
+    private long tick;
+    private WorldSnapshot lastSnapshot;
+    private boolean parallelEnabled = true;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    public MonsterAiManager() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public MonsterAiManager(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Jalankan AI semua monster. Paralel hanya jika diaktifkan dan jumlah monster
+     * mencapai threshold (di bawah itu overhead fork lebih mahal dari kerjanya).
+     */
+    public void update(List<Monster> monsters, float dt, WorldSnapshot snapshot) {
+        lastSnapshot = snapshot;
+        // Perception dalam satu sapuan array sebelum fase AI (dibaca read-only oleh worker)
+        store.gather(monsters);
+        store.computeDistances(snapshot.playerX, snapshot.playerY);
+
+        int count = monsters.size();
+        if (parallelEnabled && count >= parallelThreshold && pool.getParallelism() > 1) {
+            pool.invoke(new AiTask(this, monsters, 0, count, dt, snapshot));
+        } else {
+            updateRange(monsters, 0, count, dt, snapshot);
+        }
+        tick++;
+    }
+
+    /**
+     * Merge deterministik: urutan list, setelah semua worker AI selesai.
+     * Bisa berjalan di thread worker JobGraph; yang dijamin hanyalah akses tulis eksklusif
+     * ke MONSTERS dan PROJECTILES selama job ai. Sound yang diantrikan AI masuk ke buffer event job ai
+     * (diputar AudioSubscriber di main thread), tembakan masuk ke ProjectileSystem,
+     * hitungan line of sight per monster dijumlahkan ke LineOfSight snapshot terakhir.
+     */
+    public void merge(List<Monster> monsters, ProjectileSystem projectiles, EventPublisher events) {
+        LineOfSight sight = lastSnapshot != null ? lastSnapshot.sight : null;
+        for (int i = 0; i < monsters.size(); i++) {
+            Monster m = monsters.get(i);
+            m.flushPendingSound(events);
+            m.flushPendingProjectile(projectiles);
+            m.flushSightCounts(sight);
+        }
+        lodScheduler.countTiers(monsters);
+    }
+
+    private void updateRange(List<Monster> monsters, int from, int to, float dt, WorldSnapshot snapshot) {
+        for (int i = from; i < to; i++) {
+            lodScheduler.run(monsters.get(i), i, tick, dt, snapshot, store);
+        }
+    }
+
+    private static class AiTask extends RecursiveAction {
+        private final MonsterAiManager owner;
+        private final List<Monster> monsters;
+        private final int from;
+        private final int to;
+        private final float dt;
+        private final WorldSnapshot snapshot;
+
+        AiTask(MonsterAiManager owner, List<Monster> monsters, int from, int to, float dt, WorldSnapshot snapshot) {
+            this.owner = owner;
+            this.monsters = monsters;
+            this.from = from;
+            this.to = to;
+            this.dt = dt;
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                owner.updateRange(monsters, from, to, dt, snapshot);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new AiTask(owner, monsters, from, mid, dt, snapshot),
+                      new AiTask(owner, monsters, mid, to, dt, snapshot));
+        }
+    }
+
+    public AiLodScheduler getLodScheduler() { return lodScheduler; }
+
+    public void setParallelEnabled(boolean parallelEnabled) { this.parallelEnabled = parallelEnabled; }
+    public boolean isParallelEnabled() { return parallelEnabled; }
+
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 1) throw new IllegalArgumentException("Threshold harus >= 1: " + parallelThreshold);
+        this.parallelThreshold = parallelThreshold;
+    }
+    public int getParallelThreshold() { return parallelThreshold; }
+}
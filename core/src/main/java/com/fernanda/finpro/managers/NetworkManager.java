@@ -5,6 +5,7 @@ import com.badlogic.gdx.Net;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.JsonWriter;
+import com.fernanda.finpro.components.Inventory;
 import com.fernanda.finpro.components.ItemType;
 import com.fernanda.finpro.entities.Player;
 
@@ -19,6 +20,10 @@ public class NetworkManager {
     private String currentUsername;
     private boolean miniBossDefeated = false;
 
+    // Inventory + version terakhir yang sudah tersimpan di server (hanya diakses di main thread)
+    private Inventory savedInventory;
+    private long savedVersion = -1;
+
     private NetworkManager() {}
 
     public static NetworkManager getInstance() {
@@ -54,66 +59,64 @@ public class NetworkManager {
                 final String result = httpResponse.getResultAsString();
                 final int statusCode = httpResponse.getStatus().getStatusCode();
 
-                Gdx.app.postRunnable(new Runnable() {
-                    @Override
-                    public void run() {
-                        if (statusCode != 200) {
-                            callback.onFailure(new RuntimeException("Server returned error: " + statusCode));
-                            return;
-                        }
+                if (statusCode != 200) {
+                    postLoginFailure(callback,
+                        new RuntimeException("Server returned error: " + statusCode));
+                    return;
+                }
 
-                        try {
-                            JsonValue root = new JsonReader().parse(result);
-                            String user = root.getString("username");
-                            currentUsername = user;
-                            
-                            Map<String, Integer> inventoryData = new HashMap<>();
-                            if (root.has("inventory") && !root.get("inventory").isNull()) {
-                                JsonValue inv = root.get("inventory");
-                                for (JsonValue item : inv) {
-                                    inventoryData.put(item.name, item.asInt());
-                                }
-                            }
-                            
-                            // Load MiniBoss defeated state
-                            boolean loadedMiniBossState = false;
-                            if (root.has("miniBossDefeated")) {
-                                loadedMiniBossState = root.getBoolean("miniBossDefeated");
-                            }
-                            miniBossDefeated = loadedMiniBossState;
-
-                            // Load Boss Killed state
-                            boolean loadedBossKilled = false;
-                            if (root.has("bossKilled")) {
-                                loadedBossKilled = root.getBoolean("bossKilled");
-                            }
-                            
-                            callback.onSuccess(user, inventoryData, loadedMiniBossState, loadedBossKilled);
-                        } catch (Exception e) {
-                            callback.onFailure(e);
+                // Parse JSON di thread HTTP, main thread hanya menerima hasil jadi
+                final String user;
+                final Map<String, Integer> inventoryData = new HashMap<>();
+                final boolean loadedMiniBossState;
+                final boolean loadedBossKilled;
+                try {
+                    JsonValue root = new JsonReader().parse(result);
+                    user = root.getString("username");
+
+                    if (root.has("inventory") && !root.get("inventory").isNull()) {
+                        JsonValue inv = root.get("inventory");
+                        for (JsonValue item : inv) {
+                            inventoryData.put(item.name, item.asInt());
                         }
                     }
-                });
-            }
 
-            @Override
-            public void failed(final Throwable t) {
-                Gdx.app.postRunnable(new Runnable() {
+                    // Load MiniBoss defeated & Boss Killed state
+                    loadedMiniBossState = root.has("miniBossDefeated") && root.getBoolean("miniBossDefeated");
+                    loadedBossKilled = root.has("bossKilled") && root.getBoolean("bossKilled");
+                } catch (Exception e) {
+                    postLoginFailure(callback, e);
+                    return;
+                }
+
+                MainThreadQueue.getInstance().post(MainThreadQueue.Priority.HIGH, new Runnable() {
                     @Override
                     public void run() {
-                        callback.onFailure(t);
+                        currentUsername = user;
+                        miniBossDefeated = loadedMiniBossState;
+                        savedInventory = null;
+                        callback.onSuccess(user, inventoryData, loadedMiniBossState, loadedBossKilled);
                     }
                 });
             }
 
+            @Override
+            public void failed(final Throwable t) {
+                postLoginFailure(callback, t);
+            }
+
             @Override
             public void cancelled() {
-                Gdx.app.postRunnable(new Runnable() {
-                    @Override
-                    public void run() {
-                        callback.onFailure(new RuntimeException("Request cancelled"));
-                    }
-                });
+                postLoginFailure(callback, new RuntimeException("Request cancelled"));
+            }
+        });
+    }
+
+    private void postLoginFailure(final LoginCallback callback, final Throwable t) {
+        MainThreadQueue.getInstance().post(MainThreadQueue.Priority.HIGH, new Runnable() {
+            @Override
+            public void run() {
+                callback.onFailure(t);
             }
         });
     }
@@ -165,13 +168,19 @@ public class NetworkManager {
     public void saveInventory(Player player) {
         if (currentUsername == null) return;
 
+        // Tidak ada perubahan sejak save terakhir yang berhasil
+        final Inventory inventory = player.inventory;
+        if (inventory == savedInventory && inventory.getVersion() == savedVersion) return;
+
+        final Inventory.Snapshot snapshot = inventory.snapshot();
+
         // Manual JSON construction to ensure correct format
         StringBuilder jsonBuilder = new StringBuilder();
         jsonBuilder.append("{");
         int i = 0;
-        for (Map.Entry<ItemType, Integer> entry : player.inventory.getItems().entrySet()) {
+        for (ItemType type : snapshot.getTypes()) {
             if (i > 0) jsonBuilder.append(",");
-            jsonBuilder.append("\"").append(entry.getKey().name()).append("\":").append(entry.getValue());
+            jsonBuilder.append("\"").append(type.name()).append("\":").append(snapshot.getItemCount(type));
             i++;
         }
         jsonBuilder.append("}");
@@ -194,7 +203,17 @@ public class NetworkManager {
         Gdx.net.sendHttpRequest(request, new Net.HttpResponseListener() {
             @Override
             public void handleHttpResponse(Net.HttpResponse httpResponse) {
-                System.out.println("Inventory saved successfully. Status: " + httpResponse.getStatus().getStatusCode());
+                final int statusCode = httpResponse.getStatus().getStatusCode();
+                System.out.println("Inventory saved successfully. Status: " + statusCode);
+                if (statusCode < 200 || statusCode >= 300) return;
+
+                MainThreadQueue.getInstance().post(MainThreadQueue.Priority.NORMAL, new Runnable() {
+                    @Override
+                    public void run() {
+                        savedInventory = inventory;
+                        savedVersion = snapshot.getVersion();
+                    }
+                });
             }
 
             @Override
@@ -236,7 +255,7 @@ public class NetworkManager {
             public void handleHttpResponse(Net.HttpResponse httpResponse) {
                 System.out.println("Score updated: " + httpResponse.getStatus().getStatusCode());
                 if (onSuccess != null) {
-                    Gdx.app.postRunnable(onSuccess);
+                    MainThreadQueue.getInstance().post(MainThreadQueue.Priority.NORMAL, onSuccess);
                 }
             }
 
@@ -271,28 +290,30 @@ public class NetworkManager {
             @Override
             public void handleHttpResponse(Net.HttpResponse httpResponse) {
                 final String result = httpResponse.getResultAsString();
-                Gdx.app.postRunnable(() -> {
-                    try {
-                        JsonValue root = new JsonReader().parse(result);
-                        java.util.List<LeaderboardEntry> entries = new java.util.ArrayList<>();
-                        for (JsonValue entry : root) {
-                            LeaderboardEntry le = new LeaderboardEntry();
-                            le.username = entry.getString("username");
-                            le.cookingScore = entry.getInt("cookingScore", 0);
-                            le.monsterKillScore = entry.getInt("monsterKillScore", 0);
-                            le.bossKilled = entry.getBoolean("bossKilled", false);
-                            entries.add(le);
-                        }
-                        callback.onSuccess(entries);
-                    } catch (Exception e) {
-                        callback.onFailure(e);
+
+                // Parse di thread HTTP
+                final java.util.List<LeaderboardEntry> entries = new java.util.ArrayList<>();
+                try {
+                    JsonValue root = new JsonReader().parse(result);
+                    for (JsonValue entry : root) {
+                        LeaderboardEntry le = new LeaderboardEntry();
+                        le.username = entry.getString("username");
+                        le.cookingScore = entry.getInt("cookingScore", 0);
+                        le.monsterKillScore = entry.getInt("monsterKillScore", 0);
+                        le.bossKilled = entry.getBoolean("bossKilled", false);
+                        entries.add(le);
                     }
-                });
+                } catch (Exception e) {
+                    MainThreadQueue.getInstance().post(MainThreadQueue.Priority.NORMAL, () -> callback.onFailure(e));
+                    return;
+                }
+
+                MainThreadQueue.getInstance().post(MainThreadQueue.Priority.NORMAL, () -> callback.onSuccess(entries));
             }
 
             @Override
             public void failed(Throwable t) {
-                Gdx.app.postRunnable(() -> callback.onFailure(t));
+                MainThreadQueue.getInstance().post(MainThreadQueue.Priority.NORMAL, () -> callback.onFailure(t));
             }
 
             @Override
@@ -0,0 +1,50 @@
+package com.fernanda.finpro.managers;
+
+import com.fernanda.finpro.entities.Player;
+import com.fernanda.finpro.events.EventBus;
+import com.fernanda.finpro.events.GameEvent;
+import com.fernanda.finpro.factories.MonsterFactory;
+
+/**
+ * Consumer EventBus yang menyimpan progress ke server lewat NetworkManager.
+ * Dipanggil sekali per frame (di luar tick simulasi); semua pickup dalam satu drain
+ * digabung menjadi satu saveInventory, bukan satu request per item.
+ */
+public class PersistenceSubscriber implements EventBus.Handler {
+    private final EventBus.Subscription subscription;
+    private final Player player;
+
+    private boolean inventoryDirty;
+    private boolean miniBossDefeated;
+    private long inventorySaves;
+
+    public PersistenceSubscriber(EventBus events, Player player) {
+        this.subscription = events.subscribe("persistence");
+        this.player = player;
+    }
+
+    public void update() {
+        subscription.drain(this);
+
+        if (miniBossDefeated) {
+            miniBossDefeated = false;
+            NetworkManager.getInstance().setMiniBossDefeated(true);
+        }
+        if (inventoryDirty) {
+            inventoryDirty = false;
+            NetworkManager.getInstance().saveInventory(player);
+            inventorySaves++;
+        }
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        if (event.type == GameEvent.Type.PICKUP) {
+            inventoryDirty = true;
+        } else if (event.type == GameEvent.Type.KILL && event.subject == MonsterFactory.Type.MINI_BOSS.ordinal()) {
+            miniBossDefeated = true;
+        }
+    }
+
+    public long getInventorySaves() { return inventorySaves; }
+}
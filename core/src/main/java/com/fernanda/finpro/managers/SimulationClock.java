@@ -0,0 +1,150 @@
+package com.fernanda.finpro.managers;
+
+/**
+ * Fixed Timestep Clock
+ * Memisahkan laju simulasi (tick tetap, default 60 Hz) dari laju render.
+ * Waktu frame dikumpulkan di accumulator lalu dipecah menjadi tick berukuran sama,
+ * dengan batas jumlah substep per frame supaya frame yang lambat tidak menumpuk.
+ *
+ * Fast-forward: ukuran tick tidak pernah berubah, yang berubah hanya jumlah tick per frame.
+ * - timeScale     : waktu frame dikali skala (2x, 8x, ...), batas substep ikut dikali
+ * - ticksPerFrame : tepat N tick per frame, waktu frame diabaikan (soak test / headless)
+ * Karena dt tiap tick tetap sama, hasil simulasi identik dengan main realtime.
+ */
+public class SimulationClock {
+    public static final float DEFAULT_TICK_RATE = 60f;
+    public static final int DEFAULT_MAX_SUBSTEPS = 5;
+
+    // Jendela pengukuran throughput (detik wall-clock)
+    private static final float THROUGHPUT_WINDOW = 1f;
+
+    private float stepSeconds;
+    private int maxSubsteps;
+    private float accumulator;
+    private long tickCount;
+
+    private float timeScale = 1f;
+    private int ticksPerFrame = 0;   // 0 = ikut waktu frame
+    private int pendingTicks;
+
+    private float windowWallSeconds;
+    private int windowTicks;
+    private float simSecondsPerWallSecond;
+
+    public SimulationClock() {
+        this(DEFAULT_TICK_RATE, DEFAULT_MAX_SUBSTEPS);
+    }
+
+    public SimulationClock(float tickRate, int maxSubsteps) {
+        setTickRate(tickRate);
+        setMaxSubsteps(maxSubsteps);
+        this.accumulator = 0f;
+        this.tickCount = 0;
+    }
+
+    /**
+     * Tambahkan waktu frame ke accumulator.
+     * Sisa waktu di atas batas substep dibuang (game melambat, bukan "meledak").
+     */
+    public void advance(float frameDelta) {
+        if (frameDelta < 0) return;
+        measure(frameDelta);
+
+        if (ticksPerFrame > 0) {
+            // Hitungan integer, bukan float, supaya tidak ada tick yang hilang karena pembulatan
+            pendingTicks = ticksPerFrame;
+            return;
+        }
+
+        accumulator += frameDelta * timeScale;
+
+        float maxBacklog = stepSeconds * maxSubsteps * Math.max(1f, (float) Math.ceil(timeScale));
+        if (accumulator > maxBacklog) {
+            accumulator = maxBacklog;
+        }
+    }
+
+    /**
+     * Ambil satu tick dari accumulator.
+     * @return true jika tick harus dijalankan
+     */
+    public boolean consumeStep() {
+        if (ticksPerFrame > 0) {
+            if (pendingTicks <= 0) return false;
+            pendingTicks--;
+        } else if (accumulator >= stepSeconds) {
+            accumulator -= stepSeconds;
+        } else {
+            return false;
+        }
+        tickCount++;
+        windowTicks++;
+        return true;
+    }
+
+    /**
+     * Faktor interpolasi (0..1) antara tick sebelumnya dan tick sekarang.
+     * Mode ticksPerFrame tidak punya sisa waktu, jadi selalu tampilkan tick terakhir.
+     */
+    public float getAlpha() {
+        if (ticksPerFrame > 0) return 1f;
+        return accumulator / stepSeconds;
+    }
+
+    private void measure(float frameDelta) {
+        windowWallSeconds += frameDelta;
+        if (windowWallSeconds >= THROUGHPUT_WINDOW) {
+            simSecondsPerWallSecond = windowTicks * stepSeconds / windowWallSeconds;
+            windowWallSeconds = 0f;
+            windowTicks = 0;
+        }
+    }
+
+    public void setTickRate(float tickRate) {
+        if (tickRate <= 0) throw new IllegalArgumentException("Tick rate harus > 0: " + tickRate);
+        this.stepSeconds = 1f / tickRate;
+    }
+
+    public void setMaxSubsteps(int maxSubsteps) {
+        if (maxSubsteps < 1) throw new IllegalArgumentException("Max substeps harus >= 1: " + maxSubsteps);
+        this.maxSubsteps = maxSubsteps;
+    }
+
+    /**
+     * 1 = realtime, 4 = empat kali lebih cepat. Di bawah 1 = slow motion.
+     */
+    public void setTimeScale(float timeScale) {
+        if (timeScale <= 0) throw new IllegalArgumentException("Time scale harus > 0: " + timeScale);
+        this.timeScale = timeScale;
+    }
+
+    /**
+     * Jalankan tepat N tick setiap frame tanpa melihat waktu frame. 0 = kembali ke mode normal.
+     */
+    public void setTicksPerFrame(int ticksPerFrame) {
+        if (ticksPerFrame < 0) throw new IllegalArgumentException("Ticks per frame harus >= 0: " + ticksPerFrame);
+        this.ticksPerFrame = ticksPerFrame;
+        this.pendingTicks = 0;
+        this.accumulator = 0f;
+    }
+
+    public void reset() {
+        accumulator = 0f;
+        pendingTicks = 0;
+    }
+
+    public boolean isFastForward() { return ticksPerFrame > 0 || timeScale != 1f; }
+
+    public float getStepSeconds() { return stepSeconds; }
+    public float getTickRate() { return 1f / stepSeconds; }
+    public int getMaxSubsteps() { return maxSubsteps; }
+    public long getTickCount() { return tickCount; }
+    public float getTimeScale() { return timeScale; }
+    public int getTicksPerFrame() { return ticksPerFrame; }
+    public double getSimulatedSeconds() { return tickCount * (double) stepSeconds; }
+
+    /**
+     * Detik simulasi per detik wall-clock, diukur per jendela 1 detik. 1.0 = realtime.
+     */
+    public float getSimSecondsPerWallSecond() { return simSecondsPerWallSecond; }
+}
@@ -1,59 +1,93 @@
 package com.fernanda.finpro.managers;
 
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.fernanda.finpro.entities.Boss; // <-- IMPORT DITAMBAHKAN
-import com.fernanda.finpro.entities.MiniBoss;
+import com.fernanda.finpro.entities.MeteorController;
 import com.fernanda.finpro.entities.Monster;
-import com.fernanda.finpro.entities.Orc;
-import com.fernanda.finpro.entities.Werewolf;
-import com.fernanda.finpro.entities.Yeti;
+import com.fernanda.finpro.events.EventPublisher;
 import com.fernanda.finpro.factories.MonsterFactory;
 import com.fernanda.finpro.enums.WorldType;
 import com.fernanda.finpro.singleton.GameAssetManager;
+import com.fernanda.finpro.world.RandomService;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class SpawnManager {
+    // Layer spawn per map, dibuat sekali (bukan array baru tiap spawn)
+    private static final String[] FOREST_SPAWN_LAYERS = {
+        "spawn_monster_1", "spawn_monster_2", "spawn_monster_3", "spawn_monster_4",
+        "spawn_monster_5", "spawn_monster_6", "spawn_monster_7", "spawn_monster_8",
+        "spawn_monster_9", "spawn_monster_10", "spawn_monster_11", "spawn_monster_12"
+    };
+    private static final String[] ICE_SPAWN_LAYERS = {
+        "ice_monster_spawn_1", "ice_monster_spawn_2", "ice_monster_spawn_3",
+        "ice_monster_spawn_4", "ice_monster_spawn_5", "ice_monster_spawn_6",
+        "ice_monster_spawn_7", "ice_monster_spawn_8", "ice_monster_spawn_9"
+    };
+    private static final String[] BOSS_SPAWN_LAYERS = { "boss_infernospawn" };
+
+    /**
+     * Dipanggil setiap kali monster baru masuk ke list (mis. untuk ActivationManager).
+     */
+    public interface SpawnListener {
+        void onMonsterSpawned(Monster monster);
+    }
+
     private List<Monster> monsterList;
+    private SpawnListener spawnListener;
+    private final RandomService random;
     private List<SpawnRule> spawnRules;
     private Boss boss; 
     private WorldType currentWorld = WorldType.FOREST;
     private boolean miniBossDefeated = false;
+    // Hujan meteor boss, diterapkan setiap kali boss di-spawn
+    private int maxMeteors = MeteorController.DEFAULT_MAX_METEORS;
+    private int meteorsPerSpawn = 1;
+    private EventPublisher events; // Diteruskan ke boss untuk event DAMAGE
+
+    // Jumlah monster hidup per tipe (di monsterList), diubah saat spawn / remove, bukan dihitung ulang
+    private final int[] liveCounts = new int[MonsterFactory.Type.values().length];
+    // Bit i = rule i masih di bawah maxCount (timer-nya jalan). Dihitung ulang hanya saat populasi berubah
+    private int pendingRules;
+    // Scratch posisi spawn; nilainya langsung disalin monster lewat reset()
+    private final Vector2 spawnPosition = new Vector2();
+    // Scratch urutan layer untuk MonsterFactory.getRandomSpawnPoint(), milik instance ini (job spawn)
+    private final String[] shuffledLayers = new String[Math.max(FOREST_SPAWN_LAYERS.length, ICE_SPAWN_LAYERS.length)];
 
     private static class SpawnRule {
         MonsterFactory.Type type;
-        Class<? extends Monster> classType;
         int maxCount;
         float spawnInterval;
         float timer;
 
-        public SpawnRule(MonsterFactory.Type type, Class<? extends Monster> classType, int maxCount, float interval) {
+        public SpawnRule(MonsterFactory.Type type, int maxCount, float interval) {
             this.type = type;
-            this.classType = classType;
             this.maxCount = maxCount;
             this.spawnInterval = interval;
             this.timer = 0;
         }
     }
 
-    public SpawnManager(List<Monster> monsterList) {
+    public SpawnManager(List<Monster> monsterList, RandomService random) {
         this.monsterList = monsterList;
+        this.random = random;
         this.spawnRules = new ArrayList<>();
         this.boss = null; 
 
         // Aturan Spawn: Max 10 Orc, Interval 15 detik
-        spawnRules.add(new SpawnRule(MonsterFactory.Type.ORC, Orc.class, 10, 15.0f));
+        spawnRules.add(new SpawnRule(MonsterFactory.Type.ORC, 10, 15.0f));
         // Aturan Spawn: Max 5 Werewolf, Interval 15 detik
-        spawnRules.add(new SpawnRule(MonsterFactory.Type.WEREWOLF, Werewolf.class, 5, 15.0f));
+        spawnRules.add(new SpawnRule(MonsterFactory.Type.WEREWOLF, 5, 15.0f));
         // Aturan Spawn: Max 15 Yeti, Interval 15 detik
-        spawnRules.add(new SpawnRule(MonsterFactory.Type.YETI, Yeti.class, 15, 15.0f));
+        spawnRules.add(new SpawnRule(MonsterFactory.Type.YETI, 15, 15.0f));
         // Aturan Spawn: Max 1 MiniBoss, Interval 30 detik (hanya 1 di map)
-        spawnRules.add(new SpawnRule(MonsterFactory.Type.MINI_BOSS, MiniBoss.class, 1, 30.0f));
+        spawnRules.add(new SpawnRule(MonsterFactory.Type.MINI_BOSS, 1, 30.0f));
 
         System.out.println("Spawn Manager Initialized with " + spawnRules.size() + " rules.");
 
+        refreshPendingRules();
         spawnInitialMonsters();
     }
 
@@ -85,67 +119,104 @@ public class SpawnManager {
             return;
         }
 
-        for (SpawnRule rule : spawnRules) {
-            // Skip MiniBoss jika sudah pernah defeated
-            if (rule.type == MonsterFactory.Type.MINI_BOSS && miniBossDefeated) {
-                continue;
-            }
-            
-            int currentCount = countMonsters(rule.classType);
-            if (currentCount < rule.maxCount) {
-                rule.timer += dt;
-                
-                // Cek apakah harus spawn (Ice World tidak ada delay untuk Yeti & MiniBoss)
-                boolean isIceMonster = (currentWorld == WorldType.ICE) && 
-                                     (rule.type == MonsterFactory.Type.YETI || rule.type == MonsterFactory.Type.MINI_BOSS);
-                
-                if (isIceMonster || rule.timer >= rule.spawnInterval) {
-                    spawnMonster(rule.type);
-                    rule.timer = 0;
-                }
+        // Populasi penuh = tidak ada yang perlu dicek sampai ada monster yang dihapus
+        int rules = pendingRules;
+        while (rules != 0) {
+            int i = Integer.numberOfTrailingZeros(rules); // Urutan rule tetap (urutan RNG sama)
+            rules &= rules - 1;
+            SpawnRule rule = spawnRules.get(i);
+            rule.timer += dt;
+
+            // Cek apakah harus spawn (Ice World tidak ada delay untuk Yeti & MiniBoss)
+            boolean isIceMonster = (currentWorld == WorldType.ICE) &&
+                                 (rule.type == MonsterFactory.Type.YETI || rule.type == MonsterFactory.Type.MINI_BOSS);
+
+            if (isIceMonster || rule.timer >= rule.spawnInterval) {
+                spawnMonster(rule.type);
+                rule.timer = 0;
             }
         }
     }
 
+    /**
+     * Dipanggil GameWorld setiap kali monster dibuang dari monsterList.
+     */
+    public void onMonsterRemoved(Monster monster) {
+        MonsterFactory.Type type = MonsterFactory.typeOf(monster);
+        if (type != null) {
+            liveCounts[type.ordinal()]--;
+            refreshPendingRules();
+        }
+    }
+
+    /**
+     * Dipanggil GameWorld setelah monsterList dikosongkan (pindah world / restart).
+     */
+    public void onMonstersCleared() {
+        Arrays.fill(liveCounts, 0);
+        refreshPendingRules();
+    }
+
+    public int getLiveCount(MonsterFactory.Type type) {
+        return liveCounts[type.ordinal()];
+    }
+
+    private void refreshPendingRules() {
+        int rules = 0;
+        for (int i = 0; i < spawnRules.size(); i++) {
+            SpawnRule rule = spawnRules.get(i);
+            // Skip MiniBoss jika sudah pernah defeated
+            if (rule.type == MonsterFactory.Type.MINI_BOSS && miniBossDefeated) continue;
+            if (liveCounts[rule.type.ordinal()] < rule.maxCount) rules |= 1 << i;
+        }
+        pendingRules = rules;
+    }
+
+    public void setSpawnListener(SpawnListener spawnListener) {
+        this.spawnListener = spawnListener;
+    }
+
     public void setWorld(WorldType world) {
         this.currentWorld = world;
     }
 
-    private void spawnMonster(MonsterFactory.Type type) {
+    public void spawnMonster(MonsterFactory.Type type) {
         Vector2 pos;
         
         if (type == MonsterFactory.Type.MINI_BOSS) {
             if (currentWorld != WorldType.ICE) return;
             // Spawn di area kanan atas (800-1100)
-            float x = MathUtils.random(800f, 1100f);
-            float y = MathUtils.random(800f, 1100f);
-            pos = new Vector2(x, y);
+            float x = random.get(RandomService.Stream.SPAWN).random(800f, 1100f);
+            float y = random.get(RandomService.Stream.SPAWN).random(800f, 1100f);
+            pos = spawnPosition.set(x, y);
         } else if (type == MonsterFactory.Type.YETI) {
             if (currentWorld != WorldType.ICE) return; 
             pos = MonsterFactory.getRandomSpawnPoint(
                 GameAssetManager.getInstance().getIceMap(), 
-                new String[]{
-                    "ice_monster_spawn_1", "ice_monster_spawn_2", "ice_monster_spawn_3",
-                    "ice_monster_spawn_4", "ice_monster_spawn_5", "ice_monster_spawn_6",
-                    "ice_monster_spawn_7", "ice_monster_spawn_8", "ice_monster_spawn_9"
-                }
+                ICE_SPAWN_LAYERS,
+                random.get(RandomService.Stream.SPAWN),
+                spawnPosition,
+                shuffledLayers
             );
         } else { // Orc & Werewolf
             if (currentWorld != WorldType.FOREST) return;
             pos = MonsterFactory.getRandomSpawnPoint(
                 GameAssetManager.getInstance().getMap(), 
-                new String[]{
-                    "spawn_monster_1", "spawn_monster_2", "spawn_monster_3", "spawn_monster_4",
-                    "spawn_monster_5", "spawn_monster_6", "spawn_monster_7", "spawn_monster_8",
-                    "spawn_monster_9", "spawn_monster_10", "spawn_monster_11", "spawn_monster_12"
-                }
+                FOREST_SPAWN_LAYERS,
+                random.get(RandomService.Stream.SPAWN),
+                spawnPosition,
+                shuffledLayers
             );
         }
 
         if (pos != null) {
             Monster m = MonsterFactory.createMonster(type, pos.x, pos.y);
+            m.setCollisionGrid(GameAssetManager.getInstance().getCollisionGrid(currentWorld));
+            m.seedRandom(random.get(RandomService.Stream.AI).nextLong());
             monsterList.add(m);
-            System.out.println("Spawned: " + type);
+            liveCounts[type.ordinal()]++;
+            refreshPendingRules();
+            if (spawnListener != null) spawnListener.onMonsterSpawned(m);
         }
     }
 
@@ -156,12 +227,15 @@ public class SpawnManager {
             if (currentWorld == WorldType.INFERNO) {
                  pos = MonsterFactory.getRandomSpawnPoint(
                     GameAssetManager.getInstance().getLavaMap(), 
-                    new String[]{"boss_infernospawn"}
+                    BOSS_SPAWN_LAYERS,
+                    random.get(RandomService.Stream.SPAWN)
                 );
             }
             
             if (pos != null) {
-                this.boss = new Boss(pos.x, pos.y);
+                this.boss = new Boss(pos.x, pos.y, random.get(RandomService.Stream.BOSS));
+                boss.setMeteorRain(maxMeteors, meteorsPerSpawn);
+                boss.setEventBus(events);
                 System.out.println("BOSS HAS SPAWNED at " + pos.x + ", " + pos.y);
             } else {
                 System.err.println("FAILED TO SPAWN BOSS: Spawn point not found!");
@@ -180,18 +254,23 @@ public class SpawnManager {
         return this.boss;
     }
 
-    private int countMonsters(Class<?> type) {
-        int count = 0;
-        for (Monster m : monsterList) {
-            if (type.isInstance(m)) {
-                count++;
-            }
-        }
-        return count;
+    public void setEventBus(EventPublisher events) {
+        this.events = events;
+        if (boss != null) boss.setEventBus(events);
+    }
+
+    /**
+     * Kapasitas & kepadatan hujan meteor untuk boss sekarang dan boss berikutnya.
+     */
+    public void setMeteorRain(int maxMeteors, int meteorsPerSpawn) {
+        this.maxMeteors = maxMeteors;
+        this.meteorsPerSpawn = meteorsPerSpawn;
+        if (boss != null) boss.setMeteorRain(maxMeteors, meteorsPerSpawn);
     }
 
     public void setMiniBossDefeated(boolean defeated) {
         this.miniBossDefeated = defeated;
+        refreshPendingRules();
     }
 
     public boolean isMiniBossDefeated() {
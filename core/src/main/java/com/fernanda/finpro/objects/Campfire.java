@@ -1,20 +1,18 @@
 package com.fernanda.finpro.objects;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.fernanda.finpro.entities.Player;
-import com.fernanda.finpro.singleton.GameAssetManager;
 
+/**
+ * Area masak di sekitar campfire. Gambarnya entity ECS (EntityFactory.createProp) yang dibuat GameWorld.
+ */
 public class Campfire {
     private Vector2 position;
     private static final float SIZE = 40f;
     private static final float INTERACTION_RANGE = 60f;
-    private Texture texture;
 
     public Campfire(float x, float y) {
         this.position = new Vector2(x, y);
-        this.texture = GameAssetManager.getInstance().getTexture(GameAssetManager.CAMPFIRE);
     }
 
     public boolean isPlayerNearby(Player player) {
@@ -27,10 +25,6 @@ public class Campfire {
         return distance < INTERACTION_RANGE;
     }
 
-    public void render(SpriteBatch batch) {
-        batch.draw(texture, position.x, position.y, SIZE, SIZE);
-    }
-
     public Vector2 getPosition() {
         return position;
     }
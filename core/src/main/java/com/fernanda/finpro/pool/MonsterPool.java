@@ -0,0 +1,37 @@
+package com.fernanda.finpro.pool;
+
+import com.fernanda.finpro.entities.Monster;
+import com.fernanda.finpro.factories.MonsterFactory;
+
+/**
+ * Pool untuk satu tipe monster. Membuat monster baru berarti memuat ulang semua animasinya,
+ * jadi monster yang mati / ditinggal saat pindah world dikembalikan ke sini dan di-reset saat dipakai lagi.
+ * Tidak dibatasi: jumlah monster diatur oleh SpawnManager, bukan oleh pool.
+ */
+public class MonsterPool extends ObjectPool<Monster> {
+    private final MonsterFactory.Type type;
+
+    public MonsterPool(MonsterFactory.Type type, int initialSize) {
+        super(0, Integer.MAX_VALUE);
+        this.type = type;
+        // create() butuh type, jadi isi awal dibuat setelah constructor ObjectPool selesai
+        prefill(initialSize);
+    }
+
+    @Override
+    protected Monster create() {
+        return MonsterFactory.instantiate(type, 0, 0);
+    }
+
+    @Override
+    protected void reset(Monster monster) {
+    }
+
+    public Monster obtain(float x, float y) {
+        Monster monster = obtain();
+        monster.reset(x, y);
+        return monster;
+    }
+
+    public MonsterFactory.Type getType() { return type; }
+}
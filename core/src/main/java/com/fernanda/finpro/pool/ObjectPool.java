@@ -1,20 +1,53 @@
 package com.fernanda.finpro.pool;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
-public abstract class ObjectPool<T> {
-    private List<T> available;
-    private List<T> inUse;
-    private int maxSize;
+/**
+ * Pool object berbasis slot. Setiap object punya slot tetap (disimpan di object lewat Poolable),
+ * slot kosong disimpan di stack int, jadi obtain() dan free() O(1) tanpa alokasi.
+ *
+ * Mode debug (setDebug): simpan stack trace tempat obtain() untuk setiap slot, laporkan
+ * object yang tidak pernah di-free (reportLeaks) dan free() ganda / object asing.
+ */
+public abstract class ObjectPool<T extends Poolable> {
+    private static final int MAX_SITE_FRAMES = 6;
 
+    private final int maxSize;
+
+    private T[] slots;          // Semua object yang pernah dibuat, index = slot
+    private boolean[] inUse;
+    private int created;
+
+    private int[] freeSlots;    // Stack slot yang tersedia
+    private int freeCount;
+    private int inUseCount;
+
+    private boolean debug;
+    private StackTraceElement[][] obtainSites;
+    private int doubleFreeCount;
+
+    @SuppressWarnings("unchecked")
     public ObjectPool(int initialSize, int maxSize) {
-        this.available = new ArrayList<>();
-        this.inUse = new ArrayList<>();
+        if (initialSize > maxSize) throw new IllegalArgumentException("initialSize > maxSize: " + initialSize + " > " + maxSize);
         this.maxSize = maxSize;
 
-        for (int i = 0; i < initialSize; i++) {
-            available.add(create());
+        int capacity = Math.max(initialSize, Math.min(16, maxSize));
+        this.slots = (T[]) new Poolable[capacity];
+        this.inUse = new boolean[capacity];
+        this.freeSlots = new int[capacity];
+
+        prefill(initialSize);
+    }
+
+    /**
+     * Buat count object baru langsung ke free list. Subclass yang create()-nya butuh field sendiri
+     * memanggil ini setelah field tersebut di-set, bukan lewat initialSize di constructor.
+     */
+    protected void prefill(int count) {
+        if (count > maxSize - created) throw new IllegalArgumentException("prefill melebihi maxSize: " + count);
+        for (int i = 0; i < count; i++) {
+            int slot = newSlot();
+            freeSlots[freeCount++] = slot;
         }
     }
 
@@ -23,42 +56,148 @@ public abstract class ObjectPool<T> {
     protected abstract void reset(T object);
 
     public T obtain() {
-        T object;
-        
-        if (!available.isEmpty()) {
-            object = available.remove(available.size() - 1);
-        } else if (inUse.size() < maxSize) {
-            object = create();
+        int slot;
+
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else if (created < maxSize) {
+            slot = newSlot();
         } else {
             System.err.println("Pool exhausted! Max size: " + maxSize);
             return null;
         }
 
-        inUse.add(object);
+        T object = slots[slot];
+        inUse[slot] = true;
+        inUseCount++;
+        if (debug) obtainSites[slot] = new Throwable().getStackTrace();
+
         reset(object);
         return object;
     }
 
+    /**
+     * Kembalikan object ke pool. Object yang bukan milik pool ini atau sudah di-free diabaikan
+     * (dan dilaporkan di mode debug).
+     */
     public void free(T object) {
-        if (inUse.remove(object)) {
-            available.add(object);
+        int slot = object.getPoolSlot();
+        if (slot < 0 || slot >= created || slots[slot] != object) {
+            if (debug) report("free() object yang bukan milik pool", object, null);
+            return;
+        }
+        if (!inUse[slot]) {
+            doubleFreeCount++;
+            if (debug) report("free() ganda", object, obtainSites[slot]);
+            return;
+        }
+
+        inUse[slot] = false;
+        inUseCount--;
+        if (debug) obtainSites[slot] = null;
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * Kembalikan semua object yang sedang dipakai (pindah world / restart).
+     */
+    public void freeAll() {
+        for (int slot = 0; slot < created; slot++) {
+            if (inUse[slot]) free(slots[slot]);
         }
     }
 
     public int getAvailableCount() {
-        return available.size();
+        return freeCount;
     }
 
     public int getInUseCount() {
-        return inUse.size();
+        return inUseCount;
     }
 
     public int getTotalCount() {
-        return available.size() + inUse.size();
+        return created;
     }
 
+    /**
+     * Lupakan semua object. Handle lama tidak berlaku lagi (free() atas object lama diabaikan).
+     */
     public void clear() {
-        available.clear();
-        inUse.clear();
+        for (int slot = 0; slot < created; slot++) {
+            slots[slot].setPoolSlot(-1);
+            slots[slot] = null;
+            inUse[slot] = false;
+            if (obtainSites != null) obtainSites[slot] = null;
+        }
+        created = 0;
+        freeCount = 0;
+        inUseCount = 0;
+    }
+
+    public void setDebug(boolean debug) {
+        this.debug = debug;
+        if (debug && obtainSites == null) obtainSites = new StackTraceElement[slots.length][];
+    }
+
+    public boolean isDebug() { return debug; }
+    public int getDoubleFreeCount() { return doubleFreeCount; }
+
+    /**
+     * Daftar object yang masih dipakai beserta tempat obtain()-nya (hanya terisi di mode debug).
+     * Panggil saat semua object seharusnya sudah kembali, misalnya setelah pindah world.
+     */
+    public String reportLeaks() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName()).append(": ").append(inUseCount).append(" object belum di-free");
+        for (int slot = 0; slot < created; slot++) {
+            if (!inUse[slot]) continue;
+            sb.append("\n  slot ").append(slot).append(": ").append(slots[slot].getClass().getSimpleName());
+            appendSite(sb, obtainSites != null ? obtainSites[slot] : null);
+        }
+        return sb.toString();
+    }
+
+    private int newSlot() {
+        if (created == slots.length) grow();
+        int slot = created++;
+        T object = create();
+        object.setPoolSlot(slot);
+        slots[slot] = object;
+        return slot;
+    }
+
+    private void grow() {
+        int capacity = Math.min(maxSize, slots.length * 2);
+        slots = Arrays.copyOf(slots, capacity);
+        inUse = Arrays.copyOf(inUse, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+        if (obtainSites != null) obtainSites = Arrays.copyOf(obtainSites, capacity);
+    }
+
+    private void report(String problem, T object, StackTraceElement[] site) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName()).append(": ").append(problem).append(" - ")
+            .append(object.getClass().getSimpleName()).append(" slot ").append(object.getPoolSlot());
+        appendSite(sb, site);
+        sb.append("\n  free() dari:");
+        appendFrames(sb, new Throwable().getStackTrace());
+        System.err.println(sb);
+    }
+
+    private void appendSite(StringBuilder sb, StackTraceElement[] site) {
+        if (site == null) return;
+        sb.append("\n  obtain() dari:");
+        appendFrames(sb, site);
+    }
+
+    // Lewati frame milik pool (ObjectPool & subclass), tampilkan beberapa frame pemanggil
+    private void appendFrames(StringBuilder sb, StackTraceElement[] frames) {
+        int shown = 0;
+        for (StackTraceElement frame : frames) {
+            String cls = frame.getClassName();
+            if (shown == 0 && (cls.equals(ObjectPool.class.getName()) || cls.equals(getClass().getName()))) continue;
+            sb.append("\n    at ").append(frame);
+            if (++shown == MAX_SITE_FRAMES) break;
+        }
     }
 }
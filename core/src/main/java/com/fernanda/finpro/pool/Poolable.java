@@ -0,0 +1,12 @@
+package com.fernanda.finpro.pool;
+
+/**
+ * Object yang bisa disimpan di ObjectPool.
+ * Pool menyimpan nomor slot langsung di object (handle intrusif), jadi free() tidak perlu mencari.
+ * Implementasi cukup menyimpan int; jangan diubah selain oleh pool.
+ */
+public interface Poolable {
+    int getPoolSlot();
+
+    void setPoolSlot(int slot);
+}
@@ -0,0 +1,334 @@
+package com.fernanda.finpro.projectile;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.fernanda.finpro.entities.Monster;
+import com.fernanda.finpro.entities.Player;
+import com.fernanda.finpro.events.EventPublisher;
+import com.fernanda.finpro.singleton.GameAssetManager;
+
+/**
+ * Semua projectile aktif (claw, ice shard, fireball, ...) dalam satu Structure-of-Arrays berkapasitas tetap.
+ * Slot [0, count) selalu terisi; projectile selesai = swap dengan yang terakhir, jadi tidak ada alokasi per tembakan.
+ *
+ * update() adalah satu pass: gerak, umur, tabrakan tile, lalu tabrakan dengan player & monster
+ * (hitbox player dibaca sekali, monster lewat broadphase MonsterLookup). render() juga satu pass.
+ * Hit mask menentukan siapa yang bisa kena; tembakan monster cukup HIT_PLAYER supaya tidak mengenai penembaknya.
+ */
+public class ProjectileSystem {
+
+    /**
+     * Dipakai untuk menghentikan projectile LINEAR yang menabrak tembok / keluar map.
+     */
+    public interface TileBlocker {
+        boolean isBlocked(float x, float y);
+    }
+
+    /**
+     * Broadphase monster untuk projectile HIT_MONSTERS (SpatialHash di CollisionManager),
+     * supaya satu projectile hanya mengecek monster di sekitarnya.
+     */
+    public interface MonsterLookup {
+        /** Samakan broadphase dengan posisi monster sekarang; dipanggil sekali per update(). */
+        void refreshMonsters();
+
+        /**
+         * Monster yang mungkin overlap rectangle ini, urut index list (deterministik).
+         * Hasil dibaca lewat getMonster(k) sampai query berikutnya.
+         */
+        int queryMonsters(float x, float y, float width, float height);
+
+        Monster getMonster(int k);
+    }
+
+    public static final int HIT_PLAYER = 1;
+    public static final int HIT_MONSTERS = 1 << 1;
+
+    public static final int DEFAULT_CAPACITY = 512;
+
+    private int[] type;
+    private float[] x, y;
+    private float[] prevX, prevY;  // Posisi tick sebelumnya, untuk interpolasi render
+    private float[] vx, vy;
+    private float[] age;
+    private float[] lifetime;
+    private float[] arcHeight;     // 0 = LINEAR
+    private int[] damage;
+    private int[] hitMask;
+    private int count;
+    private int capacity;
+    private int monsterTargetCount; // Jumlah projectile dengan HIT_MONSTERS; 0 = broadphase tidak perlu disegarkan
+
+    private TileBlocker blocker;
+    private MonsterLookup monsters;
+    private EventPublisher events;
+
+    private long firedCount;
+    private long hitCount;
+    private long droppedCount;
+
+    // Sprite per tipe, dimuat saat render pertama (simulasi headless tidak butuh)
+    private TextureRegion[][] frames;
+    private Texture shadowTexture;
+
+    public ProjectileSystem() {
+        setCapacity(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Ganti kapasitas. Projectile yang sedang terbang dibuang.
+     */
+    public void setCapacity(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity harus >= 1: " + capacity);
+        this.capacity = capacity;
+        type = new int[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        prevX = new float[capacity];
+        prevY = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        age = new float[capacity];
+        lifetime = new float[capacity];
+        arcHeight = new float[capacity];
+        damage = new int[capacity];
+        hitMask = new int[capacity];
+        count = 0;
+        monsterTargetCount = 0;
+    }
+
+    public void setTileBlocker(TileBlocker blocker) {
+        this.blocker = blocker;
+    }
+
+    /**
+     * Wajib di-set sebelum ada projectile HIT_MONSTERS.
+     */
+    public void setMonsterLookup(MonsterLookup monsters) {
+        this.monsters = monsters;
+    }
+
+    /**
+     * Bus untuk event DAMAGE saat projectile mengenai sesuatu (opsional).
+     */
+    public void setEventBus(EventPublisher events) {
+        this.events = events;
+    }
+
+    /**
+     * Tembak dengan gerak & damage default tipe: LINEAR lurus ke arah target, ARC mendarat tepat di target.
+     * @return false jika kapasitas penuh (tembakan dibuang)
+     */
+    public boolean fire(ProjectileType projectileType, float fromX, float fromY, float targetX, float targetY, int mask) {
+        if (projectileType.arc) {
+            return spawnArc(projectileType, fromX, fromY, targetX, targetY,
+                projectileType.lifetime, projectileType.arcHeight, projectileType.damage, mask);
+        }
+
+        float dx = targetX - fromX;
+        float dy = targetY - fromY;
+        float len = (float) Math.sqrt(dx * dx + dy * dy);
+        if (len < 0.0001f) {
+            dx = 1f;
+            dy = 0f;
+            len = 1f;
+        }
+        float scale = projectileType.speed / len;
+        return spawnLinear(projectileType, fromX, fromY, dx * scale, dy * scale,
+            projectileType.lifetime, projectileType.damage, mask);
+    }
+
+    public boolean spawnLinear(ProjectileType projectileType, float fromX, float fromY, float velocityX, float velocityY,
+                               float maxLifetime, int hitDamage, int mask) {
+        int i = add(projectileType, fromX, fromY, maxLifetime, hitDamage, mask);
+        if (i < 0) return false;
+        vx[i] = velocityX;
+        vy[i] = velocityY;
+        arcHeight[i] = 0f;
+        return true;
+    }
+
+    /**
+     * Projectile melengkung dari (fromX, fromY) ke (targetX, targetY) selama flightTime detik.
+     * Hanya mengenai saat mendarat, dengan hitbox tipe di titik target.
+     */
+    public boolean spawnArc(ProjectileType projectileType, float fromX, float fromY, float targetX, float targetY,
+                            float flightTime, float height, int hitDamage, int mask) {
+        if (flightTime <= 0) throw new IllegalArgumentException("flightTime harus > 0: " + flightTime);
+        int i = add(projectileType, fromX, fromY, flightTime, hitDamage, mask);
+        if (i < 0) return false;
+        vx[i] = (targetX - fromX) / flightTime;
+        vy[i] = (targetY - fromY) / flightTime;
+        arcHeight[i] = Math.max(height, 0.0001f);
+        return true;
+    }
+
+    private int add(ProjectileType projectileType, float fromX, float fromY, float maxLifetime, int hitDamage, int mask) {
+        if (count == capacity) {
+            droppedCount++;
+            return -1;
+        }
+        int i = count++;
+        type[i] = projectileType.ordinal();
+        x[i] = fromX;
+        y[i] = fromY;
+        prevX[i] = fromX;
+        prevY[i] = fromY;
+        age[i] = 0f;
+        lifetime[i] = maxLifetime;
+        damage[i] = hitDamage;
+        hitMask[i] = mask;
+        if ((mask & HIT_MONSTERS) != 0) monsterTargetCount++;
+        firedCount++;
+        return i;
+    }
+
+    /**
+     * Satu tick untuk semua projectile. Broadphase monster hanya disegarkan jika ada projectile HIT_MONSTERS.
+     */
+    public void update(float dt, Player player) {
+        if (count == 0) return;
+
+        Rectangle body = player.getHitbox();
+        float bodyX = body.x, bodyY = body.y, bodyW = body.width, bodyH = body.height;
+        if (monsterTargetCount > 0) monsters.refreshMonsters();
+
+        int i = 0;
+        while (i < count) {
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            x[i] += vx[i] * dt;
+            y[i] += vy[i] * dt;
+            age[i] += dt;
+
+            boolean arc = arcHeight[i] > 0;
+            boolean expired = age[i] >= lifetime[i];
+
+            // LINEAR mengecek tiap tick dan berhenti di tembok; ARC hanya mengecek saat mendarat
+            if (!arc && blocker != null && blocker.isBlocked(x[i], y[i])) {
+                remove(i);
+                continue;
+            }
+            if (arc && !expired) {
+                i++;
+                continue;
+            }
+
+            float half = ProjectileType.ALL[type[i]].hitboxSize / 2;
+            float left = x[i] - half, bottom = y[i] - half, size = half * 2;
+            boolean hit = false;
+
+            if ((hitMask[i] & HIT_PLAYER) != 0
+                && bodyX < left + size && bodyX + bodyW > left && bodyY < bottom + size && bodyY + bodyH > bottom) {
+                if (player.takeDamage(damage[i]) && events != null) events.publishDamage(player, damage[i]);
+                hit = true;
+            }
+
+            if ((hitMask[i] & HIT_MONSTERS) != 0 && (arc || !hit)) {
+                int n = monsters.queryMonsters(left, bottom, size, size);
+                for (int k = 0; k < n; k++) {
+                    Monster m = monsters.getMonster(k);
+                    if (m.isDead()) continue;
+                    Rectangle mb = m.getBodyHitbox();
+                    if (mb.x < left + size && mb.x + mb.width > left && mb.y < bottom + size && mb.y + mb.height > bottom) {
+                        if (m.takeDamage(damage[i]) && events != null) events.publishDamage(m, damage[i]);
+                        hit = true;
+                        if (!arc) break; // LINEAR berhenti di monster pertama, ARC kena area
+                    }
+                }
+            }
+
+            if (hit) hitCount++;
+            if (hit || expired) {
+                remove(i);
+                continue;
+            }
+            i++;
+        }
+    }
+
+    private void remove(int i) {
+        if ((hitMask[i] & HIT_MONSTERS) != 0) monsterTargetCount--;
+        int last = --count;
+        type[i] = type[last];
+        x[i] = x[last];
+        y[i] = y[last];
+        prevX[i] = prevX[last];
+        prevY[i] = prevY[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        age[i] = age[last];
+        lifetime[i] = lifetime[last];
+        arcHeight[i] = arcHeight[last];
+        damage[i] = damage[last];
+        hitMask[i] = hitMask[last];
+    }
+
+    /**
+     * Gambar semua projectile dalam satu pass (dipanggil di antara batch.begin() dan end()).
+     * @param alpha posisi di antara tick sebelumnya dan sekarang (SimulationClock.getAlpha())
+     */
+    public void render(SpriteBatch batch, float alpha) {
+        if (count == 0) return;
+        if (frames == null) loadFrames();
+
+        for (int i = 0; i < count; i++) {
+            ProjectileType t = ProjectileType.ALL[type[i]];
+            TextureRegion[] typeFrames = frames[type[i]];
+            if (typeFrames == null) continue;
+
+            float rx = prevX[i] + (x[i] - prevX[i]) * alpha;
+            float ry = prevY[i] + (y[i] - prevY[i]) * alpha;
+            float size = t.drawSize;
+            int frame = t.frames > 1 ? (int) (age[i] / t.frameDuration) % t.frames : 0;
+
+            if (arcHeight[i] > 0) {
+                // Lengkung parabola: 0 di awal & akhir, puncak di tengah
+                float progress = Math.min(age[i] / lifetime[i], 1f);
+                float z = 4f * arcHeight[i] * progress * (1f - progress);
+                if (shadowTexture != null) {
+                    batch.setColor(0, 0, 0, 0.4f);
+                    batch.draw(shadowTexture, rx - size / 2, ry - size / 4, size, size / 2);
+                    batch.setColor(1, 1, 1, 1);
+                }
+                batch.draw(typeFrames[frame], rx - size / 2, ry - size / 2 + z, size, size);
+            } else {
+                float angle = MathUtils.atan2(vy[i], vx[i]) * MathUtils.radiansToDegrees;
+                batch.draw(typeFrames[frame], rx - size / 2, ry - size / 2, size / 2, size / 2,
+                    size, size, 1f, 1f, angle);
+            }
+        }
+    }
+
+    private void loadFrames() {
+        frames = new TextureRegion[ProjectileType.ALL.length][];
+        for (ProjectileType t : ProjectileType.ALL) {
+            Texture texture = GameAssetManager.getInstance().getTexture(t.texture);
+            if (texture == null) continue;
+            TextureRegion[] typeFrames = new TextureRegion[t.frames];
+            int frameWidth = texture.getWidth() / t.frames;
+            for (int f = 0; f < t.frames; f++) {
+                typeFrames[f] = new TextureRegion(texture, f * frameWidth, 0, frameWidth, texture.getHeight());
+            }
+            frames[t.ordinal()] = typeFrames;
+        }
+        shadowTexture = GameAssetManager.getInstance().getTexture(GameAssetManager.SHADOW);
+    }
+
+    /**
+     * Buang semua projectile (pindah world / restart).
+     */
+    public void clear() {
+        count = 0;
+        monsterTargetCount = 0;
+    }
+
+    public int getActiveCount() { return count; }
+    public int getCapacity() { return capacity; }
+    public long getFiredCount() { return firedCount; }
+    public long getHitCount() { return hitCount; }
+    public long getDroppedCount() { return droppedCount; }
+}
@@ -0,0 +1,41 @@
+package com.fernanda.finpro.projectile;
+
+import com.fernanda.finpro.singleton.GameAssetManager;
+
+/**
+ * Definisi projectile: sprite, ukuran hitbox, gerak dan damage default.
+ * ARC = lintasan lengkung ke titik target, hanya kena saat mendarat (seperti meteor).
+ */
+public enum ProjectileType {
+    //          texture                           frame  durasi  hitbox  gambar  speed  umur  damage  arc    tinggi
+    CLAW(       GameAssetManager.WEREWOLF_CLAW,      1,   0f,     10f,    16f,   260f,  0.8f,  12,   false,  0f),
+    ICE_SHARD(  GameAssetManager.ETERNAL_ICE_SHARD,  1,   0f,     10f,    16f,   320f,  1.5f,  18,   false,  0f),
+    FIREBALL(   GameAssetManager.FIREBALL,           3,   0.1f,   28f,    48f,   0f,    1.1f,  40,   true,   90f);
+
+    public final String texture;
+    public final int frames;
+    public final float frameDuration;
+    public final float hitboxSize;   // Persegi, titik tengah = posisi projectile
+    public final float drawSize;
+    public final float speed;        // LINEAR: pixel / detik
+    public final float lifetime;     // LINEAR: umur maksimum, ARC: lama terbang
+    public final int damage;
+    public final boolean arc;
+    public final float arcHeight;    // Puncak lengkung (pixel di atas tanah)
+
+    static final ProjectileType[] ALL = values();
+
+    ProjectileType(String texture, int frames, float frameDuration, float hitboxSize, float drawSize,
+                   float speed, float lifetime, int damage, boolean arc, float arcHeight) {
+        this.texture = texture;
+        this.frames = frames;
+        this.frameDuration = frameDuration;
+        this.hitboxSize = hitboxSize;
+        this.drawSize = drawSize;
+        this.speed = speed;
+        this.lifetime = lifetime;
+        this.damage = damage;
+        this.arc = arc;
+        this.arcHeight = arcHeight;
+    }
+}
@@ -8,11 +8,16 @@ import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.fernanda.finpro.enums.WorldType;
+import com.fernanda.finpro.world.CollisionGrid;
 
 public class GameAssetManager {
     private static GameAssetManager instance;
     public final AssetManager manager;
 
+    // Tile solid per WorldType, dikompilasi sekali di finishLoading()
+    private final CollisionGrid[] collisionGrids = new CollisionGrid[WorldType.values().length];
+
     public static final String SOLDIER_WALK = "Soldier-Walk.png";
     public static final String SOLDIER_IDLE = "Soldier-Idle.png";
     public static final String SOLDIER_ATTACK = "Soldier-Attack01.png";
@@ -229,6 +234,10 @@ public class GameAssetManager {
         setFilter(MINIBOSS_WALK);
         setFilter(MINIBOSS_IDLE);
         setFilter(MINIBOSS_ATTACK);
+
+        for (WorldType world : WorldType.values()) {
+            collisionGrids[world.ordinal()] = CollisionGrid.compile(getMap(world), world);
+        }
     }
 
     private void setFilter(String fileName) {
@@ -356,6 +365,20 @@ public class GameAssetManager {
     public TiledMap getMap() { return manager.get(MAP_TMX, TiledMap.class); }
     public TiledMap getIceMap() { return manager.get(ICE_MAP_TMX, TiledMap.class); }
     public TiledMap getLavaMap() { return manager.get(LAVA_MAP_TMX, TiledMap.class); }
+
+    public TiledMap getMap(WorldType world) {
+        switch (world) {
+            case ICE: return getIceMap();
+            case INFERNO: return getLavaMap();
+            case FOREST:
+            default: return getMap();
+        }
+    }
+
+    /**
+     * Tile solid world ini (tersedia setelah finishLoading()).
+     */
+    public CollisionGrid getCollisionGrid(WorldType world) { return collisionGrids[world.ordinal()]; }
     public Music getLobbyMusic() { return lobbyMusic; }
     public Music getForestMusic() { return forestMusic; }
     public Music getInfernoMusic() { return infernoMusic; }
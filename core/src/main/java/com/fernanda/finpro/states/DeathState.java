@@ -32,7 +32,6 @@ public class DeathState implements PlayerState {
 
     @Override
     public void enter() {
-        System.out.println("Player telah mati.");
     }
 
     @Override
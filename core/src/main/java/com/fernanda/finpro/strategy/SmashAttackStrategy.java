@@ -2,6 +2,7 @@ package com.fernanda.finpro.strategy;
 
 import com.fernanda.finpro.entities.Boss;
 import com.fernanda.finpro.entities.Player;
+import com.fernanda.finpro.events.SoundEffect;
 
 /**
  * Strategy Pattern - Smash Attack Implementation
@@ -36,10 +37,7 @@ public class SmashAttackStrategy implements AttackStrategy {
                     phaseTimer = 0;
                     hasDealtDamage = false;
                     
-                    com.badlogic.gdx.audio.Sound smashSound = com.fernanda.finpro.singleton.GameAssetManager.getInstance().getBossSmashSound();
-                    if (smashSound != null) {
-                        smashSound.play(0.7f);
-                    }
+                    boss.queueSound(SoundEffect.BOSS_SMASH);
                 }
                 break;
                 
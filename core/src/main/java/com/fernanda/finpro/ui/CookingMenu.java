@@ -15,13 +15,11 @@ import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.fernanda.finpro.components.Inventory;
-import com.fernanda.finpro.components.ItemType;
 import com.fernanda.finpro.components.Recipe;
 import com.fernanda.finpro.components.RecipeManager;
 import com.fernanda.finpro.entities.Player;
 
 import java.util.List;
-import java.util.Map;
 
 public class CookingMenu {
     private boolean visible;
@@ -145,7 +143,7 @@ public class CookingMenu {
         if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER)) {
             Recipe selected = recipes.get(selectedIndex);
             if (!isRecipeConsumed(selected)) {
-                attemptCook(selected, playerInventory);
+                attemptCook(selectedIndex, selected);
             } else {
                 feedbackMessage = "ALREADY CONSUMED!";
                 feedbackColor = Color.ORANGE;
@@ -167,32 +165,9 @@ public class CookingMenu {
         return recipe.isLegendary() && currentPlayer.hasConsumedLegendary(recipe.getResultItem());
     }
     
-    private void attemptCook(Recipe recipe, Inventory inventory) {
-        boolean canCook = true;
-        
-        // Check if player has ALL required ingredients
-        for (Map.Entry<ItemType, Integer> requirement : recipe.getRequirements().entrySet()) {
-            if (!inventory.hasItem(requirement.getKey(), requirement.getValue())) {
-                canCook = false;
-                break;
-            }
-        }
-        
-        if (canCook) {
-            // Remove all ingredients
-            for (Map.Entry<ItemType, Integer> requirement : recipe.getRequirements().entrySet()) {
-                inventory.removeItem(requirement.getKey(), requirement.getValue());
-            }
-            
-            // Add result
-            inventory.addItem(recipe.getResultItem(), 1);
-            
-            // Update Score
-            if (currentPlayer != null) {
-                int score = recipe.isLegendary() ? 10 : 5;
-                currentPlayer.cookingScore += score;
-            }
-
+    private void attemptCook(int recipeIndex, Recipe recipe) {
+        // Bahan, hasil & score diurus Player.cook; lewat InputHandler supaya ikut rekaman input
+        if (currentPlayer.getInputHandler().cook(currentPlayer, recipeIndex)) {
             // Set SUCCESS feedback
             feedbackMessage = "SUCCESS! COOKED " + recipe.getRecipeName().toUpperCase();
             feedbackColor = Color.GREEN;
@@ -335,13 +310,7 @@ public class CookingMenu {
             }
             
             // Check if player can cook
-            boolean canCook = true;
-            for (Map.Entry<ItemType, Integer> req : recipe.getRequirements().entrySet()) {
-                if (!playerInventory.hasItem(req.getKey(), req.getValue())) {
-                    canCook = false;
-                    break;
-                }
-            }
+            boolean canCook = playerInventory.hasAll(recipe.getRequiredCounts());
             
             // === COLUMN 1: RECIPE NAME ===
             font.getData().setScale(relativeScale * 0.91f); // UNIFIED BIG FONT with dynamic scaling
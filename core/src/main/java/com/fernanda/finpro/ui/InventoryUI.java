@@ -13,10 +13,6 @@ import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.fernanda.finpro.components.Inventory;
 import com.fernanda.finpro.components.ItemType;
-import com.fernanda.finpro.entities.Player;
-
-import java.util.HashMap;
-import java.util.Map;
 
 public class InventoryUI {
     private ShapeRenderer shapeRenderer;
@@ -59,6 +55,10 @@ public class InventoryUI {
     private String errorMessage = null;
     private float errorTimer = 0f;
 
+    // Inventory + version terakhir yang sudah disalin ke slots; sama = slots tidak perlu dibangun ulang
+    private Inventory syncedInventory;
+    private long syncedVersion = -1;
+
     public InventoryUI() {
         this.shapeRenderer = new ShapeRenderer();
         this.batch = new SpriteBatch();
@@ -260,22 +260,27 @@ public class InventoryUI {
     }
 
     private void syncSlotsWithInventory(Inventory inventory) {
+        if (inventory == syncedInventory && inventory.getVersion() == syncedVersion) return;
+        syncedInventory = inventory;
+        syncedVersion = inventory.getVersion();
+
         for (int row = 0; row < GRID_ROWS; row++) {
             for (int col = 0; col < GRID_COLS; col++) {
                 slots[row][col].clear();
             }
         }
 
-        HashMap<ItemType, Integer> items = inventory.getItems();
         int index = 0;
 
-        for (Map.Entry<ItemType, Integer> entry : items.entrySet()) {
+        for (ItemType type : ItemType.values()) {
+            int count = inventory.getItemCount(type);
+            if (count <= 0) continue;
             if (index >= GRID_COLS * GRID_ROWS) break;
 
             int row = index / GRID_COLS;
             int col = index % GRID_COLS;
 
-            slots[row][col].addItem(entry.getKey(), entry.getValue());
+            slots[row][col].addItem(type, count);
             index++;
         }
     }
@@ -306,9 +311,8 @@ public class InventoryUI {
                 ItemType selectedItem = selectedSlot.getItemType();
                 
                 if (selectedItem.isConsumable) {
-                    // Consumable item - apply effects
-                    applyFoodEffect(selectedItem, player);
-                    inventory.removeItem(selectedItem, 1);
+                    // Consumable item - apply effects (lewat InputHandler supaya ikut terekam)
+                    player.getInputHandler().consumeItem(player, selectedItem);
                 } else {
                     // Raw ingredient - SHOW ERROR
                     errorMessage = "RAW INGREDIENT! CANNOT EAT!";
@@ -326,11 +330,8 @@ public class InventoryUI {
                 
                 // Check if item is food/consumable
                 if (isFoodItem(selectedItem)) {
-                    // Apply food effects based on type
-                    applyFoodEffect(selectedItem, player);
-                    
-                    // Remove 1 item from inventory
-                    inventory.removeItem(selectedItem, 1);
+                    // Apply food effects & remove 1 item (lewat InputHandler supaya ikut terekam)
+                    player.getInputHandler().consumeItem(player, selectedItem);
                 } else {
                     errorMessage = "RAW INGREDIENT! CANNOT EAT!";
                     errorTimer = 2.0f;
@@ -366,70 +367,6 @@ public class InventoryUI {
         return false; // Don't close inventory
     }
 
-    /**
-     * Apply food effects to player
-     */
-    private void applyFoodEffect(ItemType item, Player player) {
-        System.out.println("[EAT] Consumed " + item.getDisplayName());
-        
-        switch (item) {
-            // === SURVIVAL MEALS ===
-            case ROASTED_MEAT:
-                // Heals 50% Max HP
-                player.stats.heal(player.stats.maxHealth * 0.5f);
-                break;
-                
-            case HUNTERS_STEW:
-                // Damage +5 for 60 seconds
-                player.buffManager.applyDamageBoost(5, 60f);
-                player.stats.heal(10f); // Small heal bonus
-                break;
-                
-            case BONE_BROTH:
-                // Energy Regen +20/s for 10 seconds
-                player.buffManager.applyEnergyRegenBoost(20f, 10f);
-                player.stats.heal(5f); // Small heal bonus
-                break;
-                
-            case YETI_SOUP:
-                // Heals 75% Max HP
-                player.stats.heal(player.stats.maxHealth * 0.75f);
-                break;
-                
-            // === LEGENDARY ELIXIRS (PERMANENT UPGRADES) ===
-            case BERSERKERS_ELIXIR:
-                // PERMANENT: Dmg+3, HP=100, Energy=120
-                player.addPermanentDamage(3);
-                player.stats.upgradeMaxHealth(100f);
-                player.stats.upgradeMaxStamina(120f);
-                player.markLegendaryConsumed(ItemType.BERSERKERS_ELIXIR);
-                System.out.println("[LEGENDARY] Berserker's Elixir consumed! You are now stronger!");
-                break;
-                
-            case HEART_OF_MOUNTAIN:
-                // PERMANENT: Dmg+3, HP=200, Energy=150
-                player.addPermanentDamage(3);
-                player.stats.upgradeMaxHealth(200f);
-                player.stats.upgradeMaxStamina(150f);
-                player.markLegendaryConsumed(ItemType.HEART_OF_MOUNTAIN);
-                System.out.println("[LEGENDARY] Heart of Mountain consumed! You feel unstoppable!");
-                break;
-                
-            case GOD_SLAYER_ELIXIR:
-                // ULTIMATE: Dmg+5, HP=300, Energy=170
-                player.addPermanentDamage(5);
-                player.stats.upgradeMaxHealth(300f);
-                player.stats.upgradeMaxStamina(170f);
-                player.markLegendaryConsumed(ItemType.GOD_SLAYER_ELIXIR);
-                System.out.println("[LEGENDARY] God Slayer Elixir consumed! You have ascended!");
-                break;
-                
-            default:
-                // Raw ingredients cannot be consumed
-                break;
-        }
-    }
-    
     /**
      * Check if item is food/consumable (can be eaten/drunk)
      */
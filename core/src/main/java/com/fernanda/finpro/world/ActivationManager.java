@@ -0,0 +1,219 @@
+package com.fernanda.finpro.world;
+
+import com.fernanda.finpro.entities.Monster;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Activation Regions
+ * Map dibagi menjadi region kasar (8x8 tile). Region yang terlihat kamera, plus margin satu region, aktif.
+ * Posisi kamera dihitung sama seperti di Main: mengikuti player tapi di-clamp ke tepi map,
+ * jadi di dekat tepi area aktif ikut bergeser ke arah tengah map.
+ * Monster WANDER / IDLE di region tidak aktif ditidurkan: dipindah dari list awake ke bucket region,
+ * sehingga AI, collision dan render tidak menyentuhnya sama sekali.
+ * Saat region aktif lagi, semua monster di bucket-nya dibangunkan dengan catch-up timer.
+ *
+ * Biaya per tick = jumlah monster awake + monster yang dibangunkan, bukan total populasi.
+ */
+public class ActivationManager {
+    public static final int REGION_TILES = 8;
+    public static final float REGION_SIZE = REGION_TILES * 16f;
+
+    // Setengah ukuran viewport (800x450)
+    public static final float DEFAULT_HALF_VIEW_WIDTH = 400f;
+    public static final float DEFAULT_HALF_VIEW_HEIGHT = 225f;
+    // Region ekstra di luar layar: monster yang baru masuk layar sudah awake, dan kamera yang diinterpolasi
+    // (tertinggal < 1 tick dari posisi player) tetap di dalam area aktif
+    private static final int MARGIN_REGIONS = 1;
+    // Kapasitas awal bucket region; ArrayList kosong baru alokasi saat add() pertama (di tengah tick)
+    private static final int INITIAL_BUCKET_CAPACITY = 16;
+
+    private final float worldSize;
+    private final int regionsX;
+    private final int regionsY;
+    private final List<Monster>[] sleepers;
+    private final List<Monster> awake = new ArrayList<>();
+
+    private float halfViewWidth;
+    private float halfViewHeight;
+    private boolean enabled = true;
+
+    // Area region aktif saat ini (inklusif). minX > maxX = belum ada
+    private int activeMinX = 1, activeMaxX = 0, activeMinY = 1, activeMaxY = 0;
+
+    private float simTime;
+    private int sleepingCount;
+    private long wakeCount;
+
+    @SuppressWarnings("unchecked")
+    public ActivationManager(float worldSize) {
+        this.worldSize = worldSize;
+        this.regionsX = (int) Math.ceil(worldSize / REGION_SIZE);
+        this.regionsY = regionsX;
+        this.sleepers = new List[regionsX * regionsY];
+        for (int i = 0; i < sleepers.length; i++) {
+            sleepers[i] = new ArrayList<>(INITIAL_BUCKET_CAPACITY);
+        }
+        setViewHalfExtents(DEFAULT_HALF_VIEW_WIDTH, DEFAULT_HALF_VIEW_HEIGHT);
+    }
+
+    /**
+     * Setengah area yang terlihat kamera (viewport * zoom).
+     */
+    public void setViewHalfExtents(float halfWidth, float halfHeight) {
+        this.halfViewWidth = halfWidth;
+        this.halfViewHeight = halfHeight;
+        invalidate();
+    }
+
+    /**
+     * Monster baru selalu mulai awake; update() berikutnya yang menidurkannya jika jauh.
+     */
+    public void register(Monster m) {
+        awake.add(m);
+    }
+
+    public void registerAll(List<Monster> monsters) {
+        for (int i = 0; i < monsters.size(); i++) {
+            register(monsters.get(i));
+        }
+    }
+
+    public void unregister(Monster m) {
+        if (m.isSleeping()) {
+            if (sleepers[regionIndexOf(m)].remove(m)) sleepingCount--;
+        } else {
+            awake.remove(m);
+        }
+    }
+
+    public void clear() {
+        awake.clear();
+        for (List<Monster> bucket : sleepers) {
+            bucket.clear();
+        }
+        sleepingCount = 0;
+        invalidate();
+    }
+
+    /**
+     * Panggil sekali per tick sebelum AI. Bangunkan region yang baru aktif,
+     * lalu tidurkan monster awake yang santai di region tidak aktif.
+     * @param focusX titik tengah player (target kamera), bukan pojok kiri bawah
+     */
+    public void update(float dt, float focusX, float focusY) {
+        simTime += dt;
+
+        if (!enabled) {
+            if (sleepingCount > 0) wakeAll();
+            return;
+        }
+
+        float camX = cameraCenter(focusX, halfViewWidth);
+        float camY = cameraCenter(focusY, halfViewHeight);
+        int minX = regionFloor(camX - halfViewWidth, regionsX), maxX = regionCeil(camX + halfViewWidth, regionsX);
+        int minY = regionFloor(camY - halfViewHeight, regionsY), maxY = regionCeil(camY + halfViewHeight, regionsY);
+
+        if (minX != activeMinX || maxX != activeMaxX || minY != activeMinY || maxY != activeMaxY) {
+            for (int ry = minY; ry <= maxY; ry++) {
+                for (int rx = minX; rx <= maxX; rx++) {
+                    if (!isActive(rx, ry)) wakeRegion(rx, ry);
+                }
+            }
+            activeMinX = minX; activeMaxX = maxX;
+            activeMinY = minY; activeMaxY = maxY;
+        }
+
+        // Compact list awake (urutan tetap) sambil menidurkan yang keluar area aktif
+        int write = 0;
+        for (int read = 0; read < awake.size(); read++) {
+            Monster m = awake.get(read);
+            if (canSleep(m) && !isActive(regionX(m), regionY(m))) {
+                m.sleep(simTime);
+                sleepers[regionIndexOf(m)].add(m);
+                sleepingCount++;
+            } else {
+                awake.set(write++, m);
+            }
+        }
+        for (int i = awake.size() - 1; i >= write; i--) {
+            awake.remove(i);
+        }
+    }
+
+    private boolean canSleep(Monster m) {
+        Monster.State state = m.getState();
+        return !m.isDead() && (state == Monster.State.WANDER || state == Monster.State.IDLE);
+    }
+
+    private void wakeRegion(int rx, int ry) {
+        List<Monster> bucket = sleepers[ry * regionsX + rx];
+        for (int i = 0; i < bucket.size(); i++) {
+            Monster m = bucket.get(i);
+            m.wake(simTime);
+            awake.add(m);
+            wakeCount++;
+        }
+        sleepingCount -= bucket.size();
+        bucket.clear();
+    }
+
+    private void wakeAll() {
+        for (int ry = 0; ry < regionsY; ry++) {
+            for (int rx = 0; rx < regionsX; rx++) {
+                wakeRegion(rx, ry);
+            }
+        }
+        invalidate();
+    }
+
+    private void invalidate() {
+        activeMinX = 1; activeMaxX = 0;
+        activeMinY = 1; activeMaxY = 0;
+    }
+
+    private boolean isActive(int rx, int ry) {
+        return rx >= activeMinX && rx <= activeMaxX && ry >= activeMinY && ry <= activeMaxY;
+    }
+
+    private int regionX(Monster m) {
+        return clampRegion((int) (m.position.x / REGION_SIZE), regionsX);
+    }
+
+    private int regionY(Monster m) {
+        return clampRegion((int) (m.position.y / REGION_SIZE), regionsY);
+    }
+
+    private int regionIndexOf(Monster m) {
+        return regionY(m) * regionsX + regionX(m);
+    }
+
+    // Sama dengan clamp kamera di Main.render: di tengah map jika map lebih kecil dari layar
+    private float cameraCenter(float focus, float halfView) {
+        if (worldSize < halfView * 2) return worldSize / 2;
+        return Math.max(halfView, Math.min(worldSize - halfView, focus));
+    }
+
+    private static int regionFloor(float coord, int count) {
+        return clampRegion((int) Math.floor(coord / REGION_SIZE) - MARGIN_REGIONS, count);
+    }
+
+    private static int regionCeil(float coord, int count) {
+        return clampRegion((int) Math.floor(coord / REGION_SIZE) + MARGIN_REGIONS, count);
+    }
+
+    private static int clampRegion(int r, int count) {
+        return r < 0 ? 0 : (r >= count ? count - 1 : r);
+    }
+
+    /**
+     * Monster yang diproses tick ini (AI, collision, render). Urutan stabil.
+     */
+    public List<Monster> getAwakeMonsters() { return awake; }
+
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public boolean isEnabled() { return enabled; }
+    public int getSleepingCount() { return sleepingCount; }
+    public long getWakeCount() { return wakeCount; }
+}
@@ -0,0 +1,100 @@
+package com.fernanda.finpro.world;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.fernanda.finpro.enums.WorldType;
+
+/**
+ * Tile solid satu world, dikompilasi sekali dari layer collision TiledMap menjadi bitset long[]
+ * (1 bit per tile, urut baris). isSolid() hanya index + shift, tanpa lookup layer berdasarkan nama.
+ *
+ * Isi tidak pernah berubah setelah compile(), jadi aman dibaca dari thread AI / job paralel.
+ * Tile di luar map dianggap solid.
+ */
+public final class CollisionGrid {
+    public static final int TILE_SIZE = 16;
+
+    private static final String[] FOREST_LAYERS = { "building_coklat", "building_hijau" };
+    private static final String[] ICE_LAYERS = { "ice_building" };
+    private static final String[] INFERNO_LAYERS = { "building_inferno", "lava_obstacle", "batas_bos" };
+
+    private final int width;
+    private final int height;
+    private final long[] bits;
+    private final int solidCount;
+
+    private CollisionGrid(int width, int height, long[] bits, int solidCount) {
+        this.width = width;
+        this.height = height;
+        this.bits = bits;
+        this.solidCount = solidCount;
+    }
+
+    /**
+     * Layer yang menghalangi gerak di world ini.
+     */
+    public static String[] layersFor(WorldType world) {
+        switch (world) {
+            case ICE: return ICE_LAYERS.clone();
+            case INFERNO: return INFERNO_LAYERS.clone();
+            case FOREST:
+            default: return FOREST_LAYERS.clone();
+        }
+    }
+
+    public static CollisionGrid compile(TiledMap map, WorldType world) {
+        return compile(map, layersFor(world));
+    }
+
+    /**
+     * Gabungkan semua layer ke satu bitset: tile solid jika salah satu layer punya tile di sana.
+     * Ukuran grid diambil dari properti width / height map; layer yang tidak ada dilewati.
+     */
+    public static CollisionGrid compile(TiledMap map, String[] layerNames) {
+        int width = map.getProperties().get("width", Integer.class);
+        int height = map.getProperties().get("height", Integer.class);
+        long[] bits = new long[(width * height + 63) >>> 6];
+        int solidCount = 0;
+
+        for (String layerName : layerNames) {
+            MapLayer mapLayer = map.getLayers().get(layerName);
+            if (!(mapLayer instanceof TiledMapTileLayer)) continue;
+            TiledMapTileLayer layer = (TiledMapTileLayer) mapLayer;
+
+            int w = Math.min(width, layer.getWidth());
+            int h = Math.min(height, layer.getHeight());
+            for (int ty = 0; ty < h; ty++) {
+                for (int tx = 0; tx < w; tx++) {
+                    TiledMapTileLayer.Cell cell = layer.getCell(tx, ty);
+                    if (cell == null || cell.getTile() == null) continue;
+                    int index = ty * width + tx;
+                    long bit = 1L << index;
+                    if ((bits[index >>> 6] & bit) == 0) {
+                        bits[index >>> 6] |= bit;
+                        solidCount++;
+                    }
+                }
+            }
+        }
+        return new CollisionGrid(width, height, bits, solidCount);
+    }
+
+    public boolean isSolid(int tx, int ty) {
+        // Satu perbandingan unsigned per sumbu menangkap index negatif sekaligus yang terlalu besar
+        if (Integer.compareUnsigned(tx, width) >= 0 || Integer.compareUnsigned(ty, height) >= 0) return true;
+        int index = ty * width + tx;
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Tile di posisi world (x, y). Dibulatkan ke arah nol seperti lookup lama, jadi -16 < x < 0 masih tile 0.
+     */
+    public boolean isSolidAt(float x, float y) {
+        return isSolid((int) (x / TILE_SIZE), (int) (y / TILE_SIZE));
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getSolidCount() { return solidCount; }
+}
@@ -0,0 +1,94 @@
+package com.fernanda.finpro.world;
+
+import java.util.List;
+
+/**
+ * Generator xorshift128+ dengan seed eksplisit.
+ * API sengaja mirip MathUtils.random(...) supaya mudah dipakai di gameplay.
+ * Tidak ada alokasi per panggilan dan tidak thread-safe: satu instance = satu pemilik
+ * (satu stream RandomService, atau satu monster).
+ */
+public class GameRandom {
+    private long s0;
+    private long s1;
+
+    public GameRandom(long seed) {
+        setSeed(seed);
+    }
+
+    /**
+     * Seed 64-bit diekspansi dengan splitmix64 (state tidak pernah 0 semua).
+     */
+    public void setSeed(long seed) {
+        long z = seed;
+        s0 = mix(z += 0x9E3779B97F4A7C15L);
+        s1 = mix(z + 0x9E3779B97F4A7C15L);
+        if (s0 == 0 && s1 == 0) s1 = 1;
+    }
+
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public long nextLong() {
+        long x = s0;
+        final long y = s1;
+        s0 = y;
+        x ^= x << 23;
+        s1 = x ^ y ^ (x >>> 17) ^ (y >>> 26);
+        return s1 + y;
+    }
+
+    /** 0 (inklusif) .. bound (eksklusif) */
+    public int nextInt(int bound) {
+        if (bound <= 0) throw new IllegalArgumentException("Bound harus > 0: " + bound);
+        return (int) (((nextLong() >>> 33) * bound) >>> 31);
+    }
+
+    /** 0 (inklusif) .. 1 (eksklusif) */
+    public float random() {
+        return (nextLong() >>> 40) * 0x1.0p-24f;
+    }
+
+    /** start .. end (inklusif), sama seperti MathUtils.random(int, int) */
+    public int random(int start, int end) {
+        return start + nextInt(end - start + 1);
+    }
+
+    /** start .. end */
+    public float random(float start, float end) {
+        return start + random() * (end - start);
+    }
+
+    public boolean randomBoolean() {
+        return nextLong() < 0;
+    }
+
+    public boolean randomBoolean(float chance) {
+        return random() < chance;
+    }
+
+    /** Fisher-Yates, pengganti Collections.shuffle */
+    public <T> void shuffle(T[] array) {
+        shuffle(array, array.length);
+    }
+
+    /** Fisher-Yates untuk count elemen pertama saja (array scratch yang lebih panjang dari isinya) */
+    public <T> void shuffle(T[] array, int count) {
+        for (int i = count - 1; i > 0; i--) {
+            int j = nextInt(i + 1);
+            T tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+    }
+
+    public <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = nextInt(i + 1);
+            list.set(j, list.set(i, list.get(j)));
+        }
+    }
+}
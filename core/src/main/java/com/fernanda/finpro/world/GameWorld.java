@@ -0,0 +1,636 @@
+package com.fernanda.finpro.world;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.fernanda.finpro.components.ItemType;
+import com.fernanda.finpro.ecs.AnimationSystem;
+import com.fernanda.finpro.ecs.EcsWorld;
+import com.fernanda.finpro.ecs.EntityFactory;
+import com.fernanda.finpro.ecs.PickupSystem;
+import com.fernanda.finpro.ecs.SpriteTable;
+import com.fernanda.finpro.entities.Boss;
+import com.fernanda.finpro.entities.MiniBoss;
+import com.fernanda.finpro.entities.Monster;
+import com.fernanda.finpro.entities.Player;
+import com.fernanda.finpro.enums.WorldType;
+import com.fernanda.finpro.events.EventBuffer;
+import com.fernanda.finpro.events.EventBus;
+import com.fernanda.finpro.events.GameEvent;
+import com.fernanda.finpro.factories.MonsterFactory;
+import com.fernanda.finpro.jobs.JobGraph;
+import com.fernanda.finpro.managers.CollisionManager;
+import com.fernanda.finpro.managers.CrowdSeparation;
+import com.fernanda.finpro.managers.MonsterAiManager;
+import com.fernanda.finpro.managers.NetworkManager;
+import com.fernanda.finpro.managers.SpawnManager;
+import com.fernanda.finpro.objects.Campfire;
+import com.fernanda.finpro.projectile.ProjectileSystem;
+import com.fernanda.finpro.singleton.GameAssetManager;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Simulasi dunia game: player, monster, entity ECS (item di tanah, campfire), spawn, boss dan collision.
+ * Class ini tidak menyentuh SpriteBatch / ShapeRenderer / GL, sehingga bisa dijalankan
+ * oleh Main (desktop) maupun oleh backend headless.
+ */
+public class GameWorld {
+
+    /**
+     * Dipanggil saat ada kejadian yang perlu ditanggapi oleh lapisan presentasi (render, musik, HUD).
+     */
+    public interface Listener {
+        void onWorldChanged(WorldType world, TiledMap map);
+        void onBossKilled();
+        void onGameOver();
+        void onRestarted();
+    }
+
+    public static final float MAP_SIZE = 1168f;
+    private static final int TILE_SIZE = 16;
+
+    private final Player player;
+    private final List<Monster> monsters;
+    private final SpawnManager spawnManager;
+    private final CollisionManager collisionManager;
+    private final MonsterAiManager aiManager;
+    private final CrowdSeparation crowd = new CrowdSeparation();
+    private final ActivationManager activationManager;
+    private final RandomService random;
+    private final JobGraph<WorldResource> jobGraph = new JobGraph<>();
+
+    // Item di tanah, campfire & dekorasi sebagai entity ECS (disapu per archetype oleh system di bawah)
+    private final EcsWorld entities = new EcsWorld();
+    private final AnimationSystem animationSystem = new AnimationSystem();
+    private final PickupSystem pickupSystem;
+
+    private final ProjectileSystem projectiles = new ProjectileSystem();
+
+    // Efek samping gameplay (score, simpan ke server, sound, telemetry) lewat event, bukan dipanggil langsung
+    private final EventBus events = new EventBus();
+    private final EventBus.Subscription scoreEvents = events.subscribe("score");
+    private final EventBus.Handler scoreHandler = this::applyScore;
+    // Tiap job yang publish menulis ke buffer sendiri (jadi tidak perlu berurutan satu sama lain);
+    // jobEvents diisi sesuai urutan daftar job dan di-flush ke bus setelah graph selesai
+    private final EventBuffer playerEvents = new EventBuffer();
+    private final EventBuffer pickupEvents = new EventBuffer();
+    private final EventBuffer removalEvents = new EventBuffer();
+    private final EventBuffer bossEvents = new EventBuffer();
+    private final EventBuffer aiEvents = new EventBuffer();
+    private final EventBuffer collisionEvents = new EventBuffer();
+    private final EventBuffer projectileEvents = new EventBuffer();
+    private final List<EventBuffer> jobEvents = new ArrayList<>();
+
+    private TiledMap map;
+    private WorldType currentWorld = WorldType.FOREST;
+    private CollisionGrid collision; // Tile solid currentWorld
+    private final Vector2 playerSpawnPoint = new Vector2(100, 100);
+    private Campfire campfire;
+    private Listener listener;
+    private boolean gameOver;
+
+    // dt tick yang sedang berjalan (dibaca oleh job)
+    private float tickDt;
+    // Dipakai ulang tiap tick supaya tick tidak menghasilkan garbage
+    private final WorldSnapshot snapshot = new WorldSnapshot();
+    private final LineOfSight lineOfSight = new LineOfSight();
+    // Event listener ditunda sampai job graph selesai supaya selalu dipanggil dari thread pemanggil tick()
+    private boolean worldChangedPending;
+    private boolean bossKilledPending;
+
+    /**
+     * @param seed seed RNG world; seed sama + input sama = simulasi sama
+     */
+    public GameWorld(long seed) {
+        random = new RandomService(seed);
+        map = GameAssetManager.getInstance().getMap();
+        collision = GameAssetManager.getInstance().getCollisionGrid(currentWorld);
+        findFirstCell("spawn_player", playerSpawnPoint);
+
+        player = new Player(playerSpawnPoint.x, playerSpawnPoint.y);
+        player.setCollisionGrid(collision);
+        lineOfSight.setGrid(collision);
+        snapshot.sight = lineOfSight;
+
+        monsters = new ArrayList<>();
+
+        initForestEnvironment(playerSpawnPoint);
+
+        activationManager = new ActivationManager(MAP_SIZE);
+        spawnManager = new SpawnManager(monsters, random);
+        activationManager.registerAll(monsters); // Spawn awal terjadi di constructor SpawnManager
+        spawnManager.setSpawnListener(activationManager::register);
+        spawnManager.setEventBus(bossEvents);
+
+        // Collision & AI hanya melihat monster yang awake
+        collisionManager = new CollisionManager(player, activationManager.getAwakeMonsters(), collisionEvents);
+        aiManager = new MonsterAiManager();
+
+        pickupSystem = new PickupSystem((itemOrdinal, x, y) -> {
+            player.inventory.addItem(ItemType.values()[itemOrdinal], 1);
+            pickupEvents.publishPickup(itemOrdinal, 1, x, y);
+        });
+
+        projectiles.setTileBlocker(this::isCellBlocked);
+        projectiles.setEventBus(projectileEvents);
+        projectiles.setMonsterLookup(collisionManager);
+
+        buildJobGraph();
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Satu tick simulasi. Input diambil tepat sekali per tick (termasuk saat game over),
+     * sehingga urutan tick sama persis saat rekaman input diputar ulang.
+     */
+    public void tick(float dt) {
+        player.getInputHandler().beginTick(player);
+
+        if (!gameOver) {
+            update(dt);
+            if (isPlayerDeathFinished()) {
+                gameOver = true;
+                if (listener != null) listener.onGameOver();
+            }
+        } else {
+            updateAfterDeath(dt);
+            if (player.getInputHandler().isRestartRequested()) {
+                restart();
+            }
+        }
+    }
+
+    /**
+     * Satu tick gameplay penuh (player hidup), dijalankan lewat job graph.
+     */
+    private void update(float dt) {
+        tickDt = dt;
+        jobGraph.run();
+        flushJobEvents();
+
+        if (worldChangedPending) {
+            worldChangedPending = false;
+            notifyWorldChanged();
+        }
+        boolean bossKilled = bossKilledPending;
+        if (bossKilled) {
+            bossKilledPending = false;
+            Boss boss = spawnManager.getBoss();
+            if (boss != null) events.publishKill(MonsterFactory.Type.BOSS.ordinal(), 0, boss.position.x, boss.position.y);
+        }
+
+        // Score diproses tiap tick (listener boss membaca monsterKillScore); consumer lain drain per frame
+        scoreEvents.drain(scoreHandler);
+        if (bossKilled && listener != null) listener.onBossKilled();
+    }
+
+    /**
+     * Fase update dalam urutan aslinya. Job yang konflik tetap berurutan, sisanya bisa paralel:
+     * - entities.animate bersamaan dengan activation
+     * - boss bersamaan dengan removal -> spawn (event keduanya lewat buffer masing-masing)
+     * Job player adalah barrier karena transisi world menulis hampir semua resource.
+     */
+    private void buildJobGraph() {
+        // Bobbing item hanya memajukan stateTime, tidak membaca state player
+        jobGraph.add("entities.animate",
+            EnumSet.noneOf(WorldResource.class),
+            EnumSet.of(WorldResource.ENTITIES),
+            () -> entities.run(animationSystem, tickDt));
+
+        jobGraph.add("activation",
+            EnumSet.of(WorldResource.PLAYER),
+            EnumSet.of(WorldResource.MONSTERS),
+            () -> {
+                updateActivation(tickDt);
+                List<Monster> awake = activationManager.getAwakeMonsters();
+                for (int i = 0; i < awake.size(); i++) {
+                    awake.get(i).savePreviousPosition();
+                }
+            });
+
+        addJob("player",
+            EnumSet.noneOf(WorldResource.class),
+            EnumSet.of(WorldResource.PLAYER, WorldResource.WORLD, WorldResource.MONSTERS, WorldResource.ENTITIES,
+                WorldResource.SPAWN, WorldResource.BOSS),
+            playerEvents,
+            () -> {
+                player.savePreviousPosition();
+                player.update(tickDt);
+                player.flushSounds(playerEvents);
+                handleMapCollision();
+
+                player.position.x = MathUtils.clamp(player.position.x, 0, MAP_SIZE - player.getWidth());
+                player.position.y = MathUtils.clamp(player.position.y, 0, MAP_SIZE - player.getHeight());
+            });
+
+        // Pickup item di tanah; drop baru dari removal baru bisa diambil tick berikutnya
+        addJob("entities.pickup",
+            EnumSet.of(WorldResource.PLAYER),
+            EnumSet.of(WorldResource.ENTITIES, WorldResource.INVENTORY),
+            pickupEvents,
+            this::pickupEntities);
+
+        addJob("removal",
+            EnumSet.noneOf(WorldResource.class),
+            EnumSet.of(WorldResource.MONSTERS, WorldResource.ENTITIES, WorldResource.SPAWN),
+            removalEvents,
+            this::removeDeadMonsters);
+
+        jobGraph.add("spawn",
+            EnumSet.of(WorldResource.WORLD),
+            EnumSet.of(WorldResource.SPAWN, WorldResource.MONSTERS),
+            () -> spawnManager.update(tickDt));
+
+        // Referensi boss di SpawnManager hanya berubah saat transisi (job player), jadi job ini tidak membaca SPAWN
+        addJob("boss",
+            EnumSet.of(WorldResource.WORLD),
+            EnumSet.of(WorldResource.BOSS, WorldResource.PLAYER),
+            bossEvents,
+            this::updateBoss);
+
+        // AI (bisa paralel), separation antar monster, lalu sound + projectile berurutan sesuai list
+        addJob("ai",
+            EnumSet.of(WorldResource.PLAYER, WorldResource.WORLD),
+            EnumSet.of(WorldResource.MONSTERS, WorldResource.PROJECTILES),
+            aiEvents,
+            () -> {
+                List<Monster> awake = activationManager.getAwakeMonsters();
+                aiManager.update(awake, tickDt, snapshot.capture(player));
+                crowd.update(awake, tickDt);
+                aiManager.merge(awake, projectiles, aiEvents);
+            });
+
+        addJob("collision",
+            EnumSet.noneOf(WorldResource.class),
+            EnumSet.of(WorldResource.PLAYER, WorldResource.MONSTERS),
+            collisionEvents,
+            () -> collisionManager.update(tickDt));
+
+        // Gerak + hit semua projectile dalam satu pass, setelah tembakan baru dari merge AI
+        addJob("projectiles",
+            EnumSet.of(WorldResource.WORLD),
+            EnumSet.of(WorldResource.PROJECTILES, WorldResource.PLAYER, WorldResource.MONSTERS),
+            projectileEvents,
+            () -> projectiles.update(tickDt, player));
+    }
+
+    /**
+     * Daftarkan job yang publish event ke buffer-nya sendiri; buffer ikut dicatat sesuai urutan daftar job.
+     */
+    private void addJob(String name, Set<WorldResource> reads, Set<WorldResource> writes,
+                        EventBuffer buffer, Runnable job) {
+        jobEvents.add(buffer);
+        jobGraph.add(name, reads, writes, job);
+    }
+
+    // Urutan event di bus = urutan daftar job, sama seperti semua job dijalankan berurutan
+    private void flushJobEvents() {
+        for (int i = 0; i < jobEvents.size(); i++) {
+            jobEvents.get(i).flushTo(events);
+        }
+    }
+
+    // Fokus = tengah player, sama dengan target kamera di Main
+    private void updateActivation(float dt) {
+        activationManager.update(dt,
+            player.position.x + player.getWidth() / 2, player.position.y + player.getHeight() / 2);
+    }
+
+    private void pickupEntities() {
+        if (entities.size() == 0) return;
+
+        Rectangle body = player.getHitbox();
+        pickupSystem.setPlayerBounds(body.x, body.y, body.width, body.height);
+        entities.run(pickupSystem, tickDt);
+    }
+
+    private void applyScore(GameEvent event) {
+        if (event.type == GameEvent.Type.KILL) player.monsterKillScore += event.amount;
+    }
+
+    private void removeDeadMonsters() {
+        // Monster mati selalu awake, jadi cukup cek list awake
+        List<Monster> awake = activationManager.getAwakeMonsters();
+        for (int i = 0; i < awake.size(); i++) {
+            Monster m = awake.get(i);
+            if (m.canBeRemoved()) {
+                // State MiniBoss disimpan ke server oleh consumer event KILL
+                if (m instanceof MiniBoss) {
+                    spawnManager.setMiniBossDefeated(true);
+                    System.out.println("MiniBoss defeated!");
+                }
+
+                ItemType drop = m.rollDrop(random.get(RandomService.Stream.DROPS));
+                if (drop != null) {
+                    EntityFactory.createPickup(entities, drop.ordinal(), m.position.x, m.position.y);
+                }
+
+                removalEvents.publishKill(m, 10);
+
+                awake.remove(i--);
+                monsters.remove(m);
+                spawnManager.onMonsterRemoved(m);
+                MonsterFactory.free(m);
+            }
+        }
+    }
+
+    private void updateBoss() {
+        Boss boss = spawnManager.getBoss();
+        if (boss == null) return;
+
+        boss.update(tickDt, player);
+        boss.flushSounds(bossEvents);
+
+        if (player.isHitboxActive()) {
+            boss.checkHitByPlayer(player.getAttackHitbox(), 25);
+        }
+
+        if (boss.isDead() && !player.bossKilled) {
+            player.bossKilled = true;
+            bossKilledPending = true;
+        }
+    }
+
+    /**
+     * Tick saat player sudah mati: monster & boss tetap jalan, player diam.
+     */
+    private void updateAfterDeath(float dt) {
+        updateActivation(dt);
+        List<Monster> awake = activationManager.getAwakeMonsters();
+
+        player.savePreviousPosition();
+        for (int i = 0; i < awake.size(); i++) {
+            awake.get(i).savePreviousPosition();
+        }
+        aiManager.update(awake, dt, snapshot.capture(player));
+        aiManager.merge(awake, projectiles, aiEvents);
+        projectiles.update(dt, player);
+
+        Boss boss = spawnManager.getBoss();
+        if (boss != null) {
+            boss.update(dt, player);
+            boss.flushSounds(bossEvents);
+        }
+
+        flushJobEvents();
+        scoreEvents.drain(scoreHandler);
+    }
+
+    public void interpolate(float alpha) {
+        player.interpolate(alpha);
+        for (Monster m : activationManager.getAwakeMonsters()) {
+            m.interpolate(alpha);
+        }
+    }
+
+    public boolean isPlayerDeathFinished() {
+        return player.stats.getCurrentHealth() <= 0 && player.isDeathAnimationFinished();
+    }
+
+    // --- WORLD TRANSITION ---
+
+    // Tembok sudah ditangani swept move di Player.update; di sini tinggal cek pintu antar world
+    private void handleMapCollision() {
+        checkWorldTransition(player.getHitbox());
+    }
+
+    private void checkWorldTransition(Rectangle playerRect) {
+        TiledMapTileLayer transitionLayer;
+
+        if (currentWorld == WorldType.FOREST) {
+            transitionLayer = (TiledMapTileLayer) map.getLayers().get("next_map");
+            if (checkLayerCollision(playerRect, transitionLayer)) {
+                switchToIceWorld();
+            }
+        } else if (currentWorld == WorldType.ICE) {
+            transitionLayer = (TiledMapTileLayer) map.getLayers().get("back_map_forest");
+            if (checkLayerCollision(playerRect, transitionLayer)) {
+                switchToForestWorld();
+                return;
+            }
+
+            transitionLayer = (TiledMapTileLayer) map.getLayers().get("inferno_next_map");
+            if (checkLayerCollision(playerRect, transitionLayer)) {
+                switchToInfernoWorld();
+            }
+        } else if (currentWorld == WorldType.INFERNO) {
+            transitionLayer = (TiledMapTileLayer) map.getLayers().get("exit_player_inferno");
+            if (checkLayerCollision(playerRect, transitionLayer)) {
+                switchToIceWorldFromInferno();
+            }
+        }
+    }
+
+    private boolean checkLayerCollision(Rectangle playerRect, TiledMapTileLayer layer) {
+        if (layer != null) {
+            int tileX = (int) ((playerRect.x + playerRect.width / 2) / TILE_SIZE);
+            int tileY = (int) ((playerRect.y + playerRect.height / 2) / TILE_SIZE);
+            TiledMapTileLayer.Cell cell = layer.getCell(tileX, tileY);
+            return cell != null && cell.getTile() != null;
+        }
+        return false;
+    }
+
+    private void switchToIceWorld() {
+        System.out.println("Switching to Ice World!");
+        enterWorld(WorldType.ICE, GameAssetManager.getInstance().getIceMap(), "spawn_ice_player");
+    }
+
+    private void switchToIceWorldFromInferno() {
+        System.out.println("Switching to Ice World (From Inferno)!");
+        enterWorld(WorldType.ICE, GameAssetManager.getInstance().getIceMap(), "back_spawn_inferno");
+    }
+
+    private void switchToForestWorld() {
+        System.out.println("Switching to Forest World!");
+        enterWorld(WorldType.FOREST, GameAssetManager.getInstance().getMap(), "spawn_player_back");
+    }
+
+    private void switchToInfernoWorld() {
+        System.out.println("Switching to Inferno World!");
+        enterWorld(WorldType.INFERNO, GameAssetManager.getInstance().getLavaMap(), "spawn_player_inferno");
+    }
+
+    private void enterWorld(WorldType world, TiledMap newMap, String spawnLayer) {
+        currentWorld = world;
+        spawnManager.setWorld(currentWorld);
+        spawnManager.despawnBoss();
+        map = newMap;
+        collision = GameAssetManager.getInstance().getCollisionGrid(currentWorld);
+        player.setCollisionGrid(collision);
+        lineOfSight.setGrid(collision);
+        setPlayerSpawn(spawnLayer);
+        resetWorldState();
+
+        if (currentWorld == WorldType.INFERNO) {
+            if (!player.bossKilled) {
+                spawnManager.spawnBoss();
+            } else {
+                System.out.println("Boss already killed, not spawning.");
+            }
+        }
+
+        playerEvents.publishWorldTransition(currentWorld.ordinal());
+        worldChangedPending = true;
+    }
+
+    private void setPlayerSpawn(String layerName) {
+        findFirstCell(layerName, player.position);
+        player.resetInterpolation();
+    }
+
+    private void resetWorldState() {
+        clearMonsters();
+        activationManager.clear();
+        entities.clear();
+        projectiles.clear();
+
+        spawnManager.reset();
+
+        if (currentWorld == WorldType.FOREST) {
+            initForestEnvironment(player.position);
+        } else {
+            campfire = new Campfire(-1000, -1000);
+        }
+    }
+
+    // Dipanggil setelah entities.clear(), jadi gambar campfire lama sudah hilang
+    private void initForestEnvironment(Vector2 anchor) {
+        Vector2 campfirePos = new Vector2(anchor.x + 64, anchor.y);
+        findFirstCell("campfire", campfirePos);
+        campfire = new Campfire(campfirePos.x, campfirePos.y);
+        EntityFactory.createProp(entities, SpriteTable.CAMPFIRE, campfirePos.x, campfirePos.y,
+            campfire.getSize(), campfire.getSize());
+    }
+
+    /**
+     * Cari cell pertama (scan per kolom) di layer, tulis posisinya ke out.
+     * @return false jika layer tidak ada / kosong (out tidak diubah)
+     */
+    private boolean findFirstCell(String layerName, Vector2 out) {
+        MapLayer layer = map.getLayers().get(layerName);
+        if (layer instanceof TiledMapTileLayer) {
+            TiledMapTileLayer tileLayer = (TiledMapTileLayer) layer;
+            for (int x = 0; x < tileLayer.getWidth(); x++) {
+                for (int y = 0; y < tileLayer.getHeight(); y++) {
+                    if (tileLayer.getCell(x, y) != null) {
+                        out.set(x * TILE_SIZE, y * TILE_SIZE);
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private void notifyWorldChanged() {
+        if (listener != null) listener.onWorldChanged(currentWorld, map);
+    }
+
+    /**
+     * Restart setelah mati. Mati di INFERNO = kembali ke FOREST dan inventory hilang.
+     */
+    public void restart() {
+        if (currentWorld == WorldType.INFERNO) {
+            System.out.println("Died in INFERNO - Clearing inventory, resetting permanent stats, and saving state");
+            player.inventory.clear();
+            player.stats.resetPermanentStats(50f, 100f);
+            player.clearConsumedLegendaries();
+            NetworkManager.getInstance().saveInventory(player);
+
+            currentWorld = WorldType.FOREST;
+            events.publishWorldTransition(currentWorld.ordinal());
+            map = GameAssetManager.getInstance().getMap();
+            collision = GameAssetManager.getInstance().getCollisionGrid(currentWorld);
+            player.setCollisionGrid(collision);
+            lineOfSight.setGrid(collision);
+            setPlayerSpawn("spawn_player");
+            player.reset(playerSpawnPoint.x, playerSpawnPoint.y);
+        } else {
+            System.out.println("Died in " + currentWorld + " - Keeping inventory and permanent stats");
+            NetworkManager.getInstance().saveInventory(player);
+
+            if (currentWorld == WorldType.ICE) {
+                setPlayerSpawn("spawn_ice_player");
+                player.reset(player.position.x, player.position.y);
+            } else {
+                player.reset(playerSpawnPoint.x, playerSpawnPoint.y);
+            }
+        }
+
+        clearMonsters();
+        activationManager.clear();
+        entities.clear();
+        projectiles.clear();
+        spawnManager.setWorld(currentWorld);
+        spawnManager.reset();
+
+        if (currentWorld == WorldType.INFERNO && !player.bossKilled) {
+            spawnManager.spawnBoss();
+
+            Boss boss = spawnManager.getBoss();
+            if (boss != null) {
+                boss.reset();
+                System.out.println("Boss Respawned & Reset");
+            }
+        }
+
+        if (currentWorld == WorldType.FOREST) {
+            initForestEnvironment(player.position);
+        } else if (currentWorld == WorldType.ICE) {
+            campfire = new Campfire(-1000, -1000);
+        }
+
+        gameOver = false;
+        notifyWorldChanged();
+        if (listener != null) listener.onRestarted();
+        System.out.println("Game restarted in world: " + currentWorld);
+    }
+
+    // Monster yang ditinggal kembali ke pool per tipe, dipakai lagi oleh spawn berikutnya
+    private void clearMonsters() {
+        for (int i = 0; i < monsters.size(); i++) {
+            MonsterFactory.free(monsters.get(i));
+        }
+        monsters.clear();
+        spawnManager.onMonstersCleared();
+    }
+
+    // --- MAP COLLISION ---
+
+    private boolean isCellBlocked(float x, float y) {
+        return collision.isSolidAt(x, y);
+    }
+
+    // Getters
+    public Player getPlayer() { return player; }
+    public List<Monster> getMonsters() { return monsters; }
+    public List<Monster> getAwakeMonsters() { return activationManager.getAwakeMonsters(); }
+    public ActivationManager getActivationManager() { return activationManager; }
+    public RandomService getRandom() { return random; }
+    public SpawnManager getSpawnManager() { return spawnManager; }
+    public MonsterAiManager getAiManager() { return aiManager; }
+    public CrowdSeparation getCrowd() { return crowd; }
+    public LineOfSight getLineOfSight() { return lineOfSight; }
+    public JobGraph<WorldResource> getJobGraph() { return jobGraph; }
+    public EcsWorld getEntities() { return entities; }
+    public ProjectileSystem getProjectiles() { return projectiles; }
+    public EventBus getEvents() { return events; }
+    public Boss getBoss() { return spawnManager.getBoss(); }
+    public Campfire getCampfire() { return campfire; }
+    public TiledMap getMap() { return map; }
+    public CollisionGrid getCollision() { return collision; }
+    public WorldType getCurrentWorld() { return currentWorld; }
+    public boolean isGameOver() { return gameOver; }
+}
@@ -0,0 +1,149 @@
+package com.fernanda.finpro.world;
+
+import java.util.Arrays;
+
+/**
+ * Line of sight dari monster ke player lewat raycast di CollisionGrid (supercover Bresenham antar titik tengah tile).
+ * Hasil di-cache per tile monster untuk tile player saat ini; cache baru dibuang saat player pindah tile
+ * atau world berganti. Monster yang berdiri di tile yang sama memakai satu raycast, jadi biayanya
+ * dibatasi jumlah tile di sekitar player, bukan jumlah monster.
+ *
+ * setTarget() / setGrid() hanya dipanggil saat snapshot dibuat, sebelum fase AI. canSee() boleh dipanggil
+ * dari thread AI paralel: isi cache (generasi + hasil) ditulis sebagai satu int, jadi thread lain
+ * hanya bisa melihat entry lama (dihitung ulang) atau entry lengkap. Hasil raycast deterministik,
+ * jadi dua thread yang menghitung tile yang sama pasti menulis nilai yang sama.
+ * Statistik tidak dihitung di sini (counter bersama = cache line rebutan antar worker): pemanggil
+ * membaca flag dari query() dan menyetor jumlahnya lewat addCounts() saat merge AI (satu thread, job yang menulis MONSTERS).
+ */
+public final class LineOfSight {
+    private static final int TILE = CollisionGrid.TILE_SIZE;
+    // Generasi disimpan di bit atas entry, bit 0 = terlihat
+    private static final int MAX_GENERATION = Integer.MAX_VALUE >>> 1;
+
+    // Flag hasil query()
+    public static final int VISIBLE = 1; // Target terlihat
+    public static final int COUNTED = 2; // Benar-benar dicek (aktif, ada grid dan target)
+    public static final int RAYCAST = 4; // Cache miss, raycast dijalankan
+
+    private CollisionGrid grid;
+    private int[] cache = new int[0];
+    private int generation = 1;
+    private int targetTileX;
+    private int targetTileY;
+    private boolean hasTarget;
+    private boolean enabled = true;
+
+    // Hanya ditulis lewat addCounts() dari merge AI
+    private long queries;
+    private long raycasts;
+
+    public void setGrid(CollisionGrid grid) {
+        if (this.grid == grid) return;
+        this.grid = grid;
+        int tiles = grid.getWidth() * grid.getHeight();
+        if (cache.length < tiles) cache = new int[tiles];
+        invalidate();
+    }
+
+    /**
+     * Posisi world yang dicari (titik tengah player). Cache hanya dibuang jika tile-nya berubah.
+     */
+    public void setTarget(float x, float y) {
+        int tx = tile(x), ty = tile(y);
+        if (hasTarget && tx == targetTileX && ty == targetTileY) return;
+        hasTarget = true;
+        targetTileX = tx;
+        targetTileY = ty;
+        invalidate();
+    }
+
+    /**
+     * Apakah target terlihat dari posisi world (x, y). Tanpa grid / target, atau saat nonaktif, selalu true.
+     */
+    public boolean canSee(float x, float y) {
+        return (query(x, y) & VISIBLE) != 0;
+    }
+
+    /**
+     * Sama dengan canSee(), tapi mengembalikan flag VISIBLE / COUNTED / RAYCAST supaya pemanggil
+     * bisa menghitung statistiknya sendiri tanpa menulis ke state bersama.
+     */
+    public int query(float x, float y) {
+        if (!enabled || grid == null || !hasTarget) return VISIBLE;
+
+        int tx = tile(x), ty = tile(y);
+        if (Integer.compareUnsigned(tx, grid.getWidth()) >= 0 || Integer.compareUnsigned(ty, grid.getHeight()) >= 0) {
+            // Di luar map tidak di-cache (tidak ada slot); jarang terjadi
+            return COUNTED | RAYCAST | (isClear(grid, tx, ty, targetTileX, targetTileY) ? VISIBLE : 0);
+        }
+
+        int index = ty * grid.getWidth() + tx;
+        int entry = cache[index];
+        if (entry >>> 1 == generation) return COUNTED | (entry & 1);
+
+        boolean visible = isClear(grid, tx, ty, targetTileX, targetTileY);
+        cache[index] = generation << 1 | (visible ? 1 : 0);
+        return COUNTED | RAYCAST | (visible ? VISIBLE : 0);
+    }
+
+    /**
+     * Raycast antar titik tengah tile (x0, y0) -> (x1, y1): true jika tidak ada tile solid di antaranya.
+     * Semua tile yang dilewati garis dicek (supercover); tile awal dan akhir tidak ikut dicek.
+     * Garis yang tepat lewat sudut hanya terhalang jika kedua tile di samping sudut itu solid.
+     */
+    public static boolean isClear(CollisionGrid grid, int x0, int y0, int x1, int y1) {
+        int dx = Math.abs(x1 - x0);
+        int dy = Math.abs(y1 - y0);
+        int sx = x1 > x0 ? 1 : -1;
+        int sy = y1 > y0 ? 1 : -1;
+        int error = dx - dy;
+        int x = x0, y = y0;
+
+        for (int n = dx + dy; n > 0; n--) {
+            if (error > 0) {
+                x += sx;
+                error -= 2 * dy;
+            } else if (error < 0) {
+                y += sy;
+                error += 2 * dx;
+            } else {
+                // Tepat di sudut: lewat diagonal, sekaligus dua langkah
+                if (grid.isSolid(x + sx, y) && grid.isSolid(x, y + sy)) return false;
+                x += sx;
+                y += sy;
+                error += 2 * (dx - dy);
+                n--;
+            }
+            if (n > 1 && grid.isSolid(x, y)) return false;
+        }
+        return true;
+    }
+
+    private void invalidate() {
+        if (++generation > MAX_GENERATION) {
+            Arrays.fill(cache, 0);
+            generation = 1;
+        }
+    }
+
+    // floor(v / TILE), juga untuk koordinat negatif
+    private static int tile(float v) {
+        float scaled = v / TILE;
+        int i = (int) scaled;
+        return scaled < i ? i - 1 : i;
+    }
+
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public boolean isEnabled() { return enabled; }
+
+    /** Setor hitungan query / raycast (dari merge AI, tidak pernah paralel dengan worker AI). */
+    public void addCounts(long queries, long raycasts) {
+        this.queries += queries;
+        this.raycasts += raycasts;
+    }
+
+    /** Total query yang sudah disetor lewat addCounts(). */
+    public long getQueryCount() { return queries; }
+    /** Total raycast (cache miss) yang sudah disetor lewat addCounts(). */
+    public long getRaycastCount() { return raycasts; }
+}
@@ -0,0 +1,129 @@
+package com.fernanda.finpro.world;
+
+import com.fernanda.finpro.entities.Monster;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Structure-of-Arrays untuk monster.
+ * Setiap pemakai menyalin hanya field yang ia sapu, sekali per tick / frame, ke array primitif paralel:
+ * - gather():          posisi + state, untuk perception AI (sekali per tick di MonsterAiManager)
+ * - gatherRenderY():   posisi render Y, untuk sort render (sekali per frame di Main)
+ * Tabrakan di tick (collision, projectile) tidak memakai store; keduanya lewat SpatialHash di CollisionManager.
+ *
+ * Index i selalu sama dengan index di list yang di-gather. Monster tetap sumber kebenaran; hanya field
+ * dari gather terakhir yang berlaku, sampai monster berubah lagi.
+ */
+public class MonsterStore {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int size;
+    private int capacity;
+
+    public Monster[] refs;
+    public float[] x, y;
+    public float[] renderY;
+    public int[] state;        // Monster.State.ordinal()
+
+    // Hasil computeDistances()
+    public float[] dist2;
+
+    // Hasil sortByRenderY(): index monster, renderY menurun
+    private long[] sortKeys;
+    private int[] renderOrder;
+
+    public MonsterStore() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Salin posisi + state (perception AI). Satu pass linear, tanpa alokasi kecuali saat kapasitas naik.
+     */
+    public void gather(List<Monster> monsters) {
+        int count = begin(monsters);
+        for (int i = 0; i < count; i++) {
+            Monster m = monsters.get(i);
+            refs[i] = m;
+            x[i] = m.position.x;
+            y[i] = m.position.y;
+            state[i] = m.getState().ordinal();
+        }
+    }
+
+    /**
+     * Salin posisi render Y (hasil interpolasi frame ini) untuk sortByRenderY().
+     */
+    public void gatherRenderY(List<Monster> monsters) {
+        int count = begin(monsters);
+        for (int i = 0; i < count; i++) {
+            Monster m = monsters.get(i);
+            refs[i] = m;
+            renderY[i] = m.getRenderPosition().y;
+        }
+    }
+
+    private int begin(List<Monster> monsters) {
+        int count = monsters.size();
+        if (count > capacity) allocate(Math.max(count, capacity * 2));
+
+        // Lepas referensi lama supaya monster yang sudah dihapus bisa di-GC
+        for (int i = count; i < size; i++) {
+            refs[i] = null;
+        }
+        size = count;
+        return count;
+    }
+
+    /**
+     * Perception: jarak kuadrat tiap monster (posisi kiri bawah) ke titik (px, py), ditulis ke dist2.
+     */
+    public void computeDistances(float px, float py) {
+        for (int i = 0; i < size; i++) {
+            float dx = x[i] - px;
+            float dy = y[i] - py;
+            dist2[i] = dx * dx + dy * dy;
+        }
+    }
+
+    /**
+     * Urutkan index monster berdasarkan renderY menurun (yang di atas digambar dulu).
+     * Key = renderY (dibalik, bisa dibandingkan sebagai integer) + index, jadi stabil dan tanpa alokasi.
+     * @return array index; hanya [0, size) yang valid
+     */
+    public int[] sortByRenderY() {
+        for (int i = 0; i < size; i++) {
+            sortKeys[i] = ((long) sortableBits(-renderY[i]) << 32) | i;
+        }
+        Arrays.sort(sortKeys, 0, size);
+        for (int i = 0; i < size; i++) {
+            renderOrder[i] = (int) sortKeys[i];
+        }
+        return renderOrder;
+    }
+
+    // Bit float yang urutan signed int-nya sama dengan urutan nilai float
+    private static int sortableBits(float f) {
+        int bits = Float.floatToIntBits(f + 0f); // -0f -> 0f
+        return bits ^ ((bits >> 31) & 0x7fffffff);
+    }
+
+    private void allocate(int newCapacity) {
+        refs = Arrays.copyOf(refs == null ? new Monster[0] : refs, newCapacity);
+        x = grow(x, newCapacity);
+        y = grow(y, newCapacity);
+        renderY = grow(renderY, newCapacity);
+        state = state == null ? new int[newCapacity] : Arrays.copyOf(state, newCapacity);
+        dist2 = grow(dist2, newCapacity);
+        sortKeys = sortKeys == null ? new long[newCapacity] : Arrays.copyOf(sortKeys, newCapacity);
+        renderOrder = renderOrder == null ? new int[newCapacity] : Arrays.copyOf(renderOrder, newCapacity);
+        capacity = newCapacity;
+    }
+
+    private static float[] grow(float[] array, int newCapacity) {
+        return array == null ? new float[newCapacity] : Arrays.copyOf(array, newCapacity);
+    }
+
+    public int size() { return size; }
+    public int capacity() { return capacity; }
+}
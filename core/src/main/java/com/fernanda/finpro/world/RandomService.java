@@ -0,0 +1,40 @@
+package com.fernanda.finpro.world;
+
+/**
+ * RNG per world dengan stream terpisah per subsystem.
+ * Setiap stream punya state sendiri yang diturunkan dari seed world, jadi menambah
+ * panggilan random di satu subsystem (mis. drop) tidak menggeser hasil subsystem lain (mis. spawn).
+ * Seed yang sama + input yang sama = simulasi yang sama.
+ */
+public class RandomService {
+
+    public enum Stream {
+        SPAWN,  // posisi & layer spawn monster
+        AI,     // seed untuk RNG per monster (wander)
+        BOSS,   // pilihan serangan boss & posisi meteor
+        DROPS   // rollDrop
+    }
+
+    private final GameRandom[] streams = new GameRandom[Stream.values().length];
+    private long seed;
+
+    public RandomService(long seed) {
+        for (int i = 0; i < streams.length; i++) {
+            streams[i] = new GameRandom(0);
+        }
+        reseed(seed);
+    }
+
+    public void reseed(long seed) {
+        this.seed = seed;
+        for (int i = 0; i < streams.length; i++) {
+            streams[i].setSeed(GameRandom.mix(seed + GameRandom.mix(i + 1)));
+        }
+    }
+
+    public GameRandom get(Stream stream) {
+        return streams[stream.ordinal()];
+    }
+
+    public long getSeed() { return seed; }
+}
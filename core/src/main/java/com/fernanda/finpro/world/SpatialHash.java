@@ -0,0 +1,294 @@
+package com.fernanda.finpro.world;
+
+import java.util.Arrays;
+
+/**
+ * Broadphase grid seragam: dunia dibagi sel cellSize x cellSize (kelipatan tile 16 px),
+ * setiap entry (AABB + handle int) terdaftar di semua sel yang ditutupinya.
+ *
+ * Sel disimpan di hash table berukuran tetap (pangkat dua), bukan array selebar map,
+ * jadi koordinat negatif / di luar map tetap aman. Dua sel yang jatuh ke bucket sama
+ * hanya menambah kandidat palsu; query selalu menyaring dengan AABB asli.
+ *
+ * update() hanya memindah bucket jika rentang sel entry berubah, jadi entity yang bergerak
+ * di dalam selnya cukup menulis AABB. Tidak ada alokasi setelah kapasitas tercapai.
+ */
+public class SpatialHash {
+    public static final int TILE_SIZE = 16;
+    public static final int DEFAULT_CELL_SIZE = TILE_SIZE * 4;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int INITIAL_BUCKET_SIZE = 16;
+
+    private final int cellSize;
+    private final float invCellSize;
+    private final int bucketMask;
+    private final int[][] buckets;
+    private final int[] bucketCounts;
+
+    // Per handle: AABB dan rentang sel yang sedang ditempati
+    private float[] minX, minY, maxX, maxY;
+    private int[] cellMinX, cellMinY, cellMaxX, cellMaxY;
+    private boolean[] active;
+    private int[] stamp;           // Dedup query: handle sudah masuk hasil jika stamp == queryStamp
+    private int queryStamp;
+
+    private int[] freeHandles;
+    private int freeCount;
+    private int handleCount;       // Handle tertinggi yang pernah dibuat + 1
+    private int activeCount;
+
+    private int[] results = new int[INITIAL_CAPACITY];
+    private int resultCount;
+
+    private long rebucketCount;
+
+    public SpatialHash() {
+        this(DEFAULT_CELL_SIZE, 1024);
+    }
+
+    /**
+     * @param cellSize ukuran sel dalam pixel, kelipatan TILE_SIZE
+     * @param bucketCount jumlah bucket hash, pangkat dua
+     */
+    public SpatialHash(int cellSize, int bucketCount) {
+        if (cellSize < TILE_SIZE || cellSize % TILE_SIZE != 0) {
+            throw new IllegalArgumentException("cellSize harus kelipatan " + TILE_SIZE + ": " + cellSize);
+        }
+        if (bucketCount < 1 || Integer.bitCount(bucketCount) != 1) {
+            throw new IllegalArgumentException("bucketCount harus pangkat dua: " + bucketCount);
+        }
+        this.cellSize = cellSize;
+        this.invCellSize = 1f / cellSize;
+        this.bucketMask = bucketCount - 1;
+        this.buckets = new int[bucketCount][];
+        this.bucketCounts = new int[bucketCount];
+        // Semua bucket dibuat di depan: entity yang pertama kali masuk sel baru tidak memicu alokasi di tick
+        for (int b = 0; b < bucketCount; b++) buckets[b] = new int[INITIAL_BUCKET_SIZE];
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Daftarkan AABB baru.
+     * @return handle, dipakai untuk update() / remove() dan muncul di hasil query
+     */
+    public int insert(float x, float y, float width, float height) {
+        int handle;
+        if (freeCount > 0) {
+            handle = freeHandles[--freeCount];
+        } else {
+            if (handleCount == active.length) allocate(active.length * 2);
+            handle = handleCount++;
+        }
+        active[handle] = true;
+        stamp[handle] = 0;
+        activeCount++;
+
+        setBounds(handle, x, y, width, height);
+        cellMinX[handle] = cell(x);
+        cellMinY[handle] = cell(y);
+        cellMaxX[handle] = cell(x + width);
+        cellMaxY[handle] = cell(y + height);
+        addToCells(handle);
+        return handle;
+    }
+
+    /**
+     * Pindahkan entry. Bucket hanya disentuh jika entry pindah / melebar ke sel lain.
+     */
+    public void update(int handle, float x, float y, float width, float height) {
+        checkActive(handle);
+        setBounds(handle, x, y, width, height);
+
+        int cx0 = cell(x), cy0 = cell(y), cx1 = cell(x + width), cy1 = cell(y + height);
+        if (cx0 == cellMinX[handle] && cy0 == cellMinY[handle] && cx1 == cellMaxX[handle] && cy1 == cellMaxY[handle]) {
+            return;
+        }
+
+        removeFromCells(handle);
+        cellMinX[handle] = cx0;
+        cellMinY[handle] = cy0;
+        cellMaxX[handle] = cx1;
+        cellMaxY[handle] = cy1;
+        addToCells(handle);
+        rebucketCount++;
+    }
+
+    public void remove(int handle) {
+        checkActive(handle);
+        removeFromCells(handle);
+        active[handle] = false;
+        activeCount--;
+        if (freeCount == freeHandles.length) freeHandles = Arrays.copyOf(freeHandles, freeHandles.length * 2);
+        freeHandles[freeCount++] = handle;
+    }
+
+    public void clear() {
+        Arrays.fill(bucketCounts, 0);
+        Arrays.fill(active, 0, handleCount, false);
+        handleCount = 0;
+        freeCount = 0;
+        activeCount = 0;
+        resultCount = 0;
+    }
+
+    /**
+     * Semua entry yang AABB-nya overlap dengan rectangle ini (tepi yang hanya bersentuhan tidak dihitung).
+     * Hasil dibaca lewat getResult(k) untuk k < return value, berlaku sampai query berikutnya.
+     * Urutan hasil tidak ditentukan; sortResults() jika urutan penting.
+     */
+    public int queryRect(float x, float y, float width, float height) {
+        resultCount = 0;
+        if (++queryStamp == 0) {
+            Arrays.fill(stamp, 0);
+            queryStamp = 1;
+        }
+
+        float right = x + width, top = y + height;
+        int cx0 = cell(x), cy0 = cell(y), cx1 = cell(right), cy1 = cell(top);
+
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                int b = bucket(cx, cy);
+                int[] items = buckets[b];
+                for (int k = 0, n = bucketCounts[b]; k < n; k++) {
+                    int h = items[k];
+                    if (stamp[h] == queryStamp) continue;
+                    stamp[h] = queryStamp;
+                    if (minX[h] < right && maxX[h] > x && minY[h] < top && maxY[h] > y) {
+                        addResult(h);
+                    }
+                }
+            }
+        }
+        return resultCount;
+    }
+
+    /**
+     * Entry yang AABB-nya berjarak < radius dari titik (cx, cy).
+     */
+    public int queryRadius(float cx, float cy, float radius) {
+        int n = queryRect(cx - radius, cy - radius, radius * 2, radius * 2);
+        float r2 = radius * radius;
+        int kept = 0;
+        for (int k = 0; k < n; k++) {
+            int h = results[k];
+            float dx = Math.max(Math.max(minX[h] - cx, 0f), cx - maxX[h]);
+            float dy = Math.max(Math.max(minY[h] - cy, 0f), cy - maxY[h]);
+            if (dx * dx + dy * dy < r2) results[kept++] = h;
+        }
+        resultCount = kept;
+        return kept;
+    }
+
+    public int getResult(int k) {
+        return results[k];
+    }
+
+    /**
+     * Urutkan hasil query terakhir menaik (handle), supaya pemrosesan deterministik.
+     */
+    public void sortResults() {
+        Arrays.sort(results, 0, resultCount);
+    }
+
+    public boolean isActive(int handle) {
+        return handle >= 0 && handle < handleCount && active[handle];
+    }
+
+    /** Batas atas handle yang pernah dibuat; semua handle aktif < nilai ini. */
+    public int getHandleLimit() { return handleCount; }
+    public int getCellSize() { return cellSize; }
+    public int getActiveCount() { return activeCount; }
+    /** Berapa kali update() harus memindah entry ke sel lain. */
+    public long getRebucketCount() { return rebucketCount; }
+
+    private void setBounds(int handle, float x, float y, float width, float height) {
+        minX[handle] = x;
+        minY[handle] = y;
+        maxX[handle] = x + width;
+        maxY[handle] = y + height;
+    }
+
+    private void addToCells(int handle) {
+        for (int cy = cellMinY[handle]; cy <= cellMaxY[handle]; cy++) {
+            for (int cx = cellMinX[handle]; cx <= cellMaxX[handle]; cx++) {
+                int b = bucket(cx, cy);
+                int[] items = buckets[b];
+                if (bucketCounts[b] == items.length) {
+                    items = buckets[b] = Arrays.copyOf(items, items.length * 2);
+                }
+                // Sel berbeda bisa jatuh ke bucket yang sama; cukup satu salinan per bucket
+                if (!containsInBucket(b, handle)) items[bucketCounts[b]++] = handle;
+            }
+        }
+    }
+
+    private void removeFromCells(int handle) {
+        for (int cy = cellMinY[handle]; cy <= cellMaxY[handle]; cy++) {
+            for (int cx = cellMinX[handle]; cx <= cellMaxX[handle]; cx++) {
+                int b = bucket(cx, cy);
+                int[] items = buckets[b];
+                int n = bucketCounts[b];
+                for (int k = 0; k < n; k++) {
+                    if (items[k] == handle) {
+                        items[k] = items[--n];
+                        bucketCounts[b] = n;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean containsInBucket(int b, int handle) {
+        int[] items = buckets[b];
+        for (int k = 0, n = bucketCounts[b]; k < n; k++) {
+            if (items[k] == handle) return true;
+        }
+        return false;
+    }
+
+    private void addResult(int handle) {
+        if (resultCount == results.length) results = Arrays.copyOf(results, results.length * 2);
+        results[resultCount++] = handle;
+    }
+
+    private int cell(float v) {
+        // floor tanpa Math.floor (double); koordinat negatif tetap dibulatkan ke bawah
+        float scaled = v * invCellSize;
+        int i = (int) scaled;
+        return scaled < i ? i - 1 : i;
+    }
+
+    private int bucket(int cx, int cy) {
+        int h = cx * 0x8da6b343 ^ cy * 0xd8163841;
+        return (h ^ (h >>> 16)) & bucketMask;
+    }
+
+    private void checkActive(int handle) {
+        if (!isActive(handle)) throw new IllegalArgumentException("Handle SpatialHash tidak aktif: " + handle);
+    }
+
+    private void allocate(int capacity) {
+        minX = grow(minX, capacity);
+        minY = grow(minY, capacity);
+        maxX = grow(maxX, capacity);
+        maxY = grow(maxY, capacity);
+        cellMinX = grow(cellMinX, capacity);
+        cellMinY = grow(cellMinY, capacity);
+        cellMaxX = grow(cellMaxX, capacity);
+        cellMaxY = grow(cellMaxY, capacity);
+        stamp = grow(stamp, capacity);
+        active = active == null ? new boolean[capacity] : Arrays.copyOf(active, capacity);
+        freeHandles = freeHandles == null ? new int[capacity] : freeHandles;
+    }
+
+    private static float[] grow(float[] array, int capacity) {
+        return array == null ? new float[capacity] : Arrays.copyOf(array, capacity);
+    }
+
+    private static int[] grow(int[] array, int capacity) {
+        return array == null ? new int[capacity] : Arrays.copyOf(array, capacity);
+    }
+}
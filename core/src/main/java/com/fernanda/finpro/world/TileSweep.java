@@ -0,0 +1,108 @@
+package com.fernanda.finpro.world;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Swept AABB terhadap CollisionGrid: kotak digerakkan per sumbu (X dulu, lalu Y),
+ * dan di tiap sumbu hanya kolom / baris tile yang dilewati sisi depannya yang dicek.
+ * Gerak berhenti tepat di tepi tile solid pertama (time of impact), sumbu lain tetap jalan,
+ * jadi entity meluncur di sepanjang tembok. Sejauh apa pun gerak per tick, tile tipis tidak bisa ditembus.
+ *
+ * Tanpa state dan tanpa alokasi: aman dipanggil dari thread AI paralel.
+ * Kotak yang sudah overlap tile solid tetap bisa keluar; hanya tile baru di depannya yang menghalangi.
+ */
+public final class TileSweep {
+    public static final int HIT_X = 1;
+    public static final int HIT_Y = 1 << 1;
+
+    private static final float TILE = CollisionGrid.TILE_SIZE;
+    // Toleransi tepi: kotak yang menempel tepat di tepi tile tidak dihitung masuk ke tile itu
+    private static final float EDGE_EPSILON = 0.001f;
+
+    private TileSweep() {}
+
+    /**
+     * Geser kotak (position, width, height) sebesar (dx, dy); position ditulis ke hasil akhir.
+     * @return HIT_X / HIT_Y untuk sumbu yang terhenti tile solid
+     */
+    public static int move(CollisionGrid grid, Vector2 position, float width, float height, float dx, float dy) {
+        int hits = 0;
+
+        float allowedX = sweepX(grid, position.x, position.y, width, height, dx);
+        if (allowedX != dx) hits |= HIT_X;
+        position.x += allowedX;
+
+        float allowedY = sweepY(grid, position.x, position.y, width, height, dy);
+        if (allowedY != dy) hits |= HIT_Y;
+        position.y += allowedY;
+
+        return hits;
+    }
+
+    /**
+     * Jarak yang bisa ditempuh sepanjang X sebelum menabrak tile solid (dx jika bebas).
+     */
+    public static float sweepX(CollisionGrid grid, float x, float y, float width, float height, float dx) {
+        if (dx == 0) return 0f;
+        int row0 = tile(y + EDGE_EPSILON);
+        int row1 = tile(y + height - EDGE_EPSILON);
+
+        if (dx > 0) {
+            float right = x + width;
+            int to = tile(right + dx - EDGE_EPSILON);
+            for (int col = tile(right - EDGE_EPSILON) + 1; col <= to; col++) {
+                if (isColumnSolid(grid, col, row0, row1)) return Math.max(0f, col * TILE - right);
+            }
+        } else {
+            int to = tile(x + dx + EDGE_EPSILON);
+            for (int col = tile(x + EDGE_EPSILON) - 1; col >= to; col--) {
+                if (isColumnSolid(grid, col, row0, row1)) return Math.min(0f, (col + 1) * TILE - x);
+            }
+        }
+        return dx;
+    }
+
+    /**
+     * Jarak yang bisa ditempuh sepanjang Y sebelum menabrak tile solid (dy jika bebas).
+     */
+    public static float sweepY(CollisionGrid grid, float x, float y, float width, float height, float dy) {
+        if (dy == 0) return 0f;
+        int col0 = tile(x + EDGE_EPSILON);
+        int col1 = tile(x + width - EDGE_EPSILON);
+
+        if (dy > 0) {
+            float top = y + height;
+            int to = tile(top + dy - EDGE_EPSILON);
+            for (int row = tile(top - EDGE_EPSILON) + 1; row <= to; row++) {
+                if (isRowSolid(grid, row, col0, col1)) return Math.max(0f, row * TILE - top);
+            }
+        } else {
+            int to = tile(y + dy + EDGE_EPSILON);
+            for (int row = tile(y + EDGE_EPSILON) - 1; row >= to; row--) {
+                if (isRowSolid(grid, row, col0, col1)) return Math.min(0f, (row + 1) * TILE - y);
+            }
+        }
+        return dy;
+    }
+
+    private static boolean isColumnSolid(CollisionGrid grid, int col, int row0, int row1) {
+        for (int row = row0; row <= row1; row++) {
+            if (grid.isSolid(col, row)) return true;
+        }
+        return false;
+    }
+
+    private static boolean isRowSolid(CollisionGrid grid, int row, int col0, int col1) {
+        for (int col = col0; col <= col1; col++) {
+            if (grid.isSolid(col, row)) return true;
+        }
+        return false;
+    }
+
+    // floor(v / TILE), juga untuk koordinat negatif
+    private static int tile(float v) {
+        float scaled = v / TILE;
+        int i = (int) scaled;
+        return scaled < i ? i - 1 : i;
+    }
+}
@@ -0,0 +1,16 @@
+package com.fernanda.finpro.world;
+
+/**
+ * Resource yang dibaca / ditulis oleh job di GameWorld (lihat JobGraph).
+ * Dua job hanya boleh jalan bersamaan jika set-nya tidak bertabrakan.
+ */
+public enum WorldResource {
+    PLAYER,        // posisi, health, state, hitbox player
+    INVENTORY,
+    MONSTERS,      // list monster, list awake, state tiap monster, pool MonsterFactory (RNG DROPS ikut di sini)
+    SPAWN,         // timer & flag SpawnManager (RNG SPAWN/AI ikut di sini)
+    BOSS,          // state boss + meteor (RNG BOSS ikut di sini)
+    WORLD,         // map aktif, world type, campfire (berubah saat transisi)
+    ENTITIES,      // EcsWorld: item di tanah, gambar campfire & dekorasi
+    PROJECTILES    // ProjectileSystem
+}
@@ -0,0 +1,60 @@
+package com.fernanda.finpro.world;
+
+import com.fernanda.finpro.entities.Player;
+
+/**
+ * Salinan data player untuk satu tick AI.
+ * Diisi sekali di awal fase AI (capture) lalu dibagikan ke semua monster (termasuk thread worker),
+ * jadi monster tidak pernah membaca object Player yang sedang berubah.
+ * Object yang sama dipakai ulang tiap tick; field hanya boleh dibaca selama fase AI.
+ */
+public final class WorldSnapshot {
+    public float playerX;
+    public float playerY;
+    public float playerWidth;
+    public float playerHeight;
+    public float playerCenterX;
+    public float playerCenterY;
+    // Opsional: cache line of sight ke player, target-nya ikut diperbarui tiap capture
+    public LineOfSight sight;
+
+    public WorldSnapshot() {
+    }
+
+    public WorldSnapshot(float playerX, float playerY, float playerWidth, float playerHeight) {
+        set(playerX, playerY, playerWidth, playerHeight);
+    }
+
+    public WorldSnapshot set(float playerX, float playerY, float playerWidth, float playerHeight) {
+        this.playerX = playerX;
+        this.playerY = playerY;
+        this.playerWidth = playerWidth;
+        this.playerHeight = playerHeight;
+        this.playerCenterX = playerX + playerWidth / 2;
+        this.playerCenterY = playerY + playerHeight / 2;
+        if (sight != null) sight.setTarget(playerCenterX, playerCenterY);
+        return this;
+    }
+
+    /**
+     * Apakah player terlihat dari (x, y) tanpa terhalang tile solid. Tanpa LineOfSight selalu true.
+     */
+    public boolean canSeePlayer(float x, float y) {
+        return sight == null || sight.canSee(x, y);
+    }
+
+    /**
+     * Seperti canSeePlayer(), dalam bentuk flag LineOfSight.query().
+     */
+    public int querySight(float x, float y) {
+        return sight == null ? LineOfSight.VISIBLE : sight.query(x, y);
+    }
+
+    public WorldSnapshot capture(Player player) {
+        return set(player.position.x, player.position.y, player.getWidth(), player.getHeight());
+    }
+
+    public static WorldSnapshot of(Player player) {
+        return new WorldSnapshot().capture(player);
+    }
+}
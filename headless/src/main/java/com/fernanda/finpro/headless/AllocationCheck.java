@@ -0,0 +1,125 @@
+package com.fernanda.finpro.headless;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Cek zero-allocation: menghitung byte yang dialokasikan selama world.tick()
+ * lewat counter alokasi per thread dari JVM (com.sun.management.ThreadMXBean).
+ * Yang diukur: thread pemanggil ditambah semua worker ForkJoin common pool (AI, crowd, job paralel).
+ * Tick warmup dilewati supaya JIT, pool, dan array yang tumbuh sudah stabil. Headless jalan ~200 ribu tick/s,
+ * jadi warmup perlu puluhan ribu tick (sekitar satu detik kompilasi C2); warmup pendek ikut mengukur
+ * alokasi runtime JVM saat kode baru dikompilasi / di-deoptimize.
+ *
+ * Setiap tick gameplay setelah warmup harus nol byte; satu tick ber-garbage saja sudah GAGAL.
+ * Satu-satunya pengecualian adalah tick yang membangun ulang world (restart setelah mati / pindah world):
+ * tick itu memuat ulang monster, campfire, dan menyimpan inventory, jadi tidak diukur dan hanya dihitung.
+ * Tick yang memuat class baru (mis. switch-map enum MiniBoss saat boss pertama kali bangun) juga hanya
+ * dihitung: alokasinya metadata + static init yang terjadi sekali seumur JVM, bukan garbage per tick.
+ *
+ * Daftar worker dibaca ulang di luar tick setiap ukuran pool berubah. Worker yang baru dibuat
+ * di tengah tick belum ikut terukur pada tick itu, dan worker yang mati di tengah tick dilewati.
+ */
+public class AllocationCheck {
+    private static final String WORKER_PREFIX = "ForkJoinPool.commonPool-worker-";
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final ClassLoadingMXBean classes;
+    private final int warmupTicks;
+
+    private long[] workerIds = new long[0];
+    private long[] workerStartBytes = new long[0];
+    private int knownPoolSize = -1;
+
+    private long totalBytes;
+    private long workerBytes;
+    private long worstTickBytes;
+    private int measuredTicks;
+    private int dirtyTicks;
+    private int skippedTicks;
+    private int classLoadTicks;
+    private long startLoadedClasses;
+
+    public AllocationCheck(int warmupTicks) {
+        this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("JVM tidak mendukung counter alokasi per thread");
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        this.classes = ManagementFactory.getClassLoadingMXBean();
+        this.warmupTicks = warmupTicks;
+    }
+
+    public boolean isMeasuring(int tick) {
+        return tick >= warmupTicks;
+    }
+
+    /**
+     * Mulai ukur satu tick. Alokasi milik pengukuran sendiri (daftar worker, array hasil)
+     * terjadi sebelum counter thread pemanggil dibaca, jadi tidak ikut terhitung.
+     */
+    public long begin() {
+        refreshWorkers();
+        workerStartBytes = threads.getThreadAllocatedBytes(workerIds);
+        startLoadedClasses = classes.getTotalLoadedClassCount();
+        return threads.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * @param worldRebuilt tick ini me-restart / memindah world; tidak ikut diukur
+     */
+    public void end(long startBytes, boolean worldRebuilt) {
+        long bytes = threads.getCurrentThreadAllocatedBytes() - startBytes;
+        if (worldRebuilt) {
+            skippedTicks++;
+            return;
+        }
+        if (classes.getTotalLoadedClassCount() != startLoadedClasses) {
+            classLoadTicks++;
+            return;
+        }
+        long[] workerEndBytes = threads.getThreadAllocatedBytes(workerIds);
+        long workers = 0;
+        for (int i = 0; i < workerIds.length; i++) {
+            // -1 = thread sudah mati / counter tidak tersedia
+            if (workerStartBytes[i] >= 0 && workerEndBytes[i] >= 0) workers += workerEndBytes[i] - workerStartBytes[i];
+        }
+        bytes += workers;
+
+        measuredTicks++;
+        if (bytes > 0) {
+            dirtyTicks++;
+            totalBytes += bytes;
+            workerBytes += workers;
+            if (bytes > worstTickBytes) worstTickBytes = bytes;
+        }
+    }
+
+    private void refreshWorkers() {
+        int poolSize = ForkJoinPool.commonPool().getPoolSize();
+        if (poolSize == knownPoolSize) return;
+        knownPoolSize = poolSize;
+
+        ThreadInfo[] infos = threads.getThreadInfo(threads.getAllThreadIds());
+        long[] ids = new long[infos.length];
+        int count = 0;
+        for (ThreadInfo info : infos) {
+            if (info != null && info.getThreadName().startsWith(WORKER_PREFIX)) ids[count++] = info.getThreadId();
+        }
+        workerIds = Arrays.copyOf(ids, count);
+    }
+
+    public boolean passed() {
+        return measuredTicks > 0 && dirtyTicks == 0;
+    }
+
+    public String report() {
+        return String.format("%s - %d byte dalam %d tick (%d dari worker; %d tick ber-garbage, terburuk %d byte, "
+                + "warmup %d tick, %d tick restart / pindah world dan %d tick muat class tidak diukur, %d worker)",
+            passed() ? "LULUS" : "GAGAL", totalBytes, measuredTicks, workerBytes, dirtyTicks, worstTickBytes,
+            warmupTicks, skippedTicks, classLoadTicks, workerIds.length);
+    }
+}
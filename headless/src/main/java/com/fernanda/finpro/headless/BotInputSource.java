@@ -0,0 +1,40 @@
+package com.fernanda.finpro.headless;
+
+import com.fernanda.finpro.input.InputSource;
+import com.fernanda.finpro.world.GameRandom;
+
+/**
+ * Pemain palsu untuk run headless: jalan ke arah acak per segmen, kadang menyerang / dodge,
+ * dan langsung restart saat mati. Di-seed, jadi urutan inputnya selalu sama.
+ */
+public class BotInputSource implements InputSource {
+    private static final int[] DIRECTIONS = {
+        0, LEFT, RIGHT, UP, DOWN, LEFT | UP, LEFT | DOWN, RIGHT | UP, RIGHT | DOWN
+    };
+
+    private final GameRandom random;
+    private int segmentTicks;
+    private int segmentMask;
+
+    public BotInputSource(long seed) {
+        this.random = new GameRandom(seed);
+    }
+
+    @Override
+    public void pollFrame() {
+    }
+
+    @Override
+    public int nextTick() {
+        if (segmentTicks <= 0) {
+            segmentTicks = random.random(30, 120);
+            segmentMask = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+            if (random.randomBoolean(0.3f)) segmentMask |= ATTACK;
+        }
+        segmentTicks--;
+
+        int actions = segmentMask | RESTART;
+        if (random.randomBoolean(0.005f)) actions |= DODGE;
+        return actions;
+    }
+}
@@ -0,0 +1,112 @@
+package com.fernanda.finpro.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Rectangle;
+import com.fernanda.finpro.entities.Monster;
+import com.fernanda.finpro.entities.Player;
+import com.fernanda.finpro.events.EventBus;
+import com.fernanda.finpro.factories.MonsterFactory;
+import com.fernanda.finpro.managers.CollisionManager;
+import com.fernanda.finpro.world.GameRandom;
+import com.fernanda.finpro.world.GameWorld;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark CollisionManager (--bench-collision): 50 sampai 5000 monster tersebar di map,
+ * semuanya bergeser sedikit tiap update supaya grid ikut di-update seperti saat bermain.
+ * Dibandingkan dengan cara lama sebagai acuan: tiga tes overlap ke setiap objek Monster (loop CollisionManager
+ * sebelum grid, tanpa damage / knockback).
+ */
+public class CollisionBenchmark {
+    private static final int[] COUNTS = { 50, 500, 1000, 2000, 5000 };
+    private static final int WARMUP = 300;
+    private static final int ITERATIONS = 2000;
+    private static final float DT = 1f / 60f;
+
+    private final long seed;
+    private int sink; // Supaya JIT tidak membuang sapuan penuh
+
+    public CollisionBenchmark(long seed) {
+        this.seed = seed;
+    }
+
+    public void run() {
+        // Putaran pertama hanya pemanasan JIT untuk semua ukuran
+        for (int count : COUNTS) {
+            runCount(count, false);
+        }
+        Gdx.app.log("Bench", "Collision: monster | grid ns/update | cara lama ns/update | kandidat/update");
+        for (int count : COUNTS) {
+            runCount(count, true);
+        }
+    }
+
+    private void runCount(int count, boolean log) {
+        GameRandom rng = new GameRandom(seed ^ count);
+        float center = GameWorld.MAP_SIZE / 2;
+        Player player = new Player(center, center);
+
+        List<Monster> monsters = new ArrayList<>(count);
+        MonsterFactory.Type[] types = { MonsterFactory.Type.ORC, MonsterFactory.Type.WEREWOLF };
+        for (int i = 0; i < count; i++) {
+            float x = rng.random(0f, GameWorld.MAP_SIZE);
+            float y = rng.random(0f, GameWorld.MAP_SIZE);
+            monsters.add(MonsterFactory.instantiate(types[i % types.length], x, y));
+        }
+
+        CollisionManager collision = new CollisionManager(player, monsters, new EventBus());
+        for (int i = 0; i < WARMUP; i++) {
+            drift(monsters, i);
+            collision.update(DT);
+            sink += sweep(player, monsters);
+        }
+
+        long gridNanos = 0, sweepNanos = 0;
+        long candidatesBefore = collision.getCandidatesTested();
+        for (int i = 0; i < ITERATIONS; i++) {
+            drift(monsters, i);
+
+            long start = System.nanoTime();
+            collision.update(DT);
+            gridNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            sink += sweep(player, monsters);
+            sweepNanos += System.nanoTime() - start;
+        }
+        long candidates = collision.getCandidatesTested() - candidatesBefore;
+
+        if (log) Gdx.app.log("Bench", String.format("Collision: %5d | %8d | %8d | %.1f (sink %d)",
+            count, gridNanos / ITERATIONS, sweepNanos / ITERATIONS, candidates / (double) ITERATIONS, sink & 1));
+    }
+
+    /**
+     * Geser semua monster bolak-balik 0.5 px/update (sebagian melewati batas sel grid).
+     */
+    private static void drift(List<Monster> monsters, int iteration) {
+        float step = (iteration / 32) % 2 == 0 ? 0.5f : -0.5f;
+        for (int i = 0; i < monsters.size(); i++) {
+            Monster m = monsters.get(i);
+            m.position.x += step;
+            m.bodyRect.x += step;
+        }
+    }
+
+    // Cara lama: sapu semua monster, tes overlap lewat hitbox masing-masing
+    private static int sweep(Player player, List<Monster> monsters) {
+        Rectangle body = player.getHitbox();
+        Rectangle attack = player.getAttackHitbox();
+        int hits = 0;
+        for (int i = 0; i < monsters.size(); i++) {
+            Monster m = monsters.get(i);
+            if (m.isDead()) continue;
+            Rectangle mAtk = m.getAttackHitbox();
+            if (attack.overlaps(m.getBodyHitbox())
+                || (mAtk.width > 0 && mAtk.overlaps(body))
+                || body.overlaps(m.getBodyHitbox())) hits++;
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,97 @@
+package com.fernanda.finpro.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+import com.fernanda.finpro.entities.Monster;
+import com.fernanda.finpro.factories.MonsterFactory;
+import com.fernanda.finpro.managers.CrowdSeparation;
+import com.fernanda.finpro.world.GameRandom;
+import com.fernanda.finpro.world.GameWorld;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark CrowdSeparation (--bench-crowd) dengan 1000 dan 5000 monster, dua susunan:
+ * tersebar di seluruh map, dan berkerumun dalam radius 96 px (kasus terburuk, semua saling tumpuk).
+ * Biaya per monster harus kira-kira sama untuk kedua jumlah (linear), termasuk saat berkerumun.
+ */
+public class CrowdBenchmark {
+    private static final int[] COUNTS = { 1000, 5000 };
+    private static final float CLUSTER_RADIUS = 96f;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1000;
+    private static final float DT = 1f / 60f;
+
+    private final long seed;
+
+    public CrowdBenchmark(long seed) {
+        this.seed = seed;
+    }
+
+    public void run() {
+        // Putaran pertama hanya pemanasan JIT
+        for (int count : COUNTS) {
+            runCase(count, false, false);
+        }
+        Gdx.app.log("Bench", "Crowd: monster | susunan | ns/update | ns/monster | cek tetangga/monster");
+        for (int count : COUNTS) {
+            runCase(count, false, true);
+            runCase(count, true, true);
+        }
+    }
+
+    private void runCase(int count, boolean clustered, boolean log) {
+        GameRandom rng = new GameRandom(seed ^ count);
+        float center = GameWorld.MAP_SIZE / 2;
+
+        List<Monster> monsters = new ArrayList<>(count);
+        MonsterFactory.Type[] types = { MonsterFactory.Type.ORC, MonsterFactory.Type.WEREWOLF };
+        for (int i = 0; i < count; i++) {
+            float x, y;
+            if (clustered) {
+                float angle = rng.random(0f, MathUtils.PI2);
+                float distance = rng.random(0f, CLUSTER_RADIUS);
+                x = center + MathUtils.cos(angle) * distance;
+                y = center + MathUtils.sin(angle) * distance;
+            } else {
+                x = rng.random(0f, GameWorld.MAP_SIZE);
+                y = rng.random(0f, GameWorld.MAP_SIZE);
+            }
+            monsters.add(MonsterFactory.instantiate(types[i % types.length], x, y));
+        }
+
+        // Kerumunan menyebar pelan selama benchmark; posisi dikembalikan tiap iterasi supaya beban tetap
+        float[] startX = new float[count], startY = new float[count];
+        for (int i = 0; i < count; i++) {
+            startX[i] = monsters.get(i).position.x;
+            startY[i] = monsters.get(i).position.y;
+        }
+
+        CrowdSeparation crowd = new CrowdSeparation();
+        for (int i = 0; i < WARMUP; i++) {
+            restore(monsters, startX, startY);
+            crowd.update(monsters, DT);
+        }
+
+        long nanos = 0;
+        long checksBefore = crowd.getNeighborChecks();
+        for (int i = 0; i < ITERATIONS; i++) {
+            restore(monsters, startX, startY);
+            long start = System.nanoTime();
+            crowd.update(monsters, DT);
+            nanos += System.nanoTime() - start;
+        }
+        long checks = crowd.getNeighborChecks() - checksBefore;
+
+        if (log) Gdx.app.log("Bench", String.format("Crowd: %5d | %-9s | %9d | %6.1f | %.1f",
+            count, clustered ? "kerumunan" : "tersebar", nanos / ITERATIONS,
+            nanos / (double) ITERATIONS / count, checks / (double) ITERATIONS / count));
+    }
+
+    private static void restore(List<Monster> monsters, float[] x, float[] y) {
+        for (int i = 0; i < monsters.size(); i++) {
+            monsters.get(i).position.set(x[i], y[i]);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.fernanda.finpro.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * GL20 kosong untuk backend headless.
+ * HeadlessApplication tidak punya context GL, jadi Texture/TmxMapLoader akan NPE saat upload.
+ * Semua panggilan GL di sini jadi no-op: pixmap tetap di-decode (ukuran texture benar),
+ * tapi tidak ada yang dikirim ke GPU.
+ */
+public final class HeadlessGL {
+
+    private HeadlessGL() {}
+
+    public static void install() {
+        GL20 gl = (GL20) Proxy.newProxyInstance(
+            GL20.class.getClassLoader(),
+            new Class<?>[] { GL20.class },
+            (proxy, method, args) -> defaultValue(method.getReturnType())
+        );
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == float.class) return 0f;
+        if (type == long.class) return 0L;
+        return null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.fernanda.finpro.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Entry point simulasi tanpa GPU (CI / benchmark).
+ * Argumen: lihat HeadlessOptions.
+ */
+public class HeadlessLauncher {
+    public static void main(String[] args) {
+        HeadlessOptions options = HeadlessOptions.parse(args);
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        // 0 = tidak ada sleep antar frame, tick secepat mungkin
+        config.updatesPerSecond = 0;
+
+        new HeadlessApplication(new HeadlessSimulation(options), config);
+    }
+}
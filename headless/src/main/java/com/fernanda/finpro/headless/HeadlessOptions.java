@@ -0,0 +1,62 @@
+package com.fernanda.finpro.headless;
+
+/**
+ * Opsi command line untuk HeadlessLauncher.
+ */
+public class HeadlessOptions {
+    public int ticks = -1;           // -1 = 36000 (10 menit game pada 60 Hz), atau panjang rekaman
+    public int ticksPerFrame = 1;    // Tick per render(); hasil sama untuk nilai berapa pun
+    public int extraMonsters = 0;    // Monster tambahan di forest
+    public int entities = 0;         // Item di tanah tambahan (entity ECS)
+    public int projectiles = 0;      // Projectile yang dijaga tetap terbang (stress ProjectileSystem)
+    public int maxMeteors = -1;      // -1 = MeteorController.DEFAULT_MAX_METEORS; harus sama saat replay
+    public int meteorsPerSpawn = 1;  // Meteor per spawn saat hujan meteor boss; harus sama saat replay
+    public boolean parallelAi = true;
+    public boolean parallelJobs = true;
+    public int aiThreshold = -1;     // -1 = pakai default MonsterAiManager
+    public boolean aiLod = true;
+    public boolean activation = true;
+    public long seed = 1L;
+    public boolean bot = false;      // Input dari BotInputSource (default: player diam)
+    public String recordPath;
+    public boolean poolDebug = false; // Lacak obtain/free pool, laporkan leak & free ganda
+    public int allocCheckWarmup = -1; // >= 0 = ukur alokasi per tick setelah warmup, exit 1 jika ada garbage
+    public boolean crowd = true;      // Separation steering antar monster
+    public boolean sight = true;      // Line of sight sebelum monster mengejar player
+    public boolean benchCollision = false; // Benchmark CollisionManager 50..5000 monster lalu keluar
+    public boolean benchCrowd = false; // Benchmark CrowdSeparation 1000 & 5000 monster lalu keluar
+    public boolean benchSight = false; // Benchmark LineOfSight (cache vs raycast langsung) lalu keluar
+    public String replayPath;        // Seed & state awal dari header rekaman; --monsters harus sama saat merekam
+
+    public static HeadlessOptions parse(String[] args) {
+        HeadlessOptions options = new HeadlessOptions();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if ("--ticks".equals(arg)) options.ticks = Integer.parseInt(args[++i]);
+            else if ("--ticks-per-frame".equals(arg)) options.ticksPerFrame = Integer.parseInt(args[++i]);
+            else if ("--monsters".equals(arg)) options.extraMonsters = Integer.parseInt(args[++i]);
+            else if ("--entities".equals(arg)) options.entities = Integer.parseInt(args[++i]);
+            else if ("--projectiles".equals(arg)) options.projectiles = Integer.parseInt(args[++i]);
+            else if ("--meteors".equals(arg)) options.maxMeteors = Integer.parseInt(args[++i]);
+            else if ("--meteors-per-spawn".equals(arg)) options.meteorsPerSpawn = Integer.parseInt(args[++i]);
+            else if ("--serial-ai".equals(arg)) options.parallelAi = false;
+            else if ("--serial-jobs".equals(arg)) options.parallelJobs = false;
+            else if ("--ai-threshold".equals(arg)) options.aiThreshold = Integer.parseInt(args[++i]);
+            else if ("--no-lod".equals(arg)) options.aiLod = false;
+            else if ("--no-sleep".equals(arg)) options.activation = false;
+            else if ("--seed".equals(arg)) options.seed = Long.parseLong(args[++i]);
+            else if ("--bot".equals(arg)) options.bot = true;
+            else if ("--record".equals(arg)) options.recordPath = args[++i];
+            else if ("--pool-debug".equals(arg)) options.poolDebug = true;
+            else if ("--alloc-check".equals(arg)) options.allocCheckWarmup = Integer.parseInt(args[++i]);
+            else if ("--no-crowd".equals(arg)) options.crowd = false;
+            else if ("--no-sight".equals(arg)) options.sight = false;
+            else if ("--bench-collision".equals(arg)) options.benchCollision = true;
+            else if ("--bench-crowd".equals(arg)) options.benchCrowd = true;
+            else if ("--bench-sight".equals(arg)) options.benchSight = true;
+            else if ("--replay".equals(arg)) options.replayPath = args[++i];
+            else throw new IllegalArgumentException("Argumen tidak dikenal: " + arg);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,313 @@
+package com.fernanda.finpro.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.fernanda.finpro.components.ItemType;
+import com.fernanda.finpro.ecs.EntityFactory;
+import com.fernanda.finpro.entities.Boss;
+import com.fernanda.finpro.entities.MeteorController;
+import com.fernanda.finpro.entities.Monster;
+import com.fernanda.finpro.enums.WorldType;
+import com.fernanda.finpro.events.EventTelemetry;
+import com.fernanda.finpro.factories.MonsterFactory;
+import com.fernanda.finpro.input.InputLog;
+import com.fernanda.finpro.input.InputRecorder;
+import com.fernanda.finpro.input.InputReplay;
+import com.fernanda.finpro.input.InputSource;
+import com.fernanda.finpro.managers.PersistenceSubscriber;
+import com.fernanda.finpro.managers.SimulationClock;
+import com.fernanda.finpro.pool.MonsterPool;
+import com.fernanda.finpro.projectile.ProjectileSystem;
+import com.fernanda.finpro.projectile.ProjectileType;
+import com.fernanda.finpro.singleton.GameAssetManager;
+import com.fernanda.finpro.world.GameRandom;
+import com.fernanda.finpro.world.GameWorld;
+import com.fernanda.finpro.world.LineOfSight;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Menjalankan GameWorld tanpa render (mode fast-forward paling cepat).
+ * Setiap render() = N tick simulasi dengan step tetap lewat SimulationClock,
+ * lalu throughput (detik simulasi per detik wall-clock) dicetak di akhir.
+ */
+public class HeadlessSimulation extends ApplicationAdapter {
+    private static final int REPORT_INTERVAL = 6000;
+
+    private static final int DEFAULT_TICKS = 36000;
+
+    private final HeadlessOptions options;
+    private int totalTicks;
+
+    private GameWorld world;
+    private SimulationClock clock;
+    private AllocationCheck allocationCheck;
+    private InputLog.Header replayHeader;
+    private GameRandom projectileRng;
+    private PersistenceSubscriber persistence;
+    private EventTelemetry telemetry;
+    private int ticks;
+    private int restarts;
+    private int worldChanges; // Restart + pindah world (dari listener), untuk AllocationCheck
+    private long startNanos;
+
+    public HeadlessSimulation(HeadlessOptions options) {
+        this.options = options;
+    }
+
+    @Override
+    public void create() {
+        HeadlessGL.install();
+
+        // Hanya gambar & map; musik/sound tidak dimuat (getter sound mengembalikan null)
+        GameAssetManager.getInstance().loadImages();
+        GameAssetManager.getInstance().finishLoading();
+
+        if (options.benchCollision || options.benchCrowd || options.benchSight) {
+            if (options.benchCollision) new CollisionBenchmark(options.seed).run();
+            if (options.benchCrowd) new CrowdBenchmark(options.seed).run();
+            if (options.benchSight) new SightBenchmark(options.seed).run();
+            Gdx.app.exit();
+            return;
+        }
+
+        InputSource input = createInputSource();
+        totalTicks = options.ticks > 0 ? options.ticks
+            : (input instanceof InputReplay ? ((InputReplay) input).getTotalTicks() : DEFAULT_TICKS);
+
+        // Rekaman menyimpan tick rate-nya sendiri; step harus sama supaya replay identik
+        clock = new SimulationClock();
+        if (replayHeader != null) clock.setTickRate(replayHeader.tickRate);
+        clock.setTicksPerFrame(options.ticksPerFrame);
+
+        world = new GameWorld(replayHeader != null ? replayHeader.seed : options.seed);
+        if (replayHeader != null) replayHeader.applyTo(world);
+        world.setListener(new GameWorld.Listener() {
+            @Override public void onWorldChanged(WorldType newWorld, TiledMap map) { worldChanges++; }
+            @Override public void onBossKilled() {}
+            @Override public void onGameOver() {}
+            @Override public void onRestarted() { restarts++; }
+        });
+        world.getPlayer().getInputHandler().setSource(input);
+        world.getAiManager().setParallelEnabled(options.parallelAi);
+        world.getJobGraph().setParallelEnabled(options.parallelJobs);
+        if (options.aiThreshold > 0) world.getAiManager().setParallelThreshold(options.aiThreshold);
+        world.getAiManager().getLodScheduler().setEnabled(options.aiLod);
+        world.getActivationManager().setEnabled(options.activation);
+        world.getCrowd().setEnabled(options.crowd);
+        world.getCrowd().setParallelEnabled(options.parallelAi);
+        if (options.aiThreshold > 0) world.getCrowd().setParallelThreshold(options.aiThreshold);
+        world.getLineOfSight().setEnabled(options.sight);
+        world.getSpawnManager().setMeteorRain(
+            options.maxMeteors > 0 ? options.maxMeteors : MeteorController.DEFAULT_MAX_METEORS, options.meteorsPerSpawn);
+        for (MonsterFactory.Type type : MonsterFactory.Type.values()) {
+            if (type != MonsterFactory.Type.BOSS) MonsterFactory.getPool(type).setDebug(options.poolDebug);
+        }
+        // Sama seperti Main: consumer event di-drain per frame, bukan per tick
+        persistence = new PersistenceSubscriber(world.getEvents(), world.getPlayer());
+        telemetry = new EventTelemetry(world.getEvents());
+
+        MonsterFactory.Type[] types = { MonsterFactory.Type.ORC, MonsterFactory.Type.WEREWOLF };
+        for (int i = 0; i < options.extraMonsters; i++) {
+            world.getSpawnManager().spawnMonster(types[i % types.length]);
+        }
+
+        spawnEntities(options.entities);
+        if (options.projectiles > 0) {
+            projectileRng = new GameRandom(options.seed ^ 0xB011E7);
+            ProjectileSystem projectiles = world.getProjectiles();
+            projectiles.setCapacity(Math.max(options.projectiles, ProjectileSystem.DEFAULT_CAPACITY));
+        }
+
+        if (options.recordPath != null) {
+            try {
+                InputLog.Header header = InputLog.Header.capture(world, clock.getTickRate());
+                world.getPlayer().getInputHandler().startRecording(new InputRecorder(Paths.get(options.recordPath), header));
+            } catch (IOException e) {
+                throw new GdxRuntimeException("Gagal membuat rekaman " + options.recordPath, e);
+            }
+        }
+
+        if (options.allocCheckWarmup >= 0) allocationCheck = new AllocationCheck(options.allocCheckWarmup);
+
+        Gdx.app.log("Headless", "World siap: " + world.getMonsters().size() + " monster, target " + totalTicks
+            + " tick, AI " + (options.parallelAi ? "paralel" : "serial") + ", input " + input.getClass().getSimpleName());
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Item di tanah tambahan (stress job entities: bobbing + pickup).
+     * Posisi dari RNG terpisah (seed opsi), tidak menyentuh stream world.
+     */
+    private void spawnEntities(int count) {
+        GameRandom rng = new GameRandom(options.seed ^ 0x5EED);
+        ItemType[] drops = { ItemType.ORC_MEAT, ItemType.ORC_SKULL, ItemType.WEREWOLF_CLAW };
+        for (int i = 0; i < count; i++) {
+            float x = rng.random(0f, GameWorld.MAP_SIZE);
+            float y = rng.random(0f, GameWorld.MAP_SIZE);
+            EntityFactory.createPickup(world.getEntities(), drops[i % drops.length].ordinal(), x, y);
+        }
+    }
+
+    /**
+     * Isi ulang projectile sampai --projectiles sedang terbang: titik acak ke titik acak,
+     * tipe & hit mask bergantian. RNG terpisah dari stream world.
+     */
+    private void refillProjectiles() {
+        ProjectileSystem projectiles = world.getProjectiles();
+        ProjectileType[] types = ProjectileType.values();
+        int[] masks = { ProjectileSystem.HIT_MONSTERS, ProjectileSystem.HIT_PLAYER | ProjectileSystem.HIT_MONSTERS };
+        long n = projectiles.getFiredCount();
+        while (projectiles.getActiveCount() < options.projectiles) {
+            float fromX = projectileRng.random(0f, GameWorld.MAP_SIZE);
+            float fromY = projectileRng.random(0f, GameWorld.MAP_SIZE);
+            float toX = projectileRng.random(0f, GameWorld.MAP_SIZE);
+            float toY = projectileRng.random(0f, GameWorld.MAP_SIZE);
+            projectiles.fire(types[(int) (n % types.length)], fromX, fromY, toX, toY, masks[(int) (n % masks.length)]);
+            n++;
+        }
+    }
+
+    private InputSource createInputSource() {
+        if (options.replayPath != null) {
+            try {
+                InputReplay replay = new InputReplay(Paths.get(options.replayPath));
+                replayHeader = replay.getHeader();
+                return replay;
+            } catch (IOException e) {
+                throw new GdxRuntimeException("Gagal membaca rekaman " + options.replayPath, e);
+            }
+        }
+        if (options.bot) return new BotInputSource(options.seed);
+
+        // Player diam, langsung restart saat mati
+        return new InputSource() {
+            @Override public void pollFrame() {}
+            @Override public int nextTick() { return RESTART; }
+        };
+    }
+
+    @Override
+    public void render() {
+        // exit() baru diproses setelah frame berikutnya
+        if (world == null || ticks >= totalTicks) return;
+
+        clock.advance(Gdx.graphics.getDeltaTime());
+        while (ticks < totalTicks && clock.consumeStep()) {
+            if (allocationCheck != null && allocationCheck.isMeasuring(ticks)) {
+                int changesBefore = worldChanges;
+                long start = allocationCheck.begin();
+                world.tick(clock.getStepSeconds());
+                allocationCheck.end(start, worldChanges != changesBefore);
+            } else {
+                world.tick(clock.getStepSeconds());
+            }
+            ticks++;
+            if (projectileRng != null) refillProjectiles();
+
+            if (ticks % REPORT_INTERVAL == 0) {
+                Gdx.app.log("Headless", ticks + " tick, " + world.getMonsters().size() + " monster, "
+                    + String.format("%.1f sim-s / s", clock.getSimSecondsPerWallSecond()));
+            }
+        }
+
+        persistence.update();
+        telemetry.update();
+
+        if (ticks >= totalTicks) {
+            world.getPlayer().getInputHandler().stopRecording();
+            report();
+            Gdx.app.exit();
+        }
+    }
+
+    private void report() {
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        double ticksPerSecond = ticks / seconds;
+        double simSeconds = clock.getSimulatedSeconds();
+        Gdx.app.log("Headless", String.format(
+            "%d tick dalam %.2f s -> %.0f tick/s, %.1f sim-s / s (%d tick/frame), restart: %d",
+            ticks, seconds, ticksPerSecond, simSeconds / seconds, clock.getTicksPerFrame(), restarts));
+        Gdx.app.log("Headless", "Seed " + world.getRandom().getSeed() + ", checksum " + Long.toHexString(checksum()));
+        Gdx.app.log("Headless", "AI LOD: " + world.getAiManager().getLodScheduler().report());
+        Gdx.app.log("Headless", "Job graph:\n" + world.getJobGraph().report());
+        Gdx.app.log("Headless", "ECS: " + world.getEntities().size() + " entity di "
+            + world.getEntities().getArchetypes().size() + " archetype");
+        Gdx.app.log("Headless", "Activation: " + world.getAwakeMonsters().size() + " awake, "
+            + world.getActivationManager().getSleepingCount() + " tidur, "
+            + world.getActivationManager().getWakeCount() + " kali bangun");
+        Gdx.app.log("Headless", "Crowd: " + (options.crowd ? world.getCrowd().getNeighborChecks() + " cek tetangga, "
+            + world.getCrowd().getPushedCount() + " dorongan" : "nonaktif"));
+        LineOfSight sight = world.getLineOfSight();
+        Gdx.app.log("Headless", "Line of sight: " + (options.sight ? sight.getQueryCount() + " query, "
+            + sight.getRaycastCount() + " raycast (sisanya dari cache)" : "nonaktif"));
+        Gdx.app.log("Headless", "Events: " + telemetry.report());
+        ProjectileSystem projectiles = world.getProjectiles();
+        Gdx.app.log("Headless", "Projectile: " + projectiles.getActiveCount() + " terbang, "
+            + projectiles.getFiredCount() + " ditembak, " + projectiles.getHitCount() + " kena, "
+            + projectiles.getDroppedCount() + " dibuang (penuh)");
+        Boss boss = world.getBoss();
+        if (boss != null) {
+            MeteorController meteors = boss.getMeteorController();
+            Gdx.app.log("Headless", "Meteor: " + meteors.getActiveCount() + " aktif, kapasitas " + meteors.getMaxMeteors());
+        }
+        reportPool();
+        if (allocationCheck != null) Gdx.app.log("Headless", "Alokasi per tick: " + allocationCheck.report());
+    }
+
+    private void reportPool() {
+        StringBuilder monsterPools = new StringBuilder("Pool monster (dipakai/total):");
+        StringBuilder population = new StringBuilder("Populasi SpawnManager:");
+        StringBuilder leaks = new StringBuilder();
+        for (MonsterFactory.Type type : MonsterFactory.Type.values()) {
+            if (type == MonsterFactory.Type.BOSS) continue;
+            MonsterPool monsterPool = MonsterFactory.getPool(type);
+            monsterPools.append(' ').append(type).append(' ').append(monsterPool.getInUseCount())
+                .append('/').append(monsterPool.getTotalCount());
+            int live = world.getSpawnManager().getLiveCount(type);
+            population.append(' ').append(type).append(' ').append(live);
+            // Setiap monster hidup berasal dari pool, jadi counter harus sama dengan jumlah yang dipakai
+            if (live != monsterPool.getInUseCount()) {
+                population.append(" (!= pool)");
+                if (monsterPool.isDebug()) leaks.append(monsterPool.reportLeaks()).append('\n');
+            }
+            if (monsterPool.getDoubleFreeCount() > 0) {
+                monsterPools.append(" (free ganda ").append(monsterPool.getDoubleFreeCount()).append(')');
+            }
+        }
+        Gdx.app.log("Headless", monsterPools.toString());
+        Gdx.app.log("Headless", population.toString());
+        if (leaks.length() > 0) Gdx.app.error("Headless", leaks.toString());
+    }
+
+    /** null jika --alloc-check tidak dipakai. */
+    AllocationCheck getAllocationCheck() {
+        return allocationCheck;
+    }
+
+    @Override
+    public void dispose() {
+        // Exit code != 0 supaya CI gagal jika tick steady-state menghasilkan garbage
+        if (allocationCheck != null && !allocationCheck.passed()) System.exit(1);
+    }
+
+    /**
+     * Hash state akhir (player + semua monster). Seed & argumen sama harus menghasilkan checksum sama.
+     */
+    private long checksum() {
+        long h = 1125899906842597L;
+        h = 31 * h + Float.floatToIntBits(world.getPlayer().position.x);
+        h = 31 * h + Float.floatToIntBits(world.getPlayer().position.y);
+        h = 31 * h + Float.floatToIntBits(world.getPlayer().stats.getCurrentHealth());
+        for (Monster m : world.getMonsters()) {
+            h = 31 * h + Float.floatToIntBits(m.position.x);
+            h = 31 * h + Float.floatToIntBits(m.position.y);
+            h = 31 * h + m.getState().ordinal();
+            h = 31 * h + m.getCurrentHealth();
+        }
+        return h;
+    }
+}
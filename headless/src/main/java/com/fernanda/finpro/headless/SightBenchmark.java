@@ -0,0 +1,96 @@
+package com.fernanda.finpro.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+import com.fernanda.finpro.enums.WorldType;
+import com.fernanda.finpro.singleton.GameAssetManager;
+import com.fernanda.finpro.world.CollisionGrid;
+import com.fernanda.finpro.world.GameRandom;
+import com.fernanda.finpro.world.GameWorld;
+import com.fernanda.finpro.world.LineOfSight;
+
+/**
+ * Benchmark LineOfSight (--bench-sight) di map forest: 100 sampai 5000 monster tersebar dalam radius deteksi
+ * di sekitar player, semuanya bertanya canSee() tiap update, player bergeser satu tile tiap 8 update.
+ * Dibandingkan dengan raycast langsung per monster tanpa cache. Dengan cache, jumlah raycast per update
+ * dibatasi jumlah tile di sekitar player, jadi tidak ikut naik bersama jumlah monster.
+ */
+public class SightBenchmark {
+    private static final int[] COUNTS = { 100, 500, 1000, 5000 };
+    private static final float RADIUS = 200f; // Sekitar DETECT_RANGE monster
+    private static final int UPDATES_PER_TILE = 8;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2000;
+
+    private final long seed;
+
+    public SightBenchmark(long seed) {
+        this.seed = seed;
+    }
+
+    public void run() {
+        CollisionGrid grid = GameAssetManager.getInstance().getCollisionGrid(WorldType.FOREST);
+        // Putaran pertama hanya pemanasan JIT
+        for (int count : COUNTS) {
+            runCase(grid, count, false);
+        }
+        Gdx.app.log("Bench", "Sight: monster | cache ns/update | raycast/update | tanpa cache ns/update");
+        for (int count : COUNTS) {
+            runCase(grid, count, true);
+        }
+    }
+
+    private void runCase(CollisionGrid grid, int count, boolean log) {
+        GameRandom rng = new GameRandom(seed ^ count);
+        float center = GameWorld.MAP_SIZE / 2;
+        float[] x = new float[count], y = new float[count];
+        for (int i = 0; i < count; i++) {
+            float angle = rng.random(0f, MathUtils.PI2);
+            float distance = rng.random(0f, RADIUS);
+            x[i] = center + MathUtils.cos(angle) * distance;
+            y[i] = center + MathUtils.sin(angle) * distance;
+        }
+
+        LineOfSight sight = new LineOfSight();
+        sight.setGrid(grid);
+        int visible = 0;
+        long cachedNanos = 0;
+        long raycasts = 0;
+        for (int i = -WARMUP; i < ITERATIONS; i++) {
+            sight.setTarget(targetX(center, i), center);
+            int misses = 0;
+            long start = System.nanoTime();
+            for (int m = 0; m < count; m++) {
+                int result = sight.query(x[m], y[m]);
+                if ((result & LineOfSight.VISIBLE) != 0) visible++;
+                if ((result & LineOfSight.RAYCAST) != 0) misses++;
+            }
+            if (i >= 0) {
+                cachedNanos += System.nanoTime() - start;
+                raycasts += misses;
+            }
+        }
+
+        long directNanos = 0;
+        for (int i = -WARMUP; i < ITERATIONS; i++) {
+            int targetTileX = (int) (targetX(center, i) / CollisionGrid.TILE_SIZE);
+            int targetTileY = (int) (center / CollisionGrid.TILE_SIZE);
+            long start = System.nanoTime();
+            for (int m = 0; m < count; m++) {
+                int tx = (int) (x[m] / CollisionGrid.TILE_SIZE), ty = (int) (y[m] / CollisionGrid.TILE_SIZE);
+                if (LineOfSight.isClear(grid, tx, ty, targetTileX, targetTileY)) visible++;
+            }
+            if (i >= 0) directNanos += System.nanoTime() - start;
+        }
+
+        if (log) Gdx.app.log("Bench", String.format("Sight: %5d | %9d | %6.1f | %9d   (%d terlihat)",
+            count, cachedNanos / ITERATIONS, raycasts / (double) ITERATIONS, directNanos / ITERATIONS, visible));
+    }
+
+    // Player bolak-balik 16 tile ke kanan, pindah tile tiap UPDATES_PER_TILE update
+    private static float targetX(float center, int iteration) {
+        int step = Math.floorMod(iteration / UPDATES_PER_TILE, 32);
+        int offset = step < 16 ? step : 32 - step;
+        return center + offset * CollisionGrid.TILE_SIZE + CollisionGrid.TILE_SIZE / 2f;
+    }
+}
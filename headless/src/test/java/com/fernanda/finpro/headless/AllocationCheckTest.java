@@ -0,0 +1,42 @@
+package com.fernanda.finpro.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Jaminan zero-allocation dicek di setiap build: game bot headless dengan --alloc-check,
+ * sama seperti headless:run, lalu semua tick steady-state harus nol byte.
+ */
+public class AllocationCheckTest {
+    private static final String[] ARGS = { "--bot", "--ticks", "60000", "--ticks-per-frame", "64", "--alloc-check", "40000" };
+
+    @Test
+    public void steadyStateTicksDoNotAllocate() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(1);
+        AllocationCheck[] result = new AllocationCheck[1];
+
+        // dispose() asli memanggil System.exit(1) saat gagal; di sini hasilnya diambil untuk assert
+        HeadlessSimulation simulation = new HeadlessSimulation(HeadlessOptions.parse(ARGS)) {
+            @Override
+            public void dispose() {
+                result[0] = getAllocationCheck();
+                finished.countDown();
+            }
+        };
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = 0;
+        new HeadlessApplication(simulation, config);
+
+        assertTrue("Simulasi tidak selesai dalam 5 menit", finished.await(5, TimeUnit.MINUTES));
+        assertNotNull(result[0]);
+        assertTrue("Tick steady-state menghasilkan garbage: " + result[0].report(), result[0].passed());
+    }
+}
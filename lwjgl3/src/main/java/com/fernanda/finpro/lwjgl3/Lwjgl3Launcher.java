@@ -8,11 +8,19 @@ import com.fernanda.finpro.Main;
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+        createApplication(args);
     }
 
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new Main(), getDefaultConfiguration());
+    private static Lwjgl3Application createApplication(String[] args) {
+        // --record <file>: rekam input sesi ini untuk diputar ulang di modul headless
+        // --time-scale <x>: mulai dalam mode fast-forward (bisa diganti dengan F6)
+        String recordPath = null;
+        float timeScale = 1f;
+        for (int i = 0; i < args.length - 1; i++) {
+            if ("--record".equals(args[i])) recordPath = args[i + 1];
+            if ("--time-scale".equals(args[i])) timeScale = Float.parseFloat(args[i + 1]);
+        }
+        return new Lwjgl3Application(new Main(recordPath, timeScale), getDefaultConfiguration());
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {